@@ -21,6 +21,8 @@
 
 package org.onap.ccsdk.oran.a1policymanagementservice;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 import org.apache.catalina.connector.Connector;
 import org.onap.ccsdk.oran.a1policymanagementservice.clients.A1ClientFactory;
 import org.onap.ccsdk.oran.a1policymanagementservice.clients.SecurityContext;
@@ -69,8 +71,8 @@ public class BeanFactory {
 
     @Bean
     public A1ClientFactory getA1ClientFactory(@Autowired ApplicationConfig applicationConfig,
-            @Autowired SecurityContext securityContext) {
-        return new A1ClientFactory(applicationConfig, securityContext);
+            @Autowired SecurityContext securityContext, @Autowired MeterRegistry meterRegistry) {
+        return new A1ClientFactory(applicationConfig, securityContext, meterRegistry);
     }
 
   @Bean
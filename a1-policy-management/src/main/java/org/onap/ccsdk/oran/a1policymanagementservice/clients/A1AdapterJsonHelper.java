@@ -25,22 +25,27 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.Strictness;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.lang.invoke.MethodHandles;
-import java.util.ArrayList;
-import java.util.List;
 
-import org.json.JSONArray;
-import org.json.JSONException;
-import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
 
 /**
- * Common json functionality used by the CCSDK A1 Adapter clients
+ * Common json functionality used by the A1 clients. The responses from the
+ * southbound are parsed with a streaming parser, so that no intermediate json
+ * trees are built for the parts of a response that are not used.
  */
 @SuppressWarnings("java:S1192") // Same text in several traces
 class A1AdapterJsonHelper {
@@ -52,21 +57,16 @@ class A1AdapterJsonHelper {
 
     private A1AdapterJsonHelper() {}
 
+    /**
+     * Parses a json array. The elements are emitted one by one as the array is
+     * parsed, scalar elements are emitted as their string value.
+     */
     public static Flux<String> parseJsonArrayOfString(String inputString) {
-        try {
-            List<String> arrayList = new ArrayList<>();
-            if (!inputString.isEmpty()) {
-                JSONArray jsonArray = new JSONArray(inputString);
-                for (int i = 0; i < jsonArray.length(); i++) {
-                    Object value = jsonArray.get(i);
-                    arrayList.add(value.toString());
-                }
-            }
-            return Flux.fromIterable(arrayList);
-        } catch (JSONException ex) { // invalid json
-            logger.debug("Invalid json {}", ex.getMessage());
-            return Flux.error(ex);
+        if (inputString.isEmpty()) {
+            return Flux.empty();
         }
+        return Flux.generate(() -> beginArray(inputString), A1AdapterJsonHelper::nextArrayElement,
+                A1AdapterJsonHelper::close);
     }
 
     public static <T> String createInputJsonString(T params) {
@@ -83,14 +83,102 @@ class A1AdapterJsonHelper {
         return gson.toJson(jsonObj);
     }
 
-    public static Mono<JSONObject> getOutput(String response) {
+    /**
+     * Gets the output of an A1 Adapter response, decoded directly into the given
+     * class.
+     */
+    public static <T> Mono<T> getOutput(String response, Class<T> clazz) {
+        try (JsonReader reader = new JsonReader(new StringReader(response))) {
+            moveToField(reader, OUTPUT);
+            T output = gson.fromJson(reader, clazz);
+            return Mono.just(output);
+        } catch (IOException | RuntimeException ex) { // invalid json
+            logger.debug("Invalid json {}", ex.getMessage());
+            return Mono.error(invalidJson(ex));
+        }
+    }
+
+    /**
+     * Gets a json object which is a field in the top level object of a json
+     * document. The rest of the document is skipped without being parsed into a
+     * tree.
+     */
+    public static JsonObject getObjectField(String json, String fieldName) {
+        try (JsonReader reader = new JsonReader(new StringReader(json))) {
+            moveToField(reader, fieldName);
+            if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                throw new JsonParseException("Field is not an object: " + fieldName);
+            }
+            return JsonParser.parseReader(reader).getAsJsonObject();
+        } catch (IOException | RuntimeException ex) {
+            throw invalidJson(ex);
+        }
+    }
+
+    private static void moveToField(JsonReader reader, String fieldName) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.nextName().equals(fieldName)) {
+                return;
+            }
+            reader.skipValue();
+        }
+        throw new JsonParseException("Field not found: " + fieldName);
+    }
+
+    private static JsonReader beginArray(String json) throws IOException {
+        JsonReader reader = new JsonReader(new StringReader(json));
+        // Unquoted strings are accepted in id listings, as done by earlier versions
+        reader.setStrictness(Strictness.LENIENT);
         try {
-            JSONObject outputJson = new JSONObject(response);
-            JSONObject responseParams = outputJson.getJSONObject(OUTPUT);
-            return Mono.just(responseParams);
-        } catch (JSONException ex) { // invalid json
+            reader.beginArray();
+            return reader;
+        } catch (IOException | RuntimeException ex) {
             logger.debug("Invalid json {}", ex.getMessage());
-            return Mono.error(ex);
+            reader.close();
+            throw invalidJson(ex);
         }
     }
+
+    private static JsonReader nextArrayElement(JsonReader reader, SynchronousSink<String> sink) {
+        try {
+            if (reader.hasNext()) {
+                sink.next(nextValueAsString(reader));
+            } else {
+                reader.endArray();
+                sink.complete();
+            }
+        } catch (IOException | RuntimeException ex) { // invalid json
+            logger.debug("Invalid json {}", ex.getMessage());
+            sink.error(invalidJson(ex));
+        }
+        return reader;
+    }
+
+    private static String nextValueAsString(JsonReader reader) throws IOException {
+        switch (reader.peek()) {
+            case STRING:
+            case NUMBER:
+                return reader.nextString();
+            case BOOLEAN:
+                return String.valueOf(reader.nextBoolean());
+            case NULL:
+                reader.nextNull();
+                return "null";
+            default:
+                return JsonParser.parseReader(reader).toString();
+        }
+    }
+
+    private static void close(JsonReader reader) {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            // Nothing to do, the reader is reading a string
+        }
+    }
+
+    private static JsonParseException invalidJson(Exception ex) {
+        return ex instanceof JsonParseException ? (JsonParseException) ex : new JsonParseException(ex.getMessage(), ex);
+    }
 }
@@ -24,6 +24,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
+import lombok.Getter;
+
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.RicConfig;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.Policy;
 
@@ -51,6 +53,44 @@ public interface A1Client {
         CUSTOM_PROTOCOL // Some other protocol handled by some custom A1 adapter class.
     }
 
+    /**
+     * The result of one policy in a bulk operation.
+     */
+    @Getter
+    public static class PolicyResult {
+        private final Policy policy;
+        private final String response;
+        private final Throwable error;
+
+        private PolicyResult(Policy policy, String response, Throwable error) {
+            this.policy = policy;
+            this.response = response;
+            this.error = error;
+        }
+
+        public boolean isOk() {
+            return error == null;
+        }
+
+        public static PolicyResult ok(Policy policy, String response) {
+            return new PolicyResult(policy, response, null);
+        }
+
+        public static PolicyResult error(Policy policy, Throwable error) {
+            return new PolicyResult(policy, null, error);
+        }
+
+        /**
+         * @return the result of a request for one policy, never an error
+         */
+        public static Mono<PolicyResult> of(Policy policy, Mono<String> request) {
+            return request //
+                    .defaultIfEmpty("") //
+                    .map(response -> ok(policy, response)) //
+                    .onErrorResume(t -> Mono.just(error(policy, t)));
+        }
+    }
+
     public Mono<A1ProtocolType> getProtocolVersion();
 
     public Mono<List<String>> getPolicyTypeIdentities();
@@ -71,4 +111,37 @@ public interface A1Client {
 
     public Mono<String> getPolicyStatus(Policy policy);
 
+    /**
+     * @return the number of requests that is sent in parallel by the bulk
+     *         operations
+     */
+    default int getMaxConcurrency() {
+        return 1;
+    }
+
+    /**
+     * Creates or updates a number of policies. The default implementation sends
+     * one request per policy, at most {@link #getMaxConcurrency()} in parallel.
+     * An adapter may override this with a batch operation of its southbound API.
+     *
+     * @param policies the policies to create or update
+     * @return one result per policy, in the order they are completed
+     */
+    default Flux<PolicyResult> putPolicies(Flux<Policy> policies) {
+        return policies.flatMap(policy -> PolicyResult.of(policy, putPolicy(policy)), Math.max(1, getMaxConcurrency()));
+    }
+
+    /**
+     * Deletes a number of policies. The default implementation sends one request
+     * per policy, at most {@link #getMaxConcurrency()} in parallel. An adapter may
+     * override this with a batch operation of its southbound API.
+     *
+     * @param policies the policies to delete
+     * @return one result per policy, in the order they are completed
+     */
+    default Flux<PolicyResult> deletePolicies(Flux<Policy> policies) {
+        return policies.flatMap(policy -> PolicyResult.of(policy, deletePolicy(policy)),
+                Math.max(1, getMaxConcurrency()));
+    }
+
 }
@@ -21,30 +21,110 @@
 
 package org.onap.ccsdk.oran.a1policymanagementservice.clients;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 import org.onap.ccsdk.oran.a1policymanagementservice.clients.A1Client.A1ProtocolType;
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.ApplicationConfig;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.CircuitBreakerConfig;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.RetryConfig;
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.RicConfig;
 import org.onap.ccsdk.oran.a1policymanagementservice.exceptions.ServiceException;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.Ric;
+import org.onap.ccsdk.oran.a1policymanagementservice.repository.Ric.RicState;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 /**
  * Factory for A1 clients that supports four different protocol versions of the
  * A1 api.
+ *
+ * <p>
+ * The created clients are cached per Near-RT RIC, so that the same client (and
+ * its connections) is reused for all requests to the RIC. A cached client is
+ * reused as long as the configuration and the protocol version of the RIC are
+ * unchanged.
+ *
+ * <p>
+ * The detected protocol version of each RIC is persisted, so that after a
+ * restart only the stored version has to be verified.
+ *
+ * <p>
+ * All requests to a RIC, from all its clients, go through an adaptive
+ * concurrency limiter, which queues the requests by priority, and a circuit
+ * breaker for the RIC. When the circuit
+ * breaker is opened, the RIC is set to UNAVAILABLE so that it is synchronized
+ * when it is responding again. Failed idempotent requests are retried, within
+ * a retry budget for the RIC. Concurrent identical GET requests to a RIC are
+ * coalesced into one request. Each request is timed out, based on the response
+ * times of the RIC and on the deadline of the northbound request it is made for.
+ * The A1 operations towards each RIC are measured.
  */
 public class A1ClientFactory {
 
     private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
+    // The protocol versions that are probed for, in parallel, in order of priority
+    private static final List<A1ProtocolType> PROBED_VERSIONS = List.of(A1ProtocolType.STD_V2_0_0,
+            A1ProtocolType.STD_V1_1, A1ProtocolType.OSC_V1, A1ProtocolType.CCSDK_A1_ADAPTER_STD_V1_1);
+
     private final AsyncRestClientFactory restClientFactory;
+    private final ProtocolVersionStore protocolVersionStore;
+    private final Map<String, CachedClient> clients = new ConcurrentHashMap<>();
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+    private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    private final Map<String, RequestCoalescer> requestCoalescers = new ConcurrentHashMap<>();
+    private final Map<String, RequestRetrier> requestRetriers = new ConcurrentHashMap<>();
+    private final Map<String, AdaptiveTimeout> timeouts = new ConcurrentHashMap<>();
+    private final Map<String, A1ClientMetrics> clientMetrics = new ConcurrentHashMap<>();
+    private final List<Consumer<String>> southboundErrorListeners = new CopyOnWriteArrayList<>();
+    private final ApplicationConfig appConfig;
+    private final CircuitBreakerConfig circuitBreakerConfig;
+    private final RetryConfig retryConfig;
+    private final MeterRegistry meterRegistry;
 
-    public A1ClientFactory(ApplicationConfig appConfig, SecurityContext securityContext) {
-        this.restClientFactory = new AsyncRestClientFactory(appConfig.getWebClientConfig(), securityContext);
+    private static class CachedClient {
+        final RicConfig config;
+        final A1ProtocolType version;
+        final A1Client client;
+
+        CachedClient(RicConfig config, A1ProtocolType version, A1Client client) {
+            this.config = config;
+            this.version = version;
+            this.client = client;
+        }
+
+        boolean isValidFor(Ric ric, A1ProtocolType version) {
+            return this.version == version && this.config.equals(ric.getConfig());
+        }
+    }
+
+    public A1ClientFactory(ApplicationConfig appConfig, SecurityContext securityContext, MeterRegistry meterRegistry) {
+        this(appConfig, securityContext, meterRegistry, new ProtocolVersionStore(appConfig, meterRegistry));
+    }
+
+    A1ClientFactory(ApplicationConfig appConfig, SecurityContext securityContext, MeterRegistry meterRegistry,
+            ProtocolVersionStore protocolVersionStore) {
+        this.restClientFactory =
+                new AsyncRestClientFactory(appConfig.getWebClientConfig(), securityContext, meterRegistry);
+        this.meterRegistry = meterRegistry;
+        this.protocolVersionStore = protocolVersionStore;
+        this.appConfig = appConfig;
+        CircuitBreakerConfig breakerConfig = appConfig.getCircuitBreakerConfig();
+        this.circuitBreakerConfig = breakerConfig != null ? breakerConfig : CircuitBreakerConfig.builder().build();
+        RetryConfig defaultRetryConfig = appConfig.getRetryConfig();
+        this.retryConfig = defaultRetryConfig != null ? defaultRetryConfig : RetryConfig.builder().build();
     }
 
     /**
@@ -52,7 +132,11 @@ public class A1ClientFactory {
      *
      * <p>
      * It detects the protocol version by trial and error, since there is no
-     * getVersion method specified in the A1 api yet.
+     * getVersion method specified in the A1 api yet. All protocol versions are
+     * tried in parallel and the one with the highest priority that succeeds is
+     * used. If a protocol
+     * version is stored for the Ric since before, only that version is tried
+     * first.
      *
      * <p>
      * As a side effect it also sets the protocol version in the provided Ric. This
@@ -61,36 +145,204 @@ public class A1ClientFactory {
      *
      * @param ric The Near-RT RIC to get a client for.
      * @return a client with the correct protocol, or a ServiceException if none of
-     *         the protocols are supported by the Near-RT RIC.
+     *         the protocols are supported by the Near-RT RIC or if the circuit
+     *         breaker of the Near-RT RIC is open.
      */
     public Mono<A1Client> createA1Client(Ric ric) {
+        CircuitBreaker circuitBreaker = this.circuitBreakers.get(ric.id());
+        if (circuitBreaker != null && circuitBreaker.isRejecting()) {
+            return Mono.error(new ServiceException("Near-RT RIC: " + ric.id() + " is not responding",
+                    HttpStatus.SERVICE_UNAVAILABLE));
+        }
         return getProtocolVersion(ric) //
-                .flatMap(version -> createA1ClientMono(ric, version));
+                .flatMap(version -> getCachedA1Client(ric, version));
+    }
+
+    /**
+     * Removes the cached client, the REST clients that are no longer used and the
+     * stored protocol version for a Near-RT RIC. Should be invoked when the configuration of the RIC is changed or
+     * removed.
+     *
+     * @param ricId the identity of the Near-RT RIC
+     */
+    public void invalidate(String ricId) {
+        this.protocolVersionStore.remove(ricId);
+        this.restClientFactory.release(ricId);
+        if (this.clients.remove(ricId) != null) {
+            logger.debug("Removed cached A1 client for Near-RT RIC: {}", ricId);
+        }
+        AdaptiveConcurrencyLimiter limiter = this.limiters.remove(ricId);
+        if (limiter != null) {
+            limiter.close();
+        }
+        CircuitBreaker circuitBreaker = this.circuitBreakers.remove(ricId);
+        if (circuitBreaker != null) {
+            circuitBreaker.close();
+        }
+        RequestCoalescer requestCoalescer = this.requestCoalescers.remove(ricId);
+        if (requestCoalescer != null) {
+            requestCoalescer.close();
+        }
+        RequestRetrier requestRetrier = this.requestRetriers.remove(ricId);
+        if (requestRetrier != null) {
+            requestRetrier.close();
+        }
+        AdaptiveTimeout timeout = this.timeouts.remove(ricId);
+        if (timeout != null) {
+            timeout.close();
+        }
+        A1ClientMetrics metrics = this.clientMetrics.remove(ricId);
+        if (metrics != null) {
+            metrics.close();
+        }
+    }
+
+    /**
+     * Adds a listener that is notified with the identity of a Near-RT RIC when an
+     * A1 operation made for a northbound request towards the RIC fails, and the
+     * failure is not a rejection of the request by the RIC.
+     *
+     * @param listener the listener
+     */
+    public void addSouthboundErrorListener(Consumer<String> listener) {
+        this.southboundErrorListeners.add(listener);
+    }
+
+    /**
+     * @return the number of requests that is meaningful to issue in parallel to
+     *         one Near-RT RIC. The actual number of concurrent requests is limited
+     *         by the concurrency limiter of the RIC.
+     */
+    public int getMaxConcurrency() {
+        return Math.max(1, appConfig.getA1ConcurrencyMaxLimit());
+    }
+
+    AdaptiveConcurrencyLimiter getConcurrencyLimiter(String ricId) {
+        return this.limiters.computeIfAbsent(ricId,
+                id -> new AdaptiveConcurrencyLimiter(id, appConfig.getA1ConcurrencyInitialLimit(),
+                        appConfig.getA1ConcurrencyMinLimit(), appConfig.getA1ConcurrencyMaxLimit(),
+                        appConfig.getA1RateLimitRequestsPerSecond(), appConfig.getA1RateLimitBurst(),
+                        meterRegistry));
+    }
+
+    CircuitBreaker getCircuitBreaker(Ric ric) {
+        return this.circuitBreakers.computeIfAbsent(ric.id(), id -> new CircuitBreaker(id, circuitBreakerConfig,
+                meterRegistry, state -> onCircuitBreakerStateChanged(ric, state)));
+    }
+
+    RequestCoalescer getRequestCoalescer(String ricId) {
+        return this.requestCoalescers.computeIfAbsent(ricId, id -> new RequestCoalescer(id, meterRegistry));
+    }
+
+    RequestRetrier getRequestRetrier(Ric ric) {
+        return this.requestRetriers.computeIfAbsent(ric.id(),
+                id -> new RequestRetrier(id, getRetryConfig(ric), meterRegistry));
+    }
+
+    AdaptiveTimeout getTimeout(String ricId) {
+        return this.timeouts.computeIfAbsent(ricId,
+                id -> new AdaptiveTimeout(id, appConfig.isA1TimeoutAdaptiveEnabled(),
+                        Duration.ofMillis(appConfig.getA1TimeoutMinMillis()),
+                        Duration.ofMillis(appConfig.getA1TimeoutMaxMillis()), appConfig.getA1TimeoutPercentile(),
+                        appConfig.getA1TimeoutMultiplier(), meterRegistry));
+    }
+
+    A1ClientMetrics getClientMetrics(String ricId) {
+        return this.clientMetrics.computeIfAbsent(ricId,
+                id -> new A1ClientMetrics(id, meterRegistry, this::onSouthboundError));
+    }
+
+    /**
+     * @return the retry configuration of the RIC, if it has any, otherwise the
+     *         default one
+     */
+    RetryConfig getRetryConfig(Ric ric) {
+        RetryConfig ricRetryConfig = ric.getConfig().getRetryConfig();
+        return ricRetryConfig != null ? ricRetryConfig : this.retryConfig;
+    }
+
+    private void onSouthboundError(String ricId) {
+        for (Consumer<String> listener : this.southboundErrorListeners) {
+            listener.accept(ricId);
+        }
+    }
+
+    private void onCircuitBreakerStateChanged(Ric ric, CircuitBreaker.State state) {
+        if (state == CircuitBreaker.State.OPEN) {
+            logger.warn("Near-RT RIC: {} is not responding, requests are rejected", ric.id());
+            if (ric.getState() == RicState.AVAILABLE) {
+                ric.setState(RicState.UNAVAILABLE);
+            }
+        } else if (state == CircuitBreaker.State.CLOSED) {
+            logger.info("Near-RT RIC: {} is responding again", ric.id());
+        }
+    }
+
+    private Mono<A1Client> getCachedA1Client(Ric ric, A1ProtocolType version) {
+        CachedClient cached = this.clients.get(ric.id());
+        if (cached != null && cached.isValidFor(ric, version)) {
+            return Mono.just(cached.client);
+        }
+        return createA1ClientMono(ric, version) //
+                .doOnNext(client -> this.clients.put(ric.id(), new CachedClient(ric.getConfig(), version, client)));
     }
 
     A1Client createClient(Ric ric, A1ProtocolType version) throws ServiceException {
+        // Innermost, each attempt of a request is timed out separately
+        AsyncRestClientFactory factory = restClientFactory.withRequestFilter(getTimeout(ric.id()));
+        if (circuitBreakerConfig.isEnabled()) {
+            factory = factory.withRequestFilter(getCircuitBreaker(ric));
+        }
+        // The limiter is applied outside the breaker, so that the time waiting for a
+        // permit is not seen by the breaker
+        factory = factory.withRequestFilter(getConcurrencyLimiter(ric.id()));
+        if (getRetryConfig(ric).isEnabled()) {
+            // Each attempt takes a permit and is seen by the breaker, a retry is not
+            // done when the breaker rejects the request
+            factory = factory.withRequestFilter(getRequestRetrier(ric));
+        }
+        if (appConfig.isA1RequestCoalescingEnabled()) {
+            // Outermost, a coalesced request does not use any permit
+            factory = factory.withRequestFilter(getRequestCoalescer(ric.id()));
+        }
+        return createClient(ric, version, factory);
+    }
+
+    /**
+     * Creates a client for probing the protocol version. The probing is not
+     * subject to the concurrency limit nor the circuit breaker of the RIC.
+     */
+    A1Client createProbeClient(Ric ric, A1ProtocolType version) throws ServiceException {
+        return createClient(ric, version, restClientFactory);
+    }
+
+    private A1Client createClient(Ric ric, A1ProtocolType version, AsyncRestClientFactory factory)
+            throws ServiceException {
+        // The REST clients used for the RIC are released when it is invalidated
+        AsyncRestClientFactory restClientFactory = factory.withUser(ric.id());
         if (version == A1ProtocolType.STD_V1_1) {
             assertNoControllerConfig(ric, version);
-            return new StdA1ClientVersion1(ric.getConfig(), this.restClientFactory);
+            return new StdA1ClientVersion1(ric.getConfig(), restClientFactory);
         } else if (version == A1ProtocolType.STD_V2_0_0) {
             assertNoControllerConfig(ric, version);
-            return new StdA1ClientVersion2(ric.getConfig(), this.restClientFactory);
+            return new StdA1ClientVersion2(ric.getConfig(), restClientFactory);
         } else if (version == A1ProtocolType.OSC_V1) {
             assertNoControllerConfig(ric, version);
-            return new OscA1Client(ric.getConfig(), this.restClientFactory);
+            return new OscA1Client(ric.getConfig(), restClientFactory);
         } else if (version == A1ProtocolType.CCSDK_A1_ADAPTER_STD_V1_1
                 || version == A1ProtocolType.CCSDK_A1_ADAPTER_OSC_V1
                 || version == A1ProtocolType.CCSDK_A1_ADAPTER_STD_V2_0_0) {
-            return new CcsdkA1AdapterClient(version, ric.getConfig(), this.restClientFactory);
+            return new CcsdkA1AdapterClient(version, ric.getConfig(), restClientFactory);
         } else if (version == A1ProtocolType.CUSTOM_PROTOCOL) {
-            return createCustomAdapter(ric);
+            return createCustomAdapter(ric, restClientFactory);
         } else {
             logger.error("Unhandled protocol: {}", version);
             throw new ServiceException("Unhandled protocol");
         }
     }
 
-    private A1Client createCustomAdapter(Ric ric) throws ServiceException {
+    private A1Client createCustomAdapter(Ric ric, AsyncRestClientFactory restClientFactory)
+            throws ServiceException {
         try {
             if (ric.getConfig().getCustomAdapterClass() != null && !ric.getConfig().getCustomAdapterClass().isEmpty()) {
                 Class<?> clazz = Class.forName(ric.getConfig().getCustomAdapterClass());
@@ -98,12 +350,12 @@ public class A1ClientFactory {
                     Constructor<?> constructor = clazz.getConstructor(RicConfig.class, AsyncRestClientFactory.class);
                     logger.debug("A1Client \"{}\" being created for ric: {}",
                             clazz.getTypeName(), ric.getConfig().getRicId());
-                    return (A1Client) constructor.newInstance(ric.getConfig(), this.restClientFactory);
+                    return (A1Client) constructor.newInstance(ric.getConfig(), restClientFactory);
                 } else if (A1Client.Factory.class.isAssignableFrom(clazz)) {
                     A1Client.Factory factory = (A1Client.Factory) clazz.getDeclaredConstructor().newInstance();
                     logger.debug("A1Client \"{}\" factory creating client for ric: {}",
                             clazz.getTypeName(), ric.getConfig().getRicId());
-                    return factory.create(ric.getConfig(), this.restClientFactory);
+                    return factory.create(ric.getConfig(), restClientFactory);
                 } else {
                     throw new ServiceException("The custom class must either implement A1Client.Factory or A1Client");
                 }
@@ -132,7 +384,7 @@ public class A1ClientFactory {
 
     private Mono<A1Client> createA1ClientMono(Ric ric, A1ProtocolType version) {
         try {
-            return Mono.just(createClient(ric, version));
+            return Mono.just(getClientMetrics(ric.id()).instrument(createClient(ric, version), version));
         } catch (ServiceException e) {
             return Mono.error(e);
         }
@@ -140,10 +392,10 @@ public class A1ClientFactory {
 
     private Mono<A1Client.A1ProtocolType> getProtocolVersion(Ric ric) {
         if (ric.getProtocolVersion() == A1ProtocolType.UNKNOWN) {
-            return fetchVersion(ric, A1ProtocolType.STD_V2_0_0) //
-                    .onErrorResume(notUsed -> fetchVersion(ric, A1ProtocolType.STD_V1_1)) //
-                    .onErrorResume(notUsed -> fetchVersion(ric, A1ProtocolType.OSC_V1)) //
-                    .onErrorResume(notUsed -> fetchVersion(ric, A1ProtocolType.CCSDK_A1_ADAPTER_STD_V1_1)) //
+            return protocolVersionStore.get(ric.id()) //
+                    .flatMap(storedVersion -> fetchVersion(ric, storedVersion)) //
+                    .onErrorResume(notUsed -> Mono.empty()) //
+                    .switchIfEmpty(Mono.defer(() -> probeVersion(ric))) //
                     .doOnNext(ric::setProtocolVersion)
                     .doOnNext(version -> logger.debug("Established protocol version:{} for Near-RT RIC: {}", version,
                             ric.id())) //
@@ -153,8 +405,24 @@ public class A1ClientFactory {
         }
     }
 
+    private Mono<A1ProtocolType> probeVersion(Ric ric) {
+        List<Mono<A1ProtocolType>> probes = PROBED_VERSIONS.stream() //
+                .map(version -> Mono.defer(() -> fetchVersion(ric, version)).onErrorResume(t -> Mono.empty())) //
+                .toList();
+        // The probes run concurrently, but the results are emitted in probe order
+        return Flux.mergeSequential(probes) //
+                .next() //
+                .switchIfEmpty(Mono.error(
+                        () -> new ServiceException("No supported A1 protocol version found, ric: " + ric.id()))) //
+                .doOnNext(version -> protocolVersionStore.put(ric.id(), version));
+    }
+
     private Mono<A1ProtocolType> fetchVersion(Ric ric, A1ProtocolType protocolType) {
-        return createA1ClientMono(ric, protocolType) //
-                .flatMap(A1Client::getProtocolVersion);
+        try {
+            return getClientMetrics(ric.id()).instrument(createProbeClient(ric, protocolType), protocolType)
+                    .getProtocolVersion();
+        } catch (ServiceException e) {
+            return Mono.error(e);
+        }
     }
 }
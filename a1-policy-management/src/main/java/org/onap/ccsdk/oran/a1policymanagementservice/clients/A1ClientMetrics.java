@@ -0,0 +1,176 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.A1Client.A1ProtocolType;
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.RequestDeadline.DeadlineExceededException;
+import org.onap.ccsdk.oran.a1policymanagementservice.exceptions.ServiceException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * Measures the A1 operations towards one Near-RT RIC. The duration of each
+ * operation is recorded in a timer with a percentile histogram, tagged with the
+ * RIC, the A1 protocol, the operation and its outcome. The number of operations
+ * in progress towards the RIC is given by a gauge.
+ *
+ * <p>
+ * A listener is notified of the operations made for northbound requests that
+ * fail because of the RIC, so that the RIC can be checked sooner.
+ */
+class A1ClientMetrics {
+
+    public static final String OPERATION_TIMER = "ric_a1_operation";
+    public static final String INFLIGHT_GAUGE = "ric_a1_operations_inflight";
+
+    static final String SUCCESS = "SUCCESS";
+    static final String CLIENT_ERROR = "CLIENT_ERROR";
+    static final String SERVER_ERROR = "SERVER_ERROR";
+    static final String TIMEOUT = "TIMEOUT";
+    static final String ERROR = "ERROR";
+    static final String CANCELLED = "CANCELLED";
+    static final String UNKNOWN_OPERATION = "unknown";
+
+    private static final String OPERATION_CONTEXT_KEY = A1ClientMetrics.class.getName() + ".operation";
+
+    private final String ricId;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Gauge inflightGauge;
+    private final Consumer<String> errorListener;
+
+    A1ClientMetrics(String ricId, MeterRegistry meterRegistry) {
+        this(ricId, meterRegistry, id -> {});
+    }
+
+    /**
+     * @param errorListener notified with the RIC identity when an operation made
+     *        for a northbound request fails, and the failure is neither a
+     *        rejection of the request by the RIC nor a passed deadline
+     */
+    A1ClientMetrics(String ricId, MeterRegistry meterRegistry, Consumer<String> errorListener) {
+        this.ricId = ricId;
+        this.meterRegistry = meterRegistry;
+        this.errorListener = errorListener;
+        this.inflightGauge = Gauge.builder(INFLIGHT_GAUGE, inflight, AtomicInteger::get) //
+                .description("The number of A1 operations in progress towards a Near-RT RIC") //
+                .tag("ric_id", ricId) //
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return a client that measures the operations of the given client
+     */
+    A1Client instrument(A1Client client, A1ProtocolType protocol) {
+        return new InstrumentedA1Client(client, protocol, this);
+    }
+
+    <T> Mono<T> record(String operation, A1ProtocolType protocol, Mono<T> request) {
+        return Mono.deferContextual(context -> {
+            long startTime = onStart();
+            return request //
+                    .doOnSuccess(x -> onEnd(startTime, operation, protocol, SUCCESS)) //
+                    .doOnError(t -> onError(startTime, operation, protocol, t, context)) //
+                    .doOnCancel(() -> onEnd(startTime, operation, protocol, CANCELLED));
+        }).contextWrite(Context.of(OPERATION_CONTEXT_KEY, operation));
+    }
+
+    <T> Flux<T> record(String operation, A1ProtocolType protocol, Flux<T> request) {
+        return Flux.deferContextual(context -> {
+            long startTime = onStart();
+            return request //
+                    .doOnComplete(() -> onEnd(startTime, operation, protocol, SUCCESS)) //
+                    .doOnError(t -> onError(startTime, operation, protocol, t, context)) //
+                    .doOnCancel(() -> onEnd(startTime, operation, protocol, CANCELLED));
+        }).contextWrite(Context.of(OPERATION_CONTEXT_KEY, operation));
+    }
+
+    /**
+     * @return the A1 operation that the requests in the given context are made for,
+     *         as recorded by this class
+     */
+    static String getOperation(ContextView context) {
+        return context.getOrDefault(OPERATION_CONTEXT_KEY, UNKNOWN_OPERATION);
+    }
+
+    /**
+     * Removes the meters of the RIC.
+     */
+    void close() {
+        meterRegistry.find(OPERATION_TIMER).tag("ric_id", ricId).meters().forEach(meterRegistry::remove);
+        meterRegistry.remove(inflightGauge);
+    }
+
+    private long onStart() {
+        inflight.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    private void onError(long startTime, String operation, A1ProtocolType protocol, Throwable t,
+            ContextView context) {
+        String outcome = outcome(t);
+        onEnd(startTime, operation, protocol, outcome);
+        // A passed deadline is the caller giving up, this says nothing about the RIC
+        if (!CLIENT_ERROR.equals(outcome) && !(t instanceof DeadlineExceededException)
+                && RequestPriority.of(context) == RequestPriority.INTERACTIVE) {
+            errorListener.accept(ricId);
+        }
+    }
+
+    private void onEnd(long startTime, String operation, A1ProtocolType protocol, String outcome) {
+        inflight.decrementAndGet();
+        Timer.builder(OPERATION_TIMER) //
+                .description("The duration of the A1 operations towards a Near-RT RIC") //
+                .tag("ric_id", ricId) //
+                .tag("protocol", protocol.name()) //
+                .tag("operation", operation) //
+                .tag("outcome", outcome) //
+                .publishPercentileHistogram() //
+                .register(meterRegistry) //
+                .record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+    }
+
+    private static String outcome(Throwable t) {
+        if (t instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is4xxClientError() ? CLIENT_ERROR : SERVER_ERROR;
+        }
+        if (t instanceof TimeoutException || t instanceof DeadlineExceededException) {
+            return TIMEOUT;
+        }
+        if (t instanceof ServiceException serviceException && serviceException.getHttpStatus() != null) {
+            return serviceException.getHttpStatus().is4xxClientError() ? CLIENT_ERROR : SERVER_ERROR;
+        }
+        return ERROR;
+    }
+}
@@ -0,0 +1,336 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Limits the number of concurrent requests to one Near-RT RIC. The limit is
+ * adapted to the observed behavior of the RIC (AIMD):
+ * <ul>
+ * <li>when a response is received within a tolerated latency, the limit is
+ * increased by one per limit number of responses</li>
+ * <li>when a request fails, times out or the latency is above the tolerated
+ * latency, the limit is decreased by a factor. It is decreased at most once per
+ * window: a request that was sent before the latest decrease does not decrease
+ * it again, so that a burst of requests failing together decreases it once.</li>
+ * </ul>
+ * The tolerated latency is a multiple of the lowest latency seen in the latest
+ * responses, so that it can follow a RIC that becomes slower.
+ *
+ * <p>
+ * The rate of requests to the RIC can also be limited (token bucket).
+ *
+ * <p>
+ * Requests exceeding the limits are queued. The queued requests are sent in
+ * weighted fair order of their {@link RequestPriority}, so that requests made
+ * for northbound requests are not starved by background work towards the RIC.
+ */
+@SuppressWarnings("squid:S2629") // Invoke method(s) only conditionally
+public class AdaptiveConcurrencyLimiter implements AsyncRestClient.RequestFilter {
+    private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    public static final String LIMIT_GAUGE = "ric_concurrency_limit";
+    public static final String INFLIGHT_GAUGE = "ric_inflight_requests";
+    public static final String QUEUED_GAUGE = "ric_queued_requests";
+
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final double LATENCY_TOLERANCE = 2.0;
+    // The lowest latency is taken over this number of responses, and the previous
+    // such window
+    private static final int BASELINE_WINDOW_SIZE = 100;
+
+    private final String ricId;
+    private final int minLimit;
+    private final int maxLimit;
+    private final MeterRegistry meterRegistry;
+    private final List<Meter> meters;
+    private final WeightedFairQueue<Permit> waiting = new WeightedFairQueue<>();
+    private final double requestsPerSecond;
+    private final double burst;
+
+    private double limit;
+    private int inFlight = 0;
+    private double windowMinLatencyNanos = Double.POSITIVE_INFINITY;
+    private double previousWindowMinLatencyNanos = Double.POSITIVE_INFINITY;
+    private int windowResponses = 0;
+    private long decreaseWindow = 0; // Incremented at each decrease
+    private double tokens;
+    private long tokensUpdated = System.nanoTime();
+    private boolean isRefillScheduled = false;
+
+    private class Permit {
+        final MonoSink<Permit> sink;
+        final AtomicBoolean released = new AtomicBoolean(false);
+        long startTime;
+        long decreaseWindow;
+
+        Permit(MonoSink<Permit> sink) {
+            this.sink = sink;
+        }
+
+        void grant() {
+            startTime = System.nanoTime();
+            sink.success(this);
+        }
+
+        Mono<Void> release() {
+            return Mono.fromRunnable(() -> {
+                if (released.compareAndSet(false, true)) {
+                    synchronized (AdaptiveConcurrencyLimiter.this) {
+                        inFlight--;
+                    }
+                    grantWaiting();
+                }
+            });
+        }
+    }
+
+    public AdaptiveConcurrencyLimiter(String ricId, int initialLimit, int minLimit, int maxLimit,
+            MeterRegistry meterRegistry) {
+        this(ricId, initialLimit, minLimit, maxLimit, 0, 0, meterRegistry);
+    }
+
+    /**
+     * @param requestsPerSecond the max rate of requests to the RIC, 0 means that
+     *        the rate is not limited
+     * @param burst the max number of requests that can be sent at once when the
+     *        rate is limited
+     */
+    public AdaptiveConcurrencyLimiter(String ricId, int initialLimit, int minLimit, int maxLimit,
+            double requestsPerSecond, int burst, MeterRegistry meterRegistry) {
+        this.ricId = ricId;
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+        this.requestsPerSecond = Math.max(0, requestsPerSecond);
+        this.burst = Math.max(1, burst);
+        this.tokens = this.burst;
+        this.meterRegistry = meterRegistry;
+        List<Meter> allMeters = new ArrayList<>();
+        allMeters.add(Gauge.builder(LIMIT_GAUGE, this, AdaptiveConcurrencyLimiter::getLimit) //
+                .description("The current limit of concurrent requests to a Near-RT RIC") //
+                .tag("ric_id", ricId) //
+                .register(meterRegistry));
+        allMeters.add(Gauge.builder(INFLIGHT_GAUGE, this, AdaptiveConcurrencyLimiter::getInFlight) //
+                .description("The number of ongoing requests to a Near-RT RIC") //
+                .tag("ric_id", ricId) //
+                .register(meterRegistry));
+        for (RequestPriority priority : RequestPriority.values()) {
+            allMeters.add(Gauge.builder(QUEUED_GAUGE, this, limiter -> limiter.getQueued(priority)) //
+                    .description("The number of requests to a Near-RT RIC waiting to be sent") //
+                    .tag("ric_id", ricId) //
+                    .tag("priority", priority.name()) //
+                    .register(meterRegistry));
+        }
+        this.meters = List.copyOf(allMeters);
+    }
+
+    @Override
+    public Mono<ResponseEntity<String>> filter(HttpMethod method, String uri,
+            Mono<ResponseEntity<String>> exchange) {
+        return Mono.deferContextual(context -> Mono.usingWhen(acquire(RequestPriority.of(context)), //
+                permit -> exchange //
+                        .doOnSuccess(resp -> onResponse(permit)) //
+                        .doOnError(t -> onError(permit, t)), //
+                Permit::release, //
+                (permit, t) -> permit.release(), //
+                Permit::release));
+    }
+
+    @Override
+    public int getMaxConcurrency() {
+        return maxLimit;
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized int getQueued(RequestPriority priority) {
+        return waiting.size(priority);
+    }
+
+    /**
+     * Removes the meters of this limiter.
+     */
+    public void close() {
+        meters.forEach(meterRegistry::remove);
+    }
+
+    /**
+     * Acquires a permit, waits if a limit is reached.
+     */
+    private Mono<Permit> acquire(RequestPriority priority) {
+        return Mono.create(sink -> {
+            Permit permit = new Permit(sink);
+            boolean granted;
+            synchronized (this) {
+                // Queued requests go first
+                granted = waiting.isEmpty() && inFlight < getLimit() && takeToken();
+                if (granted) {
+                    inFlight++;
+                    permit.decreaseWindow = decreaseWindow;
+                } else {
+                    waiting.add(priority, permit);
+                    scheduleRefill();
+                }
+            }
+            if (granted) {
+                permit.grant();
+            } else {
+                sink.onCancel(() -> cancelWaiting(permit));
+            }
+        });
+    }
+
+    private void cancelWaiting(Permit permit) {
+        boolean wasWaiting;
+        synchronized (this) {
+            wasWaiting = waiting.remove(permit);
+        }
+        if (!wasWaiting) {
+            // Granted at the same time as cancelled
+            permit.release().subscribe();
+        }
+    }
+
+    private void grantWaiting() {
+        while (true) {
+            Permit next;
+            synchronized (this) {
+                if (inFlight >= getLimit() || waiting.isEmpty()) {
+                    return;
+                }
+                if (!takeToken()) {
+                    scheduleRefill();
+                    return;
+                }
+                next = waiting.poll();
+                inFlight++;
+                next.decreaseWindow = decreaseWindow;
+            }
+            next.grant();
+        }
+    }
+
+    private boolean takeToken() {
+        if (requestsPerSecond <= 0) {
+            return true;
+        }
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - tokensUpdated) * requestsPerSecond / 1e9);
+        tokensUpdated = now;
+        if (tokens >= 1) {
+            tokens -= 1;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Schedules sending of the queued requests when there is a new token, if the
+     * rate is limited and there are no tokens left.
+     */
+    private void scheduleRefill() {
+        if (requestsPerSecond <= 0 || isRefillScheduled || tokens >= 1) {
+            return;
+        }
+        isRefillScheduled = true;
+        long delayNanos = (long) Math.ceil((1 - tokens) * 1e9 / requestsPerSecond);
+        Schedulers.parallel().schedule(() -> {
+            synchronized (this) {
+                isRefillScheduled = false;
+            }
+            grantWaiting();
+        }, Math.max(1, delayNanos), TimeUnit.NANOSECONDS);
+    }
+
+    private void onResponse(Permit permit) {
+        long latency = System.nanoTime() - permit.startTime;
+        synchronized (this) {
+            updateBaseline(latency);
+            double baselineLatencyNanos = Math.min(windowMinLatencyNanos, previousWindowMinLatencyNanos);
+            if (latency > baselineLatencyNanos * LATENCY_TOLERANCE) {
+                decrease(permit);
+            } else {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+        }
+        grantWaiting();
+    }
+
+    private void onError(Permit permit, Throwable t) {
+        if (t instanceof WebClientResponseException responseException
+                && responseException.getStatusCode().is4xxClientError()
+                && responseException.getStatusCode().value() != 429) {
+            // The RIC did answer, the request was rejected
+            onResponse(permit);
+        } else {
+            synchronized (this) {
+                decrease(permit);
+            }
+        }
+    }
+
+    private void updateBaseline(long latency) {
+        windowMinLatencyNanos = Math.min(windowMinLatencyNanos, latency);
+        if (++windowResponses >= BASELINE_WINDOW_SIZE) {
+            previousWindowMinLatencyNanos = windowMinLatencyNanos;
+            windowMinLatencyNanos = Double.POSITIVE_INFINITY;
+            windowResponses = 0;
+        }
+    }
+
+    private void decrease(Permit permit) {
+        if (permit.decreaseWindow != decreaseWindow) {
+            return; // Sent before the latest decrease, which already accounts for it
+        }
+        decreaseWindow++;
+        double newLimit = Math.max(minLimit, limit * BACKOFF_RATIO);
+        if ((int) newLimit < (int) limit) {
+            logger.debug("Concurrency limit for RIC {} decreased to {}", ricId, (int) newLimit);
+        }
+        limit = newLimit;
+    }
+}
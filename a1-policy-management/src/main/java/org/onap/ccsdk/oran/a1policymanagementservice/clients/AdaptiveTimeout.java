@@ -0,0 +1,206 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.RequestDeadline.DeadlineExceededException;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+
+import reactor.core.publisher.Mono;
+import reactor.util.annotation.Nullable;
+
+/**
+ * Times out the requests to one Near-RT RIC.
+ *
+ * <p>
+ * The timeout is derived from the latest response times of the RIC for the
+ * same A1 operation: a percentile of them multiplied by a factor, bounded by a
+ * min and a max timeout. The max timeout is used until enough response times
+ * are recorded. The operations are the ones the A1 client metrics are tagged
+ * with, so that for instance fast status reads do not shorten the timeout of
+ * listing all policies. A request that times out fails with a
+ * {@link RequestTimeoutException}, which is not retried. Its response time is
+ * recorded as the timeout, which is a lower bound of it, so that the timeout
+ * grows if the RIC becomes slower than the current timeout.
+ *
+ * <p>
+ * A request is also bounded by the deadline in the Reactor context, if any. A
+ * request is not sent if the deadline is already passed, and is cancelled when
+ * the deadline is reached. It then fails with a DeadlineExceededException.
+ */
+public class AdaptiveTimeout implements AsyncRestClient.RequestFilter {
+
+    public static final String TIMEOUT_GAUGE = "ric_request_timeout_seconds";
+    public static final String TIMEOUTS_COUNTER = "ric_request_timeouts";
+    public static final String DEADLINE_EXCEEDED_COUNTER = "ric_request_deadline_exceeded";
+
+    private static final int MIN_NO_OF_LATENCY_SAMPLES = 20;
+
+    /**
+     * A request is timed out by this filter.
+     */
+    public static class RequestTimeoutException extends TimeoutException {
+        private static final long serialVersionUID = 1L;
+
+        public RequestTimeoutException(String message) {
+            super(message);
+        }
+    }
+
+    private final String ricId;
+    private final boolean adaptive;
+    private final Duration minTimeout;
+    private final Duration maxTimeout;
+    private final int percentile;
+    private final double multiplier;
+    private final Map<String, LatencyRecorder> latencies = new ConcurrentHashMap<>(); // per A1 operation
+    private final MeterRegistry meterRegistry;
+    private final Counter timeoutsCounter;
+    private final Counter deadlineExceededCounter;
+    private final List<Meter> meters;
+
+    /**
+     * @param ricId the identity of the Near-RT RIC
+     * @param adaptive if false, requests are only bounded by the deadline
+     * @param minTimeout the min timeout
+     * @param maxTimeout the max timeout, zero means that there is no timeout
+     * @param percentile the percentile of the response times that the timeout is
+     *        derived from
+     * @param multiplier the timeout is the percentile multiplied by this
+     */
+    public AdaptiveTimeout(String ricId, boolean adaptive, Duration minTimeout, Duration maxTimeout, int percentile,
+            double multiplier, MeterRegistry meterRegistry) {
+        this.ricId = ricId;
+        this.adaptive = adaptive && !maxTimeout.isZero() && !maxTimeout.isNegative();
+        this.minTimeout = minTimeout;
+        this.maxTimeout = maxTimeout;
+        this.percentile = percentile;
+        this.multiplier = multiplier;
+        this.meterRegistry = meterRegistry;
+        this.timeoutsCounter = Counter.builder(TIMEOUTS_COUNTER) //
+                .description("The number of requests to a Near-RT RIC that timed out") //
+                .tag("ric_id", ricId) //
+                .register(meterRegistry);
+        this.deadlineExceededCounter = Counter.builder(DEADLINE_EXCEEDED_COUNTER) //
+                .description("The number of requests to a Near-RT RIC not completed before the deadline") //
+                .tag("ric_id", ricId) //
+                .register(meterRegistry);
+        this.meters = List.of(timeoutsCounter, deadlineExceededCounter, //
+                Gauge.builder(TIMEOUT_GAUGE, this, t -> t.getTimeout().map(Duration::toMillis).orElse(0L) / 1000.0) //
+                        .description("The current timeout of the requests to a Near-RT RIC") //
+                        .tag("ric_id", ricId) //
+                        .register(meterRegistry));
+    }
+
+    @Override
+    public Mono<ResponseEntity<String>> filter(HttpMethod method, String uri,
+            Mono<ResponseEntity<String>> exchange) {
+        return Mono.deferContextual(context -> {
+            Optional<Duration> timeLeft = RequestDeadline.getTimeLeft(context);
+            if (timeLeft.isPresent() && (timeLeft.get().isNegative() || timeLeft.get().isZero())) {
+                return Mono.error(deadlineExceeded());
+            }
+            String operation = A1ClientMetrics.getOperation(context);
+            Optional<Duration> timeout = getTimeout(operation);
+            long startTime = System.nanoTime();
+            Mono<ResponseEntity<String>> timed = exchange //
+                    .doOnSuccess(resp -> getLatencies(operation).record(System.nanoTime() - startTime));
+            if (timeLeft.isPresent() && (timeout.isEmpty() || timeLeft.get().compareTo(timeout.get()) < 0)) {
+                return timed.timeout(timeLeft.get(), Mono.error(this::deadlineExceeded));
+            }
+            if (timeout.isPresent()) {
+                return timed.timeout(timeout.get(), Mono.error(() -> timedOut(operation, timeout.get())));
+            }
+            return timed;
+        });
+    }
+
+    /**
+     * @return the longest current timeout of the A1 operations, empty if the
+     *         requests are not timed out
+     */
+    public Optional<Duration> getTimeout() {
+        if (latencies.isEmpty()) {
+            return timeoutFor(null);
+        }
+        return latencies.values().stream() //
+                .map(this::timeoutFor) //
+                .flatMap(Optional::stream) //
+                .max(Duration::compareTo);
+    }
+
+    /**
+     * @param operation the A1 operation, as tagged in the A1 client metrics
+     * @return the current timeout of the operation, empty if the requests are not
+     *         timed out
+     */
+    public Optional<Duration> getTimeout(String operation) {
+        return timeoutFor(latencies.get(operation));
+    }
+
+    private Optional<Duration> timeoutFor(@Nullable LatencyRecorder recorder) {
+        if (!adaptive) {
+            return Optional.empty();
+        }
+        Duration timeout = Optional.ofNullable(recorder) //
+                .flatMap(r -> r.getPercentile(percentile)) //
+                .map(p -> Duration.ofNanos((long) (p.toNanos() * multiplier))) //
+                .orElse(maxTimeout);
+        if (timeout.compareTo(minTimeout) < 0) {
+            return Optional.of(minTimeout);
+        }
+        return Optional.of(timeout.compareTo(maxTimeout) > 0 ? maxTimeout : timeout);
+    }
+
+    private LatencyRecorder getLatencies(String operation) {
+        return latencies.computeIfAbsent(operation, op -> new LatencyRecorder(MIN_NO_OF_LATENCY_SAMPLES));
+    }
+
+    /**
+     * Removes the meters of this filter.
+     */
+    public void close() {
+        meters.forEach(meterRegistry::remove);
+    }
+
+    private Throwable deadlineExceeded() {
+        deadlineExceededCounter.increment();
+        return new DeadlineExceededException("Deadline exceeded for request to Near-RT RIC: " + ricId);
+    }
+
+    private Throwable timedOut(String operation, Duration timeout) {
+        timeoutsCounter.increment();
+        getLatencies(operation).record(timeout.toNanos());
+        return new RequestTimeoutException("Request to Near-RT RIC: " + ricId + " timed out");
+    }
+}
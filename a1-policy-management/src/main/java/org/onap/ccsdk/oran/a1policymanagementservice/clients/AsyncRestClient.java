@@ -21,26 +21,37 @@
 
 package org.onap.ccsdk.oran.a1policymanagementservice.clients;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 
 import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
 
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.WebClientConfig;
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.WebClientConfig.HttpProxyConfig;
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.WebClientUtil;
+import org.onap.ccsdk.oran.a1policymanagementservice.exceptions.ServiceException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.Nullable;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClient.RequestHeadersSpec;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 import reactor.netty.transport.ProxyProvider;
 
 /**
@@ -48,19 +59,125 @@ import reactor.netty.transport.ProxyProvider;
  */
 public class AsyncRestClient {
 
+    /**
+     * Intercepts the requests sent by a client, for instance to limit the load on
+     * the server.
+     */
+    @FunctionalInterface
+    public interface RequestFilter {
+        /**
+         * @param method the HTTP method of the request
+         * @param uri the URI of the request
+         * @param exchange sends the request when subscribed to
+         * @return the filtered response
+         */
+        Mono<ResponseEntity<String>> filter(HttpMethod method, String uri, Mono<ResponseEntity<String>> exchange);
+
+        /**
+         * @return the number of requests that is meaningful to issue in parallel
+         *         through this filter
+         */
+        default int getMaxConcurrency() {
+            return Integer.MAX_VALUE;
+        }
+
+        /**
+         * @param inner a filter that is applied before this filter
+         * @return a filter that applies this filter on the result of the inner filter
+         */
+        default RequestFilter compose(RequestFilter inner) {
+            final RequestFilter outer = this;
+            return new RequestFilter() {
+                @Override
+                public Mono<ResponseEntity<String>> filter(HttpMethod method, String uri,
+                        Mono<ResponseEntity<String>> exchange) {
+                    return outer.filter(method, uri, inner.filter(method, uri, exchange));
+                }
+
+                @Override
+                public int getMaxConcurrency() {
+                    return Math.min(outer.getMaxConcurrency(), inner.getMaxConcurrency());
+                }
+            };
+        }
+    }
+
+    public static final String OVERSIZED_RESPONSES_COUNTER = "http_client_oversized_responses";
+
     private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+    private static final int MAX_CONCURRENCY = 100;
     private WebClient webClient = null;
+    private final AsyncRestClient parent; // A client that is filtered shares the WebClient with its parent
+    private final RequestFilter requestFilter;
     private final String baseUrl;
     private final SslContext sslContext;
     private final HttpProxyConfig httpProxyConfig;
     private final SecurityContext securityContext;
+    private final ConnectionProvider connectionProvider;
+    private final WebClientConfig clientConfig;
+    private final MeterRegistry meterRegistry;
 
     public AsyncRestClient(String baseUrl, @Nullable SslContext sslContext, @Nullable HttpProxyConfig httpProxyConfig,
-            SecurityContext securityContext) {
+            SecurityContext securityContext, MeterRegistry meterRegistry) {
+        this(baseUrl, sslContext, httpProxyConfig, securityContext, null, null, meterRegistry);
+    }
+
+    /**
+     * Creates a client.
+     *
+     * @param connectionProvider the connection pool to use, if null a default pool
+     *        is used
+     * @param clientConfig the timeouts and protocols to use, if null the defaults
+     *        are used
+     * @param meterRegistry where the metrics of the client are registered
+     */
+    public AsyncRestClient(String baseUrl, @Nullable SslContext sslContext, @Nullable HttpProxyConfig httpProxyConfig,
+            SecurityContext securityContext, @Nullable ConnectionProvider connectionProvider,
+            @Nullable WebClientConfig clientConfig, MeterRegistry meterRegistry) {
         this.baseUrl = baseUrl;
         this.sslContext = sslContext;
         this.httpProxyConfig = httpProxyConfig;
         this.securityContext = securityContext;
+        this.connectionProvider = connectionProvider;
+        this.clientConfig = clientConfig != null ? clientConfig : WebClientConfig.builder().build();
+        this.meterRegistry = meterRegistry;
+        this.parent = null;
+        this.requestFilter = null;
+    }
+
+    private AsyncRestClient(AsyncRestClient parent, RequestFilter requestFilter) {
+        this.baseUrl = parent.baseUrl;
+        this.sslContext = parent.sslContext;
+        this.httpProxyConfig = parent.httpProxyConfig;
+        this.securityContext = parent.securityContext;
+        this.connectionProvider = parent.connectionProvider;
+        this.clientConfig = parent.clientConfig;
+        this.meterRegistry = parent.meterRegistry;
+        this.parent = parent;
+        this.requestFilter = requestFilter;
+    }
+
+    /**
+     * Creates a client that sends its requests through a filter. The created
+     * client shares the connections with this client.
+     *
+     * @param filter the filter, applied after the filter of this client (if any)
+     * @return a new client
+     */
+    public AsyncRestClient withRequestFilter(RequestFilter filter) {
+        if (this.requestFilter == null) {
+            return new AsyncRestClient(this, filter);
+        }
+        return new AsyncRestClient(this.parent, filter.compose(this.requestFilter));
+    }
+
+    /**
+     * @return the number of requests that is meaningful to issue in parallel to
+     *         one server using this client
+     */
+    public int getMaxConcurrency() {
+        return this.requestFilter != null ? Math.max(1, Math.min(MAX_CONCURRENCY, requestFilter.getMaxConcurrency()))
+                : 1;
     }
 
     public Mono<ResponseEntity<String>> postForEntity(String uri, @Nullable String body) {
@@ -71,7 +188,7 @@ public class AsyncRestClient {
                 .uri(uri) //
                 .contentType(MediaType.APPLICATION_JSON) //
                 .body(bodyProducer, String.class);
-        return retrieve(request);
+        return retrieve(HttpMethod.POST, uri, request);
     }
 
     public Mono<String> post(String uri, @Nullable String body) {
@@ -86,7 +203,7 @@ public class AsyncRestClient {
                 .headers(headers -> headers.setBasicAuth(username, password)) //
                 .contentType(MediaType.APPLICATION_JSON) //
                 .bodyValue(body);
-        return retrieve(request) //
+        return retrieve(HttpMethod.POST, uri, request) //
                 .map(this::toBody);
     }
 
@@ -97,7 +214,7 @@ public class AsyncRestClient {
                 .headers(headers -> headers.setBearerAuth(token)) //
                 .contentType(MediaType.APPLICATION_JSON) //
                 .bodyValue(body);
-        return retrieve(request);
+        return retrieve(HttpMethod.POST, uri, request);
     }
 
     public Mono<ResponseEntity<String>> putForEntity(String uri, String body) {
@@ -106,14 +223,14 @@ public class AsyncRestClient {
                 .uri(uri) //
                 .contentType(MediaType.APPLICATION_JSON) //
                 .bodyValue(body);
-        return retrieve(request);
+        return retrieve(HttpMethod.PUT, uri, request);
     }
 
     public Mono<ResponseEntity<String>> putForEntity(String uri) {
         RequestHeadersSpec<?> request = getWebClient() //
                 .put() //
                 .uri(uri);
-        return retrieve(request);
+        return retrieve(HttpMethod.PUT, uri, request);
     }
 
     public Mono<String> put(String uri, String body) {
@@ -123,7 +240,7 @@ public class AsyncRestClient {
 
     public Mono<ResponseEntity<String>> getForEntity(String uri) {
         RequestHeadersSpec<?> request = getWebClient().get().uri(uri);
-        return retrieve(request);
+        return retrieve(HttpMethod.GET, uri, request);
     }
 
     public Mono<String> get(String uri) {
@@ -133,7 +250,7 @@ public class AsyncRestClient {
 
     public Mono<ResponseEntity<String>> deleteForEntity(String uri) {
         RequestHeadersSpec<?> request = getWebClient().delete().uri(uri);
-        return retrieve(request);
+        return retrieve(HttpMethod.DELETE, uri, request);
     }
 
     public Mono<String> delete(String uri) {
@@ -141,14 +258,46 @@ public class AsyncRestClient {
                 .map(this::toBody);
     }
 
-    private Mono<ResponseEntity<String>> retrieve(RequestHeadersSpec<?> request) {
-        if (securityContext.isConfigured()) {
-            request.headers(h -> h.setBearerAuth(securityContext.getBearerAuthToken()));
-        }
+    private Mono<ResponseEntity<String>> retrieve(HttpMethod method, String uri, RequestHeadersSpec<?> request) {
+        Mono<ResponseEntity<String>> exchange = securityContext.isConfigured() //
+                ? securityContext.getBearerAuthTokenAsync() //
+                        .flatMap(token -> exchange(request.headers(h -> h.setBearerAuth(token)), uri))
+                : exchange(request, uri);
+        return this.requestFilter != null ? this.requestFilter.filter(method, uri, exchange) : exchange;
+    }
+
+    private Mono<ResponseEntity<String>> exchange(RequestHeadersSpec<?> request, String uri) {
         return request.retrieve() //
                 .toEntity(String.class) //
+                .onErrorMap(AsyncRestClient::isResponseTooLarge, e -> responseTooLarge(uri)) //
                 .doOnError(this::onError);
+    }
+
+    private static boolean isResponseTooLarge(Throwable t) {
+        return t instanceof DataBufferLimitException || t.getCause() instanceof DataBufferLimitException;
+    }
 
+    private ServiceException responseTooLarge(String uri) {
+        Counter.builder(OVERSIZED_RESPONSES_COUNTER) //
+                .description("Responses rejected since their size exceeds the configured limit") //
+                .tag("host", hostOf(uri)) //
+                .register(meterRegistry) //
+                .increment();
+        logger.warn("Response from {} exceeds the max size: {} bytes", uri, clientConfig.getMaxResponseSize());
+        return new ServiceException("Response too large, max size: " + clientConfig.getMaxResponseSize() + " bytes",
+                HttpStatus.BAD_GATEWAY);
+    }
+
+    private String hostOf(String uri) {
+        try {
+            String host = UriComponentsBuilder.fromUriString(uri).build().getHost();
+            if (host == null) {
+                host = UriComponentsBuilder.fromUriString(baseUrl).build().getHost();
+            }
+            return host != null ? host : "";
+        } catch (IllegalArgumentException e) {
+            return "";
+        }
     }
 
     private void onError(Throwable t) {
@@ -172,17 +321,26 @@ public class AsyncRestClient {
     }
 
     private HttpClient buildHttpClient() {
-        HttpClient httpClient = HttpClient.create() //
-                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 10_000) //
+        final long readWriteTimeoutMillis = clientConfig.getReadWriteTimeout().toMillis();
+        HttpClient httpClient =
+                connectionProvider != null ? HttpClient.create(connectionProvider) : HttpClient.create();
+        httpClient = httpClient //
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) clientConfig.getConnectTimeout().toMillis()) //
                 .doOnConnected(connection -> {
-                    connection.addHandlerLast(new ReadTimeoutHandler(30));
-                    connection.addHandlerLast(new WriteTimeoutHandler(30));
+                    connection.addHandlerLast(new ReadTimeoutHandler(readWriteTimeoutMillis, TimeUnit.MILLISECONDS));
+                    connection.addHandlerLast(new WriteTimeoutHandler(readWriteTimeoutMillis, TimeUnit.MILLISECONDS));
                 });
 
         if (this.sslContext != null) {
             httpClient = httpClient.secure(ssl -> ssl.sslContext(sslContext));
         }
 
+        if (clientConfig.isHttp2Enabled()) {
+            // HTTP/2 is used if the server accepts it, otherwise HTTP/1.1
+            httpClient = this.sslContext != null ? httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11)
+                    : httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+        }
+
         if (isHttpProxyConfigured()) {
             httpClient = httpClient.proxy(proxy -> proxy.type(ProxyProvider.Proxy.HTTP)
                     .host(httpProxyConfig.getHttpProxyHost()).port(httpProxyConfig.getHttpProxyPort()));
@@ -192,10 +350,13 @@ public class AsyncRestClient {
 
     public WebClient buildWebClient(String baseUrl) {
         final HttpClient httpClient = buildHttpClient();
-        return WebClientUtil.buildWebClient(baseUrl, httpClient);
+        return WebClientUtil.buildWebClient(baseUrl, httpClient, clientConfig.getMaxResponseSize());
     }
 
-    private WebClient getWebClient() {
+    private synchronized WebClient getWebClient() {
+        if (this.parent != null) {
+            return this.parent.getWebClient();
+        }
         if (this.webClient == null) {
             this.webClient = buildWebClient(baseUrl);
         }
@@ -22,6 +22,9 @@
 
 package org.onap.ccsdk.oran.a1policymanagementservice.clients;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
@@ -38,28 +41,70 @@ import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import javax.net.ssl.KeyManagerFactory;
 
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.WebClientConfig;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.WebClientConfig.ConnectionPoolConfig;
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.WebClientConfig.HttpProxyConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.ResourceUtils;
 
+import reactor.netty.resources.ConnectionProvider;
+
 /**
- * Factory for a generic reactive REST client.
+ * Factory for a generic reactive REST client. The created clients are cached,
+ * so that the clients for the same base URL share one long-lived WebClient and
+ * its connection pool.
+ *
+ * <p>
+ * The connections are taken from named pools, which are shared by all
+ * factories. Within a pool, the connections are pooled per remote host, so each
+ * Near-RT RIC gets its own connections. The pool metrics are exported to
+ * Micrometer, tagged with the pool name and the remote address.
  */
 public class AsyncRestClientFactory {
     private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
+    /**
+     * The pool used for the accesses of Near-RT RICs and A1 controllers.
+     */
+    public static final String SOUTHBOUND_POOL = "pms-southbound";
+
+    /**
+     * The pool used for service callbacks and authorization (OPA) requests.
+     */
+    public static final String CALLBACK_POOL = "pms-callbacks";
+
+    private static final Map<String, ConnectionProvider> connectionPools = new ConcurrentHashMap<>();
+
     private final SslContextFactory sslContextFactory;
     private final HttpProxyConfig httpProxyConfig;
     private final SecurityContext securityContext;
+    private final WebClientConfig clientConfig;
+    private final Map<String, AsyncRestClient> restClients;
+    private final Map<String, Set<String>> restClientUsers; // client key -> users of the client
+    private final AsyncRestClient.RequestFilter requestFilter;
+    private final String user;
+    private final MeterRegistry meterRegistry;
 
-    public AsyncRestClientFactory(WebClientConfig clientConfig, SecurityContext securityContext) {
+    public AsyncRestClientFactory(WebClientConfig clientConfig, SecurityContext securityContext,
+            MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.restClients = new ConcurrentHashMap<>();
+        this.restClientUsers = new HashMap<>();
+        this.requestFilter = null;
+        this.user = null;
+        this.clientConfig = clientConfig != null ? clientConfig : WebClientConfig.builder().build();
         if (clientConfig != null) {
             if (clientConfig.isSslEnabled()) {
                 this.sslContextFactory = new CachingSslContextFactory(clientConfig);
@@ -76,25 +121,129 @@ public class AsyncRestClientFactory {
         this.securityContext = securityContext;
     }
 
+    private AsyncRestClientFactory(AsyncRestClientFactory parent, AsyncRestClient.RequestFilter requestFilter,
+            String user) {
+        this.clientConfig = parent.clientConfig;
+        this.meterRegistry = parent.meterRegistry;
+        this.sslContextFactory = parent.sslContextFactory;
+        this.httpProxyConfig = parent.httpProxyConfig;
+        this.securityContext = parent.securityContext;
+        this.restClients = parent.restClients;
+        this.restClientUsers = parent.restClientUsers;
+        if (requestFilter == null) {
+            this.requestFilter = parent.requestFilter;
+        } else {
+            this.requestFilter =
+                    parent.requestFilter != null ? requestFilter.compose(parent.requestFilter) : requestFilter;
+        }
+        this.user = user != null ? user : parent.user;
+    }
+
+    /**
+     * Creates a factory for clients that send their requests through a filter.
+     * The created clients share the connections with the clients of this factory.
+     * The filter is applied after the filter of this factory (if any).
+     */
+    public AsyncRestClientFactory withRequestFilter(AsyncRestClient.RequestFilter requestFilter) {
+        return new AsyncRestClientFactory(this, requestFilter, null);
+    }
+
+    /**
+     * Creates a factory that registers a user, for instance a Near-RT RIC, of the
+     * clients it creates. The clients are shared with the clients of this factory.
+     *
+     * @see #release(String)
+     */
+    public AsyncRestClientFactory withUser(String user) {
+        return new AsyncRestClientFactory(this, null, user);
+    }
+
+    /**
+     * Releases the clients used by a user. A cached client that no longer has any
+     * user is removed, so that it is not kept when for instance a RIC is removed or
+     * its configuration is changed.
+     *
+     * @param user the user, as given to {@link #withUser(String)}
+     */
+    public void release(String user) {
+        synchronized (this.restClientUsers) {
+            Iterator<Map.Entry<String, Set<String>>> it = this.restClientUsers.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<String, Set<String>> entry = it.next();
+                if (entry.getValue().remove(user) && entry.getValue().isEmpty()) {
+                    it.remove();
+                    this.restClients.remove(entry.getKey());
+                    logger.debug("Removed unused REST client: {}", entry.getKey());
+                }
+            }
+        }
+    }
+
+    int getNoOfCachedRestClients() {
+        return this.restClients.size();
+    }
+
     public AsyncRestClient createRestClientNoHttpProxy(String baseUrl) {
-        return createRestClient(baseUrl, false);
+        return createRestClient(baseUrl, false, SOUTHBOUND_POOL);
     }
 
     public AsyncRestClient createRestClientUseHttpProxy(String baseUrl) {
-        return createRestClient(baseUrl, true);
+        return createRestClient(baseUrl, true, SOUTHBOUND_POOL);
+    }
+
+    public AsyncRestClient createRestClientNoHttpProxy(String baseUrl, String poolName) {
+        return createRestClient(baseUrl, false, poolName);
+    }
+
+    public AsyncRestClient createRestClientUseHttpProxy(String baseUrl, String poolName) {
+        return createRestClient(baseUrl, true, poolName);
+    }
+
+    private AsyncRestClient createRestClient(String baseUrl, boolean useHttpProxy, String poolName) {
+        String key = poolName + (useHttpProxy ? ":proxy:" : ":direct:") + baseUrl;
+        AsyncRestClient client;
+        synchronized (this.restClientUsers) {
+            client = this.restClients.computeIfAbsent(key, k -> newRestClient(baseUrl, useHttpProxy, poolName));
+            if (this.user != null) {
+                this.restClientUsers.computeIfAbsent(key, k -> new HashSet<>()).add(this.user);
+            }
+        }
+        return this.requestFilter != null ? client.withRequestFilter(this.requestFilter) : client;
     }
 
-    private AsyncRestClient createRestClient(String baseUrl, boolean useHttpProxy) {
+    private AsyncRestClient newRestClient(String baseUrl, boolean useHttpProxy, String poolName) {
+        ConnectionProvider connectionProvider = getConnectionPool(poolName, clientConfig.getConnectionPoolConfig());
         if (this.sslContextFactory != null) {
             try {
                 return new AsyncRestClient(baseUrl, this.sslContextFactory.createSslContext(),
-                        useHttpProxy ? httpProxyConfig : null, this.securityContext);
+                        useHttpProxy ? httpProxyConfig : null, this.securityContext, connectionProvider, clientConfig,
+                        meterRegistry);
             } catch (UnrecoverableKeyException | NoSuchAlgorithmException | CertificateException
                     | KeyStoreException | IOException e) {
                 logger.error("Could not init SSL context, reason: {}", e.getMessage());
             }
         }
-        return new AsyncRestClient(baseUrl, null, httpProxyConfig, this.securityContext);
+        return new AsyncRestClient(baseUrl, null, httpProxyConfig, this.securityContext, connectionProvider,
+                clientConfig, meterRegistry);
+    }
+
+    /**
+     * Gets a named connection pool. The pool is created at first usage, the
+     * configuration of the first usage applies.
+     */
+    static ConnectionProvider getConnectionPool(String name, ConnectionPoolConfig config) {
+        return connectionPools.computeIfAbsent(name, n -> {
+            logger.debug("Creating connection pool: {}, {}", n, config);
+            return ConnectionProvider.builder(n) //
+                    .maxConnections(config.getMaxConnections()) //
+                    .pendingAcquireMaxCount(config.getPendingAcquireMaxCount()) //
+                    .pendingAcquireTimeout(config.getPendingAcquireTimeout()) //
+                    .maxIdleTime(config.getMaxIdleTime()) //
+                    .maxLifeTime(config.getMaxLifeTime()) //
+                    .evictInBackground(config.getEvictionInterval()) //
+                    .metrics(true) //
+                    .build();
+        });
     }
 
     private class SslContextFactory {
@@ -116,7 +265,7 @@ public class AsyncRestClientFactory {
                         this.clientConfig.getTrustStorePassword(), keyManager);
             } else {
                 // Trust anyone
-                return SslContextBuilder.forClient() //
+                return withApplicationProtocols(SslContextBuilder.forClient()) //
                         .keyManager(keyManager) //
                         .trustManager(InsecureTrustManagerFactory.INSTANCE) //
                         .build();
@@ -134,12 +283,23 @@ public class AsyncRestClientFactory {
                     .collect(Collectors.toList());
             final X509Certificate[] certificates = certificateList.toArray(new X509Certificate[certificateList.size()]);
 
-            return SslContextBuilder.forClient() //
+            return withApplicationProtocols(SslContextBuilder.forClient()) //
                     .keyManager(keyManager) //
                     .trustManager(certificates) //
                     .build();
         }
 
+        private SslContextBuilder withApplicationProtocols(SslContextBuilder builder) {
+            if (this.clientConfig.isHttp2Enabled()) {
+                // Let the server select HTTP/2 by ALPN, if supported
+                builder.applicationProtocolConfig(new ApplicationProtocolConfig(ApplicationProtocolConfig.Protocol.ALPN,
+                        ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+                        ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+                        ApplicationProtocolNames.HTTP_2, ApplicationProtocolNames.HTTP_1_1));
+            }
+            return builder;
+        }
+
         private boolean isCertificateEntry(KeyStore trustStore, String alias) {
             try {
                 return trustStore.isCertificateEntry(alias);
@@ -32,7 +32,6 @@ import java.util.Set;
 
 import lombok.Getter;
 
-import org.json.JSONObject;
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.ControllerConfig;
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.RicConfig;
 import org.onap.ccsdk.oran.a1policymanagementservice.exceptions.ServiceException;
@@ -51,7 +50,6 @@ import reactor.core.publisher.Mono;
 @SuppressWarnings("squid:S2629") // Invoke method(s) only conditionally
 public class CcsdkA1AdapterClient implements A1Client {
 
-    static final int CONCURRENCY_RIC = 1; // How many paralell requests that is sent to one NearRT RIC
 
     @Getter
     public static class AdapterRequest {
@@ -194,12 +192,13 @@ public class CcsdkA1AdapterClient implements A1Client {
         if (this.protocolType == A1ProtocolType.CCSDK_A1_ADAPTER_STD_V1_1) {
             return getPolicyIds() //
                     .filter(policyId -> !excludePolicyIds.contains(policyId)) //
-                    .flatMap(policyId -> deletePolicyById("", policyId), CONCURRENCY_RIC); //
+                    .flatMap(policyId -> deletePolicyById("", policyId), getMaxConcurrency()); //
         } else {
             A1UriBuilder uriBuilder = this.getUriBuilder();
             return getPolicyTypeIdentities() //
                     .flatMapMany(Flux::fromIterable) //
-                    .flatMap(type -> deleteAllInstancesForType(uriBuilder, type, excludePolicyIds), CONCURRENCY_RIC);
+                    .flatMap(type -> deleteAllInstancesForType(uriBuilder, type, excludePolicyIds),
+                            getMaxConcurrency());
         }
     }
 
@@ -211,14 +210,13 @@ public class CcsdkA1AdapterClient implements A1Client {
     private Flux<String> deleteAllInstancesForType(A1UriBuilder uriBuilder, String type, Set<String> excludePolicyIds) {
         return getInstancesForType(uriBuilder, type) //
                 .filter(policyId -> !excludePolicyIds.contains(policyId)) //
-                .flatMap(policyId -> deletePolicyById(type, policyId), CONCURRENCY_RIC);
+                .flatMap(policyId -> deletePolicyById(type, policyId), getMaxConcurrency());
     }
 
     @Override
     public Mono<A1ProtocolType> getProtocolVersion() {
-        return tryStdProtocolVersion2() //
-                .onErrorResume(t -> tryStdProtocolVersion1()) //
-                .onErrorResume(t -> tryOscProtocolVersion());
+        // The probes are done in parallel, the first successful one is used
+        return Mono.firstWithValue(tryStdProtocolVersion2(), tryStdProtocolVersion1(), tryOscProtocolVersion());
     }
 
     @Override
@@ -290,9 +288,7 @@ public class CcsdkA1AdapterClient implements A1Client {
                 .flatMap(resp -> extractResponseBody(resp, ricUrl));
     }
 
-    private Mono<String> extractResponse(JSONObject responseOutput, String ricUrl) {
-        AdapterOutput output = gson.fromJson(responseOutput.toString(), AdapterOutput.class);
-
+    private Mono<String> extractResponse(AdapterOutput output, String ricUrl) {
         String body = output.body == null ? "" : output.body;
         if (HttpStatus.valueOf(output.httpStatus).is2xxSuccessful()) {
             return Mono.just(body);
@@ -308,11 +304,17 @@ public class CcsdkA1AdapterClient implements A1Client {
     }
 
     private Mono<String> extractResponseBody(String responseStr, String ricUrl) {
-        return A1AdapterJsonHelper.getOutput(responseStr) //
+        return A1AdapterJsonHelper.getOutput(responseStr, AdapterOutput.class) //
                 .flatMap(responseOutput -> extractResponse(responseOutput, ricUrl));
     }
 
     private String controllerUrl(String rpcName) {
         return "/A1-ADAPTER-API:" + rpcName;
     }
+
+    // How many parallel requests that is sent to the NearRT RIC, the requests are limited by the rest client
+    @Override
+    public int getMaxConcurrency() {
+        return Math.max(1, restClient.getMaxConcurrency());
+    }
 }
@@ -0,0 +1,262 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.CircuitBreakerConfig;
+import org.onap.ccsdk.oran.a1policymanagementservice.exceptions.ServiceException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * A circuit breaker for the requests to one Near-RT RIC.
+ * <ul>
+ * <li>CLOSED: requests are let through. The outcome of the latest requests is
+ * recorded. If the rate of failed or slow requests exceeds its threshold, the
+ * breaker is opened.</li>
+ * <li>OPEN: requests are rejected immediately with status 503 (Service
+ * Unavailable). After a wait duration, the breaker is half opened.</li>
+ * <li>HALF_OPEN: a number of trial requests are let through, the others are
+ * rejected. Depending on the outcome of the trial requests, the breaker is
+ * closed or opened again.</li>
+ * </ul>
+ * A response with a 4xx status (except 429) is an answer from the RIC and is
+ * not counted as a failure.
+ *
+ * Each state change starts a new generation of the breaker. The outcome of a
+ * request is only recorded if the breaker is still in the generation the request
+ * was started in, so that for instance a request started before the breaker was
+ * opened is not counted as a trial request.
+ */
+@SuppressWarnings("squid:S2629") // Invoke method(s) only conditionally
+public class CircuitBreaker implements AsyncRestClient.RequestFilter {
+    private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    public static final String STATE_GAUGE = "ric_circuit_breaker_state";
+    public static final String REJECTED_COUNTER = "ric_circuit_breaker_rejected_requests";
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final long NOT_PERMITTED = -1;
+
+    private final String ricId;
+    private final CircuitBreakerConfig config;
+    private final Consumer<State> stateListener;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejectedCounter;
+    private final List<Meter> meters;
+
+    // The outcome of the latest requests, as a ring buffer
+    private final boolean[] failed;
+    private final boolean[] slow;
+    private int noOfRecorded = 0;
+    private int nextIndex = 0;
+
+    private State state = State.CLOSED;
+    private long openedAt = 0;
+    private int trialsStarted = 0;
+    private long generation = 0;
+
+    /**
+     * @param ricId the identity of the Near-RT RIC
+     * @param config the configuration
+     * @param meterRegistry where the metrics of the breaker are registered
+     * @param stateListener invoked when the state of the breaker is changed
+     */
+    public CircuitBreaker(String ricId, CircuitBreakerConfig config, MeterRegistry meterRegistry,
+            Consumer<State> stateListener) {
+        this.ricId = ricId;
+        this.config = config;
+        this.stateListener = stateListener;
+        this.meterRegistry = meterRegistry;
+        int windowSize = Math.max(1, config.getSlidingWindowSize());
+        this.failed = new boolean[windowSize];
+        this.slow = new boolean[windowSize];
+        this.rejectedCounter = Counter.builder(REJECTED_COUNTER) //
+                .description("The number of requests to a Near-RT RIC rejected by the circuit breaker") //
+                .tag("ric_id", ricId) //
+                .register(meterRegistry);
+        this.meters = List.of(rejectedCounter, //
+                Gauge.builder(STATE_GAUGE, this, breaker -> breaker.getState().ordinal()) //
+                        .description("Circuit breaker state of a Near-RT RIC, 0: closed, 1: open, 2: half open") //
+                        .tag("ric_id", ricId) //
+                        .register(meterRegistry));
+    }
+
+    @Override
+    public Mono<ResponseEntity<String>> filter(HttpMethod method, String uri,
+            Mono<ResponseEntity<String>> exchange) {
+        return Mono.defer(() -> {
+            final long startedInGeneration = acquirePermission();
+            if (startedInGeneration == NOT_PERMITTED) {
+                rejectedCounter.increment();
+                return Mono.error(new ServiceException(
+                        "Near-RT RIC: " + ricId + " is not responding, the request is rejected by the circuit breaker",
+                        HttpStatus.SERVICE_UNAVAILABLE));
+            }
+            long startTime = System.nanoTime();
+            return exchange //
+                    .doOnSuccess(resp -> onResult(startedInGeneration, startTime, false)) //
+                    .doOnError(t -> onError(startedInGeneration, startTime, t)) //
+                    .doOnCancel(() -> onCancel(startedInGeneration));
+        });
+    }
+
+    public synchronized State getState() {
+        return this.state;
+    }
+
+    /**
+     * @return true if requests are currently rejected. An open breaker is not
+     *         rejecting requests when the wait duration has elapsed.
+     */
+    public synchronized boolean isRejecting() {
+        return (state == State.OPEN && !isWaitDurationElapsed())
+                || (state == State.HALF_OPEN && trialsStarted >= config.getPermittedCallsInHalfOpenState());
+    }
+
+    /**
+     * Removes the meters of this breaker.
+     */
+    public void close() {
+        meters.forEach(meterRegistry::remove);
+    }
+
+    /**
+     * @return the generation the permitted request is started in, or
+     *         NOT_PERMITTED
+     */
+    private long acquirePermission() {
+        State newState = null;
+        long permittedGeneration;
+        synchronized (this) {
+            if (state == State.OPEN && isWaitDurationElapsed()) {
+                newState = transitionTo(State.HALF_OPEN);
+            }
+            if (state == State.CLOSED) {
+                permittedGeneration = generation;
+            } else if (state == State.HALF_OPEN && trialsStarted < config.getPermittedCallsInHalfOpenState()) {
+                trialsStarted++;
+                permittedGeneration = generation;
+            } else {
+                permittedGeneration = NOT_PERMITTED;
+            }
+        }
+        notifyListener(newState);
+        return permittedGeneration;
+    }
+
+    private void onResult(long startedInGeneration, long startTime, boolean isFailed) {
+        boolean isSlow = System.nanoTime() - startTime > config.getSlowCallDurationThreshold().toNanos();
+        State newState = null;
+        synchronized (this) {
+            if (startedInGeneration != generation) {
+                return; // A request that was started before the latest state change
+            }
+            failed[nextIndex] = isFailed;
+            slow[nextIndex] = isSlow;
+            nextIndex = (nextIndex + 1) % failed.length;
+            noOfRecorded = Math.min(noOfRecorded + 1, failed.length);
+
+            if (state == State.HALF_OPEN) {
+                if (noOfRecorded >= config.getPermittedCallsInHalfOpenState()) {
+                    newState = transitionTo(isThresholdExceeded() ? State.OPEN : State.CLOSED);
+                }
+            } else if (noOfRecorded >= config.getMinimumNumberOfCalls() && isThresholdExceeded()) {
+                newState = transitionTo(State.OPEN);
+            }
+        }
+        notifyListener(newState);
+    }
+
+    private void onError(long startedInGeneration, long startTime, Throwable t) {
+        if (t instanceof RequestDeadline.DeadlineExceededException) {
+            // The caller gave up, this says nothing about the RIC
+            onCancel(startedInGeneration);
+        } else {
+            onResult(startedInGeneration, startTime, isFailure(t));
+        }
+    }
+
+    private synchronized void onCancel(long startedInGeneration) {
+        if (startedInGeneration == generation && state == State.HALF_OPEN && trialsStarted > 0) {
+            trialsStarted--;
+        }
+    }
+
+    private boolean isThresholdExceeded() {
+        int noOfFailed = 0;
+        int noOfSlow = 0;
+        for (int i = 0; i < noOfRecorded; ++i) {
+            noOfFailed += failed[i] ? 1 : 0;
+            noOfSlow += slow[i] ? 1 : 0;
+        }
+        return noOfFailed * 100 >= config.getFailureRateThreshold() * noOfRecorded
+                || noOfSlow * 100 >= config.getSlowCallRateThreshold() * noOfRecorded;
+    }
+
+    private boolean isWaitDurationElapsed() {
+        return System.nanoTime() - openedAt >= config.getWaitDurationInOpenState().toNanos();
+    }
+
+    private State transitionTo(State newState) {
+        logger.debug("Circuit breaker for Near-RT RIC: {} changed from {} to {}", ricId, state, newState);
+        state = newState;
+        generation++;
+        noOfRecorded = 0;
+        nextIndex = 0;
+        trialsStarted = 0;
+        if (newState == State.OPEN) {
+            openedAt = System.nanoTime();
+        }
+        return newState;
+    }
+
+    private void notifyListener(State newState) {
+        if (newState != null) {
+            stateListener.accept(newState);
+        }
+    }
+
+    private static boolean isFailure(Throwable t) {
+        if (t instanceof WebClientResponseException responseException) {
+            HttpStatus status = HttpStatus.resolve(responseException.getStatusCode().value());
+            return status == null || !status.is4xxClientError() || status == HttpStatus.TOO_MANY_REQUESTS;
+        }
+        return true;
+    }
+}
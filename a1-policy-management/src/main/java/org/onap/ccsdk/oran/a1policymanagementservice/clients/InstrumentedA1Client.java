@@ -0,0 +1,127 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import java.util.List;
+import java.util.Set;
+
+import org.onap.ccsdk.oran.a1policymanagementservice.repository.Policy;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * An A1 client that measures the operations of another A1 client.
+ *
+ * <p>
+ * The bulk operations are delegated if the other client implements them, for
+ * instance with a batch operation of its southbound API, and are then measured
+ * as one operation. Otherwise each policy is measured as a separate operation.
+ */
+class InstrumentedA1Client implements A1Client {
+
+    private final A1Client delegate;
+    private final A1ProtocolType protocol;
+    private final A1ClientMetrics metrics;
+    private final boolean delegatesPutPolicies;
+    private final boolean delegatesDeletePolicies;
+
+    InstrumentedA1Client(A1Client delegate, A1ProtocolType protocol, A1ClientMetrics metrics) {
+        this.delegate = delegate;
+        this.protocol = protocol;
+        this.metrics = metrics;
+        this.delegatesPutPolicies = isImplemented(delegate, "putPolicies");
+        this.delegatesDeletePolicies = isImplemented(delegate, "deletePolicies");
+    }
+
+    A1Client getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public Mono<A1ProtocolType> getProtocolVersion() {
+        return metrics.record("getProtocolVersion", protocol, delegate.getProtocolVersion());
+    }
+
+    @Override
+    public Mono<List<String>> getPolicyTypeIdentities() {
+        return metrics.record("getPolicyTypeIdentities", protocol, delegate.getPolicyTypeIdentities());
+    }
+
+    @Override
+    public Mono<List<String>> getPolicyIdentities() {
+        return metrics.record("getPolicyIdentities", protocol, delegate.getPolicyIdentities());
+    }
+
+    @Override
+    public Mono<String> getPolicyTypeSchema(String policyTypeId) {
+        return metrics.record("getPolicyTypeSchema", protocol, delegate.getPolicyTypeSchema(policyTypeId));
+    }
+
+    @Override
+    public Mono<String> putPolicy(Policy policy) {
+        return metrics.record("putPolicy", protocol, delegate.putPolicy(policy));
+    }
+
+    @Override
+    public Mono<String> deletePolicy(Policy policy) {
+        return metrics.record("deletePolicy", protocol, delegate.deletePolicy(policy));
+    }
+
+    @Override
+    public Flux<String> deleteAllPolicies(Set<String> excludePolicyIds) {
+        return metrics.record("deleteAllPolicies", protocol, delegate.deleteAllPolicies(excludePolicyIds));
+    }
+
+    @Override
+    public Mono<String> getPolicyStatus(Policy policy) {
+        return metrics.record("getPolicyStatus", protocol, delegate.getPolicyStatus(policy));
+    }
+
+    @Override
+    public int getMaxConcurrency() {
+        return delegate.getMaxConcurrency();
+    }
+
+    @Override
+    public Flux<PolicyResult> putPolicies(Flux<Policy> policies) {
+        if (delegatesPutPolicies) {
+            return metrics.record("putPolicies", protocol, delegate.putPolicies(policies));
+        }
+        return A1Client.super.putPolicies(policies);
+    }
+
+    @Override
+    public Flux<PolicyResult> deletePolicies(Flux<Policy> policies) {
+        if (delegatesDeletePolicies) {
+            return metrics.record("deletePolicies", protocol, delegate.deletePolicies(policies));
+        }
+        return A1Client.super.deletePolicies(policies);
+    }
+
+    private static boolean isImplemented(A1Client client, String bulkOperation) {
+        try {
+            return client.getClass().getMethod(bulkOperation, Flux.class).getDeclaringClass() != A1Client.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+}
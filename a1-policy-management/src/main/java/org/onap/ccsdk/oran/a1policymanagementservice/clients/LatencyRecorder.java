@@ -0,0 +1,69 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Keeps the latest response times of the requests to a Near-RT RIC and
+ * calculates percentiles of them.
+ */
+class LatencyRecorder {
+    private static final int NO_OF_SAMPLES = 100;
+
+    private final int minNoOfSamples;
+
+    // The latest response times in nanoseconds, as a ring buffer
+    private final long[] latencies = new long[NO_OF_SAMPLES];
+    private int noOfLatencies = 0;
+    private int nextIndex = 0;
+
+    /**
+     * @param minNoOfSamples the number of response times needed before a
+     *        percentile is calculated
+     */
+    LatencyRecorder(int minNoOfSamples) {
+        this.minNoOfSamples = Math.min(minNoOfSamples, NO_OF_SAMPLES);
+    }
+
+    synchronized void record(long nanos) {
+        latencies[nextIndex] = nanos;
+        nextIndex = (nextIndex + 1) % latencies.length;
+        noOfLatencies = Math.min(noOfLatencies + 1, latencies.length);
+    }
+
+    /**
+     * @param percentile between 0 and 100
+     * @return the percentile of the latest response times, empty if too few
+     *         response times are recorded
+     */
+    synchronized Optional<Duration> getPercentile(int percentile) {
+        if (noOfLatencies == 0 || noOfLatencies < minNoOfSamples) {
+            return Optional.empty();
+        }
+        long[] sorted = Arrays.copyOf(latencies, noOfLatencies);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(noOfLatencies * Math.min(100, Math.max(1, percentile)) / 100.0) - 1;
+        return Optional.of(Duration.ofNanos(sorted[index]));
+    }
+}
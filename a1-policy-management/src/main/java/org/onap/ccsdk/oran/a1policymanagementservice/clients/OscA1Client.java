@@ -20,6 +20,8 @@
 
 package org.onap.ccsdk.oran.a1policymanagementservice.clients;
 
+import com.google.gson.JsonObject;
+
 import java.lang.invoke.MethodHandles;
 import java.net.URI;
 import java.net.URLEncoder;
@@ -27,7 +29,6 @@ import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Set;
 
-import org.json.JSONObject;
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.RicConfig;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.Policy;
 import org.slf4j.Logger;
@@ -41,7 +42,6 @@ import reactor.core.publisher.Mono;
  */
 @SuppressWarnings("squid:S2629") // Invoke method(s) only conditionally
 public class OscA1Client implements A1Client {
-    static final int CONCURRENCY_RIC = 1; // How many paralell requests that is sent to one NearRT RIC
 
     public static class UriBuilder implements A1UriBuilder {
         private final RicConfig ricConfig;
@@ -148,9 +148,8 @@ public class OscA1Client implements A1Client {
 
     public static Mono<String> extractCreateSchema(String policyTypeResponse, String policyTypeId) {
         try {
-            JSONObject obj = new JSONObject(policyTypeResponse);
-            JSONObject schemaObj = obj.getJSONObject("create_schema");
-            schemaObj.put(TITLE, policyTypeId);
+            JsonObject schemaObj = A1AdapterJsonHelper.getObjectField(policyTypeResponse, "create_schema");
+            schemaObj.addProperty(TITLE, policyTypeId);
             return Mono.just(schemaObj.toString());
         } catch (Exception e) {
             String exceptionString = e.toString();
@@ -200,7 +199,7 @@ public class OscA1Client implements A1Client {
     @Override
     public Flux<String> deleteAllPolicies(Set<String> excludePolicyIds) {
         return getPolicyTypeIds() //
-                .flatMap(typeId -> deletePoliciesForType(typeId, excludePolicyIds), CONCURRENCY_RIC);
+                .flatMap(typeId -> deletePoliciesForType(typeId, excludePolicyIds), getMaxConcurrency());
     }
 
     @Override
@@ -228,6 +227,12 @@ public class OscA1Client implements A1Client {
     private Flux<String> deletePoliciesForType(String typeId, Set<String> excludePolicyIds) {
         return getPolicyIdentitiesByType(typeId) //
                 .filter(policyId -> !excludePolicyIds.contains(policyId)) //
-                .flatMap(policyId -> deletePolicyById(typeId, policyId), CONCURRENCY_RIC);
+                .flatMap(policyId -> deletePolicyById(typeId, policyId), getMaxConcurrency());
+    }
+
+    // How many parallel requests that is sent to the NearRT RIC, the requests are limited by the rest client
+    @Override
+    public int getMaxConcurrency() {
+        return Math.max(1, restClient.getMaxConcurrency());
     }
 }
@@ -0,0 +1,270 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.ApplicationConfig;
+import org.onap.ccsdk.oran.a1policymanagementservice.repository.Policy;
+import org.onap.ccsdk.oran.a1policymanagementservice.repository.Ric;
+import org.onap.ccsdk.oran.a1policymanagementservice.repository.Ric.RicState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * A cache of the policy statuses read from the Near-RT RICs.
+ * <ul>
+ * <li>A status younger than the TTL is returned from the cache.</li>
+ * <li>An older status, within the max staleness, is also returned from the
+ * cache, but is refreshed in the background (stale while revalidate).</li>
+ * <li>Otherwise the status is read from the Near-RT RIC.</li>
+ * </ul>
+ * A status is not used after the policy is modified. The background refreshes
+ * are batched per Near-RT RIC, with a limited number of parallel requests per
+ * RIC. A RIC that is not AVAILABLE, for instance synchronizing, is not
+ * refreshed, its statuses are served from the cache as long as they are not
+ * too stale.
+ *
+ * <p>
+ * Statuses that are too stale to be used are evicted when statuses are added,
+ * at most once per TTL. The status of a deleted policy should be removed with
+ * {@link #remove(String)}.
+ *
+ * <p>
+ * The cache is disabled if the TTL is zero.
+ */
+@Component
+@SuppressWarnings("squid:S2629") // Invoke method(s) only conditionally
+public class PolicyStatusCache {
+    private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    public static final String REQUESTS_COUNTER = "policy_status_cache_requests";
+
+    private static final Duration REFRESH_BATCH_DELAY = Duration.ofMillis(100);
+    private static final int RIC_CONCURRENCY = 50; // Number of RICs refreshed in parallel
+
+    private static class Entry {
+        final String status;
+        final Instant policyLastModified;
+        final long readTime = System.nanoTime();
+
+        Entry(String status, Instant policyLastModified) {
+            this.status = status;
+            this.policyLastModified = policyLastModified;
+        }
+
+        Duration age() {
+            return Duration.ofNanos(System.nanoTime() - readTime);
+        }
+    }
+
+    private final A1ClientFactory a1ClientFactory;
+    private final Duration ttl;
+    private final Duration maxAge;
+    private final int refreshConcurrency;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Policy> pendingRefresh = new ConcurrentHashMap<>();
+    private final AtomicBoolean isRefreshScheduled = new AtomicBoolean(false);
+    private final AtomicLong nextEvictionTime = new AtomicLong(System.nanoTime());
+    private final Counter hitCounter;
+    private final Counter staleCounter;
+    private final Counter missCounter;
+
+    @Autowired
+    public PolicyStatusCache(ApplicationConfig appConfig, A1ClientFactory a1ClientFactory,
+            MeterRegistry meterRegistry) {
+        this(a1ClientFactory, Duration.ofSeconds(appConfig.getPolicyStatusCacheTtlSeconds()),
+                Duration.ofSeconds(appConfig.getPolicyStatusCacheMaxStaleSeconds()),
+                appConfig.getPolicyStatusCacheRefreshConcurrency(), meterRegistry);
+    }
+
+    PolicyStatusCache(A1ClientFactory a1ClientFactory, Duration ttl, Duration maxStale, int refreshConcurrency,
+            MeterRegistry meterRegistry) {
+        this.a1ClientFactory = a1ClientFactory;
+        this.ttl = ttl;
+        this.maxAge = ttl.plus(maxStale);
+        this.refreshConcurrency = Math.max(1, refreshConcurrency);
+        this.hitCounter = createCounter("hit", meterRegistry);
+        this.staleCounter = createCounter("stale", meterRegistry);
+        this.missCounter = createCounter("miss", meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return !ttl.isZero() && !ttl.isNegative();
+    }
+
+    /**
+     * Gets the status of a policy.
+     *
+     * @param policy the policy
+     * @param statusRequest reads the status from the Near-RT RIC, used when there is
+     *        no usable status in the cache. If it is empty, nothing is cached.
+     * @return the status
+     */
+    public Mono<String> getStatus(Policy policy, Mono<String> statusRequest) {
+        if (!isEnabled()) {
+            return statusRequest;
+        }
+        Entry entry = getEntry(policy);
+        if (entry != null && entry.age().compareTo(ttl) <= 0) {
+            hitCounter.increment();
+            return Mono.just(entry.status);
+        } else if (entry != null && entry.age().compareTo(maxAge) <= 0) {
+            staleCounter.increment();
+            scheduleRefresh(policy);
+            return Mono.just(entry.status);
+        }
+        missCounter.increment();
+        return statusRequest //
+                .doOnNext(status -> put(policy, status));
+    }
+
+    /**
+     * @return the number of cached statuses
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes the cached status of a policy, to be invoked when the policy is
+     * deleted.
+     *
+     * @param policyId the identity of the policy
+     */
+    public void remove(String policyId) {
+        entries.remove(policyId);
+        pendingRefresh.remove(policyId);
+    }
+
+    /**
+     * Removes all cached statuses.
+     */
+    public void clear() {
+        entries.clear();
+        pendingRefresh.clear();
+    }
+
+    /**
+     * Refreshes the statuses that are requested to be refreshed.
+     *
+     * @return the identities of the refreshed policies
+     */
+    Flux<String> refreshPending() {
+        isRefreshScheduled.set(false);
+        removeExpired();
+        Map<String, List<Policy>> policiesPerRic = new HashMap<>();
+        for (String policyId : pendingRefresh.keySet()) {
+            Policy policy = pendingRefresh.remove(policyId);
+            if (policy != null) {
+                policiesPerRic.computeIfAbsent(policy.getRic().id(), ricId -> new ArrayList<>()).add(policy);
+            }
+        }
+        return Flux.fromIterable(policiesPerRic.values()) //
+                .flatMap(this::refresh, RIC_CONCURRENCY) //
+                .contextWrite(RequestPriority.SUPERVISION.toContext());
+    }
+
+    private Flux<String> refresh(Collection<Policy> policies) {
+        Ric ric = policies.iterator().next().getRic();
+        if (ric.getState() != RicState.AVAILABLE) {
+            logger.debug("Policy statuses not refreshed, ric: {}, state: {}", ric.id(), ric.getState());
+            return Flux.empty();
+        }
+        return a1ClientFactory.createA1Client(ric) //
+                .flatMapMany(client -> Flux.fromIterable(policies) //
+                        .flatMap(policy -> refresh(client, policy), refreshConcurrency)) //
+                .doOnError(t -> logger.debug("Policy statuses not refreshed, ric: {}, reason: {}", ric.id(),
+                        t.getMessage())) //
+                .onErrorResume(t -> Flux.empty());
+    }
+
+    private Mono<String> refresh(A1Client client, Policy policy) {
+        return client.getPolicyStatus(policy) //
+                .doOnNext(status -> put(policy, status)) //
+                .map(status -> policy.getId()) //
+                .doOnError(t -> logger.debug("Policy status not refreshed, policy: {}, reason: {}", policy.getId(),
+                        t.getMessage())) //
+                .onErrorResume(t -> Mono.empty());
+    }
+
+    private void scheduleRefresh(Policy policy) {
+        pendingRefresh.put(policy.getId(), policy);
+        if (isRefreshScheduled.compareAndSet(false, true)) {
+            Mono.delay(REFRESH_BATCH_DELAY) //
+                    .flatMapMany(x -> refreshPending()) //
+                    .count() //
+                    .subscribe(count -> logger.debug("Refreshed {} policy statuses", count));
+        }
+    }
+
+    private Entry getEntry(Policy policy) {
+        Entry entry = entries.get(policy.getId());
+        if (entry != null && !Objects.equals(entry.policyLastModified, policy.getLastModified())) {
+            entries.remove(policy.getId(), entry);
+            return null;
+        }
+        return entry;
+    }
+
+    private void put(Policy policy, String status) {
+        entries.put(policy.getId(), new Entry(status, policy.getLastModified()));
+        removeExpiredIfDue();
+    }
+
+    private void removeExpiredIfDue() {
+        long now = System.nanoTime();
+        long next = nextEvictionTime.get();
+        if (now - next >= 0 && nextEvictionTime.compareAndSet(next, now + ttl.toNanos())) {
+            removeExpired();
+        }
+    }
+
+    private void removeExpired() {
+        entries.values().removeIf(entry -> entry.age().compareTo(maxAge) > 0);
+    }
+
+    private static Counter createCounter(String result, MeterRegistry meterRegistry) {
+        return Counter.builder(REQUESTS_COUNTER) //
+                .description("The number of policy status requests, per result of the cache lookup") //
+                .tag("result", result) //
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,100 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
+
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.A1Client.A1ProtocolType;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.ApplicationConfig;
+import org.onap.ccsdk.oran.a1policymanagementservice.datastore.DataStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Persistent storage of the A1 protocol version detected for each Near-RT RIC,
+ * so that the version does not have to be probed for again after a restart.
+ */
+class ProtocolVersionStore {
+    private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+    private static final Gson gson = new GsonBuilder().create();
+
+    private static class StoredVersion {
+        A1ProtocolType protocolVersion;
+    }
+
+    // The store is created at first usage, when the database (if used) is available
+    private final Mono<DataStore> dataStore;
+
+    ProtocolVersionStore(ApplicationConfig appConfig, MeterRegistry meterRegistry) {
+        this(Mono.fromCallable(() -> DataStore.create(appConfig, "rics", meterRegistry)));
+    }
+
+    ProtocolVersionStore(Mono<DataStore> dataStoreCreator) {
+        this.dataStore = dataStoreCreator //
+                .flatMap(store -> store.createDataStore() //
+                        .onErrorResume(t -> Mono.just("")) //
+                        .thenReturn(store)) //
+                .doOnError(t -> logger.warn("Protocol versions will not be stored, reason: {}", t.getMessage())) //
+                .onErrorResume(t -> Mono.empty()) //
+                .cache();
+    }
+
+    /**
+     * Gets the stored protocol version for a RIC.
+     *
+     * @return the stored version or empty if there is none
+     */
+    Mono<A1ProtocolType> get(String ricId) {
+        return dataStore.flatMap(store -> store.readObject(getPath(ricId))) //
+                .map(bytes -> new String(bytes, StandardCharsets.UTF_8)) //
+                .mapNotNull(json -> gson.fromJson(json, StoredVersion.class)) //
+                .mapNotNull(stored -> stored.protocolVersion) //
+                .onErrorResume(t -> Mono.empty());
+    }
+
+    void put(String ricId, A1ProtocolType version) {
+        StoredVersion stored = new StoredVersion();
+        stored.protocolVersion = version;
+        byte[] bytes = gson.toJson(stored).getBytes(StandardCharsets.UTF_8);
+        dataStore.flatMap(store -> store.writeObject(getPath(ricId), bytes)) //
+                .doOnError(t -> logger.warn("Could not store protocol version for RIC: {} {}", ricId, t.getMessage()))
+                .onErrorResume(t -> Mono.empty()) //
+                .subscribe();
+    }
+
+    void remove(String ricId) {
+        dataStore.flatMap(store -> store.deleteObject(getPath(ricId))) //
+                .onErrorResume(t -> Mono.empty()) //
+                .subscribe();
+    }
+
+    private String getPath(String ricId) {
+        return ricId + ".json";
+    }
+}
@@ -0,0 +1,122 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+/**
+ * Coalesces concurrent identical GET requests to one Near-RT RIC (single
+ * flight). A GET request for a URI that is already requested from the RIC is
+ * not sent, it gets the response (or error) of the ongoing request instead.
+ * Only ongoing requests are shared, no responses are cached.
+ *
+ * <p>
+ * The shared request is executed with the Reactor context of the request that
+ * started it, meaning its priority and deadline. Therefore, only requests with
+ * the same priority and with about the same deadline are coalesced.
+ *
+ * <p>
+ * The ongoing request is cancelled only when all requests sharing it are
+ * cancelled.
+ */
+public class RequestCoalescer implements AsyncRestClient.RequestFilter {
+
+    public static final String REQUESTS_COUNTER = "ric_get_requests";
+    public static final String COALESCED_COUNTER = "ric_coalesced_get_requests";
+
+    // Requests with deadlines within the same interval of this length can be coalesced
+    private static final long DEADLINE_BUCKET_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private final Map<String, Mono<ResponseEntity<String>>> ongoing = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final Counter requestsCounter;
+    private final Counter coalescedCounter;
+    private final List<Meter> meters;
+
+    public RequestCoalescer(String ricId, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.requestsCounter = Counter.builder(REQUESTS_COUNTER) //
+                .description("The number of GET requests to a Near-RT RIC, including the coalesced ones") //
+                .tag("ric_id", ricId) //
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder(COALESCED_COUNTER) //
+                .description("The number of GET requests to a Near-RT RIC that shared an ongoing request") //
+                .tag("ric_id", ricId) //
+                .register(meterRegistry);
+        this.meters = List.of(requestsCounter, coalescedCounter);
+    }
+
+    @Override
+    public Mono<ResponseEntity<String>> filter(HttpMethod method, String uri,
+            Mono<ResponseEntity<String>> exchange) {
+        if (!HttpMethod.GET.equals(method)) {
+            return exchange;
+        }
+        return Mono.deferContextual(context -> {
+            requestsCounter.increment();
+            boolean[] isNew = {false};
+            Mono<ResponseEntity<String>> shared = ongoing.computeIfAbsent(key(uri, context), key -> {
+                isNew[0] = true;
+                return exchange //
+                        .doFinally(signal -> ongoing.remove(key)) //
+                        .share();
+            });
+            if (!isNew[0]) {
+                coalescedCounter.increment();
+            }
+            return shared;
+        });
+    }
+
+    private static String key(String uri, ContextView context) {
+        String deadlineBucket = RequestDeadline.getDeadline(context) //
+                .map(deadline -> Long.toString(Math.floorDiv(deadline, DEADLINE_BUCKET_NANOS))) //
+                .orElse("none");
+        return RequestPriority.of(context) + ":" + deadlineBucket + ":" + uri;
+    }
+
+    /**
+     * @return the number of ongoing requests
+     */
+    public int getNoOfOngoing() {
+        return ongoing.size();
+    }
+
+    /**
+     * Removes the meters of this filter.
+     */
+    public void close() {
+        meters.forEach(meterRegistry::remove);
+    }
+}
@@ -0,0 +1,90 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.onap.ccsdk.oran.a1policymanagementservice.exceptions.ServiceException;
+import org.springframework.http.HttpStatus;
+
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * The deadline of a request, carried in the Reactor context. A northbound
+ * request gets a deadline, which is inherited by the southbound requests done
+ * on its behalf. A southbound request is not started, or is cancelled, when the
+ * deadline is passed.
+ */
+public final class RequestDeadline {
+
+    private static final String CONTEXT_KEY = RequestDeadline.class.getName();
+
+    /**
+     * The deadline of a request is passed.
+     */
+    public static class DeadlineExceededException extends ServiceException {
+        private static final long serialVersionUID = 1L;
+
+        public DeadlineExceededException(String message) {
+            super(message, HttpStatus.GATEWAY_TIMEOUT);
+        }
+    }
+
+    private RequestDeadline() {}
+
+    /**
+     * Sets the deadline of a request, to be used with contextWrite. An earlier
+     * deadline that is already set is kept.
+     *
+     * @param timeout the time from now until the deadline
+     * @return a context modifier
+     */
+    public static Function<Context, Context> within(Duration timeout) {
+        return context -> {
+            long deadline = System.nanoTime() + timeout.toNanos();
+            Optional<Long> existing = context.getOrEmpty(CONTEXT_KEY);
+            if (existing.isPresent() && existing.get() - deadline < 0) {
+                return context;
+            }
+            return context.put(CONTEXT_KEY, deadline);
+        };
+    }
+
+    /**
+     * @return the deadline, in the time base of System.nanoTime(), or empty if
+     *         there is no deadline
+     */
+    static Optional<Long> getDeadline(ContextView context) {
+        return context.getOrEmpty(CONTEXT_KEY);
+    }
+
+    /**
+     * @return the time left until the deadline, which is negative if the
+     *         deadline is passed, or empty if there is no deadline
+     */
+    public static Optional<Duration> getTimeLeft(ContextView context) {
+        Optional<Long> deadline = context.getOrEmpty(CONTEXT_KEY);
+        return deadline.map(d -> Duration.ofNanos(d - System.nanoTime()));
+    }
+}
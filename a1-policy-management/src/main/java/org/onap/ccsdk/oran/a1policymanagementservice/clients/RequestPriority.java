@@ -0,0 +1,64 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * The priority class of a request to a Near-RT RIC, carried in the Reactor
+ * context. When requests to a RIC are queued, each class gets a share of the
+ * RIC's capacity in proportion to its weight. Requests without a priority, for
+ * instance the ones made for northbound requests, are INTERACTIVE.
+ */
+public enum RequestPriority {
+    INTERACTIVE(8), // Made on behalf of a northbound request
+    SUPERVISION(4), // Regular checks of the RICs and refresh of cached data
+    SYNCHRONIZATION(2), // Synchronization of a RIC
+    CLEANUP(1); // Removal of policies of expired services
+
+    private static final String CONTEXT_KEY = RequestPriority.class.getName();
+
+    private final int weight;
+
+    RequestPriority(int weight) {
+        this.weight = weight;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    /**
+     * @return a context that gives this priority to requests, to be used with
+     *         contextWrite
+     */
+    public Context toContext() {
+        return Context.of(CONTEXT_KEY, this);
+    }
+
+    /**
+     * @return the priority of the requests in the given context
+     */
+    public static RequestPriority of(ContextView context) {
+        return context.getOrDefault(CONTEXT_KEY, INTERACTIVE);
+    }
+}
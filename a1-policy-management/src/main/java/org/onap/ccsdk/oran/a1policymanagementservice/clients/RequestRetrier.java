@@ -0,0 +1,243 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.RetryConfig;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Retries failed idempotent requests (GET, PUT and DELETE) to one Near-RT RIC.
+ * A request is retried if it could not be sent, if it timed out, or if the RIC
+ * responded with 429 or a 5xx status (except 501). A request timed out by the
+ * adaptive timeout is not retried, since the RIC is then already slow. The
+ * backoff before each retry grows exponentially and is randomized with full
+ * jitter. The Retry-After header of a 429 response is the minimum backoff. A
+ * retry that would be started after the deadline of the request is not done.
+ *
+ * <p>
+ * The retries are limited by a retry budget for the RIC. Each request adds a
+ * fraction of a token to the budget and each retry takes a whole token, so
+ * that a RIC that fails all requests gets at most the configured percentage of
+ * extra load.
+ *
+ * <p>
+ * Optionally, a GET request is hedged: if it is not answered within the 95th
+ * percentile of the latest response times, a second identical request is sent
+ * and the first response is used. Hedged requests are taken from the same
+ * budget.
+ */
+public class RequestRetrier implements AsyncRestClient.RequestFilter {
+
+    public static final String RETRIES_COUNTER = "ric_request_retries";
+    public static final String HEDGED_COUNTER = "ric_hedged_requests";
+    public static final String BUDGET_EXHAUSTED_COUNTER = "ric_retry_budget_exhausted";
+
+    // The budget can be saved up to this number of retries
+    private static final double MAX_BUDGET_TOKENS = 10;
+    private static final int MIN_NO_OF_LATENCY_SAMPLES = 20;
+
+    private final RetryConfig config;
+    private final MeterRegistry meterRegistry;
+    private final Counter retriesCounter;
+    private final Counter hedgedCounter;
+    private final Counter budgetExhaustedCounter;
+    private final List<Meter> meters;
+
+    private final LatencyRecorder latencies = new LatencyRecorder(MIN_NO_OF_LATENCY_SAMPLES);
+    private double budgetTokens = MAX_BUDGET_TOKENS;
+
+    public RequestRetrier(String ricId, RetryConfig config, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+        this.retriesCounter = Counter.builder(RETRIES_COUNTER) //
+                .description("The number of retried requests to a Near-RT RIC") //
+                .tag("ric_id", ricId) //
+                .register(meterRegistry);
+        this.hedgedCounter = Counter.builder(HEDGED_COUNTER) //
+                .description("The number of hedged GET requests sent to a Near-RT RIC") //
+                .tag("ric_id", ricId) //
+                .register(meterRegistry);
+        this.budgetExhaustedCounter = Counter.builder(BUDGET_EXHAUSTED_COUNTER) //
+                .description("The number of retries to a Near-RT RIC not done since the retry budget is exhausted") //
+                .tag("ric_id", ricId) //
+                .register(meterRegistry);
+        this.meters = List.of(retriesCounter, hedgedCounter, budgetExhaustedCounter);
+    }
+
+    @Override
+    public Mono<ResponseEntity<String>> filter(HttpMethod method, String uri,
+            Mono<ResponseEntity<String>> exchange) {
+        if (!isIdempotent(method)) {
+            return exchange;
+        }
+        Mono<ResponseEntity<String>> attempt = timed(exchange);
+        if (HttpMethod.GET.equals(method) && config.isHedgingEnabled()) {
+            attempt = hedged(attempt);
+        }
+        final Mono<ResponseEntity<String>> singleAttempt = attempt;
+        return Mono.defer(() -> {
+            depositBudget();
+            return withRetries(singleAttempt, 1);
+        });
+    }
+
+    /**
+     * Removes the meters of this filter.
+     */
+    public void close() {
+        meters.forEach(meterRegistry::remove);
+    }
+
+    private Mono<ResponseEntity<String>> withRetries(Mono<ResponseEntity<String>> attempt, int attemptNo) {
+        return attempt.onErrorResume(t -> {
+            if (attemptNo >= config.getMaxAttempts() || !isRetryable(t)) {
+                return Mono.error(t);
+            }
+            if (!withdrawBudget()) {
+                budgetExhaustedCounter.increment();
+                return Mono.error(t);
+            }
+            return Mono.deferContextual(context -> {
+                Duration delay = backoff(attemptNo, retryAfter(t));
+                Optional<Duration> timeLeft = RequestDeadline.getTimeLeft(context);
+                if (timeLeft.isPresent() && delay.compareTo(timeLeft.get()) >= 0) {
+                    return Mono.error(t);
+                }
+                retriesCounter.increment();
+                return Mono.delay(delay) //
+                        .then(withRetries(attempt, attemptNo + 1));
+            });
+        });
+    }
+
+    private Mono<ResponseEntity<String>> hedged(Mono<ResponseEntity<String>> attempt) {
+        return Mono.defer(() -> {
+            Mono<ResponseEntity<String>> hedge = Mono.delay(hedgeDelay()) //
+                    .flatMap(x -> {
+                        if (!withdrawBudget()) {
+                            return Mono.never();
+                        }
+                        hedgedCounter.increment();
+                        // A failed hedged request is ignored, the error of the first request is used
+                        return attempt.onErrorResume(t -> Mono.never());
+                    });
+            return Mono.firstWithSignal(attempt, hedge);
+        });
+    }
+
+    private Mono<ResponseEntity<String>> timed(Mono<ResponseEntity<String>> exchange) {
+        return Mono.defer(() -> {
+            long startTime = System.nanoTime();
+            return exchange.doOnSuccess(resp -> latencies.record(System.nanoTime() - startTime));
+        });
+    }
+
+    Duration backoff(int attemptNo) {
+        long maxMillis = config.getMaxBackoff().toMillis();
+        long backoffMillis = Math.min(maxMillis, config.getInitialBackoff().toMillis() << Math.min(attemptNo - 1, 30));
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(Math.max(0, backoffMillis) + 1));
+    }
+
+    private Duration backoff(int attemptNo, Optional<Duration> retryAfter) {
+        Duration backoff = backoff(attemptNo);
+        return retryAfter.filter(minDelay -> minDelay.compareTo(backoff) > 0).orElse(backoff);
+    }
+
+    /**
+     * @return the delay requested by the Retry-After header of a 429 response,
+     *         given as seconds or as a date
+     */
+    static Optional<Duration> retryAfter(Throwable t) {
+        if (!(t instanceof WebClientResponseException responseException)
+                || responseException.getStatusCode().value() != HttpStatus.TOO_MANY_REQUESTS.value()) {
+            return Optional.empty();
+        }
+        String value = responseException.getHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim()))));
+        } catch (NumberFormatException e) {
+            // Not a number of seconds, an HTTP date
+        }
+        try {
+            ZonedDateTime retryTime = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            Duration delay = Duration.between(ZonedDateTime.now(retryTime.getZone()), retryTime);
+            return Optional.of(delay.isNegative() ? Duration.ZERO : delay);
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    Duration hedgeDelay() {
+        Duration minDelay = config.getHedgeMinDelay();
+        return latencies.getPercentile(95) //
+                .filter(p95 -> p95.compareTo(minDelay) > 0) //
+                .orElse(minDelay);
+    }
+
+    private synchronized void depositBudget() {
+        budgetTokens = Math.min(MAX_BUDGET_TOKENS, budgetTokens + config.getBudgetPercent() / 100.0);
+    }
+
+    private synchronized boolean withdrawBudget() {
+        if (budgetTokens < 1) {
+            return false;
+        }
+        budgetTokens -= 1;
+        return true;
+    }
+
+    private static boolean isIdempotent(HttpMethod method) {
+        return HttpMethod.GET.equals(method) || HttpMethod.PUT.equals(method) || HttpMethod.DELETE.equals(method);
+    }
+
+    private static boolean isRetryable(Throwable t) {
+        if (t instanceof WebClientResponseException responseException) {
+            int status = responseException.getStatusCode().value();
+            return status == HttpStatus.TOO_MANY_REQUESTS.value()
+                    || (status >= 500 && status != HttpStatus.NOT_IMPLEMENTED.value());
+        }
+        return t instanceof WebClientRequestException
+                || (t instanceof TimeoutException && !(t instanceof AdaptiveTimeout.RequestTimeoutException));
+    }
+}
@@ -27,6 +27,7 @@ import java.nio.file.Path;
 
 import lombok.Setter;
 
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.IoScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -34,6 +35,8 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import reactor.core.publisher.Mono;
+
 @EnableConfigurationProperties
 @ConfigurationProperties()
 @Component
@@ -58,6 +61,15 @@ public class SecurityContext {
         return authTokenFilePath != null;
     }
 
+    /**
+     * Gets the token. The token file is read on the I/O scheduler, only when it
+     * has been modified.
+     */
+    public Mono<String> getBearerAuthTokenAsync() {
+        return Mono.fromCallable(this::getBearerAuthToken) //
+                .subscribeOn(IoScheduler.get());
+    }
+
     public synchronized String getBearerAuthToken() {
         if (!isConfigured()) {
             return "";
@@ -144,7 +144,7 @@ public class StdA1ClientVersion1 implements A1Client {
     public Flux<String> deleteAllPolicies(Set<String> excludePolicyIds) {
         return getPolicyIds() //
                 .filter(policyId -> !excludePolicyIds.contains(policyId)) //
-                .flatMap(this::deletePolicyById); //
+                .flatMap(this::deletePolicyById, getMaxConcurrency()); //
     }
 
     @Override
@@ -166,4 +166,10 @@ public class StdA1ClientVersion1 implements A1Client {
     private Mono<String> deletePolicyById(String policyId) {
         return restClient.delete(uri.createDeleteUri("", policyId));
     }
+
+    // How many parallel requests that is sent to the NearRT RIC, the requests are limited by the rest client
+    @Override
+    public int getMaxConcurrency() {
+        return Math.max(1, restClient.getMaxConcurrency());
+    }
 }
@@ -20,11 +20,12 @@
 
 package org.onap.ccsdk.oran.a1policymanagementservice.clients;
 
+import com.google.gson.JsonObject;
+
 import java.lang.invoke.MethodHandles;
 import java.util.List;
 import java.util.Set;
 
-import org.json.JSONObject;
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.RicConfig;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.Policy;
 import org.slf4j.Logger;
@@ -40,7 +41,6 @@ import reactor.core.publisher.Mono;
  */
 @SuppressWarnings("squid:S2629") // Invoke method(s) only conditionally
 public class StdA1ClientVersion2 implements A1Client {
-    static final int CONCURRENCY_RIC = 1; // How many parallel requests that is sent to one NearRT RIC
 
     public static class Factory implements A1Client.Factory {
         @Override
@@ -143,9 +143,8 @@ public class StdA1ClientVersion2 implements A1Client {
 
     public static Mono<String> extractPolicySchema(String policyTypeResponse, String policyTypeId) {
         try {
-            JSONObject obj = new JSONObject(policyTypeResponse);
-            JSONObject schemaObj = obj.getJSONObject("policySchema");
-            schemaObj.put(TITLE, policyTypeId);
+            JsonObject schemaObj = A1AdapterJsonHelper.getObjectField(policyTypeResponse, "policySchema");
+            schemaObj.addProperty(TITLE, policyTypeId);
             return Mono.just(schemaObj.toString());
         } catch (Exception e) {
             String exceptionString = e.toString();
@@ -195,7 +194,7 @@ public class StdA1ClientVersion2 implements A1Client {
     @Override
     public Flux<String> deleteAllPolicies(Set<String> excludePolicyIds) {
         return getPolicyTypeIds() //
-                .flatMap(typeId -> deleteAllPoliciesForType(typeId, excludePolicyIds), CONCURRENCY_RIC);
+                .flatMap(typeId -> deleteAllPoliciesForType(typeId, excludePolicyIds), getMaxConcurrency());
     }
 
     @Override
@@ -222,6 +221,12 @@ public class StdA1ClientVersion2 implements A1Client {
     private Flux<String> deleteAllPoliciesForType(String typeId, Set<String> excludePolicyIds) {
         return getPolicyIdentitiesByType(typeId) //
                 .filter(policyId -> !excludePolicyIds.contains(policyId)) //
-                .flatMap(policyId -> deletePolicyById(typeId, policyId), CONCURRENCY_RIC);
+                .flatMap(policyId -> deletePolicyById(typeId, policyId), getMaxConcurrency());
+    }
+
+    // How many parallel requests that is sent to the NearRT RIC, the requests are limited by the rest client
+    @Override
+    public int getMaxConcurrency() {
+        return Math.max(1, restClient.getMaxConcurrency());
     }
 }
@@ -0,0 +1,105 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * A queue with one FIFO per request priority, polled with stride scheduling.
+ * When several priorities have queued items, each one is polled in proportion
+ * to its weight, so that a low priority is never starved. A priority that has
+ * been idle does not gain any credit for the time it was idle.
+ *
+ * <p>
+ * Not thread safe.
+ */
+class WeightedFairQueue<T> {
+
+    private static class ClassQueue<T> {
+        final Queue<T> items = new ArrayDeque<>();
+        final double stride;
+        double pass = 0;
+
+        ClassQueue(RequestPriority priority) {
+            this.stride = 1.0 / priority.getWeight();
+        }
+    }
+
+    private final Map<RequestPriority, ClassQueue<T>> queues = new EnumMap<>(RequestPriority.class);
+    private double virtualTime = 0;
+    private int size = 0;
+
+    WeightedFairQueue() {
+        for (RequestPriority priority : RequestPriority.values()) {
+            queues.put(priority, new ClassQueue<>(priority));
+        }
+    }
+
+    void add(RequestPriority priority, T item) {
+        ClassQueue<T> queue = queues.get(priority);
+        if (queue.items.isEmpty()) {
+            queue.pass = Math.max(queue.pass, virtualTime);
+        }
+        queue.items.add(item);
+        size++;
+    }
+
+    /**
+     * @return the next item, or null if the queue is empty
+     */
+    T poll() {
+        ClassQueue<T> next = null;
+        // The priorities are iterated in order, so a tie is won by the higher one
+        for (ClassQueue<T> queue : queues.values()) {
+            if (!queue.items.isEmpty() && (next == null || queue.pass < next.pass)) {
+                next = queue;
+            }
+        }
+        if (next == null) {
+            return null;
+        }
+        virtualTime = next.pass;
+        next.pass += next.stride;
+        size--;
+        return next.items.poll();
+    }
+
+    boolean remove(T item) {
+        for (ClassQueue<T> queue : queues.values()) {
+            if (queue.items.remove(item)) {
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size(RequestPriority priority) {
+        return queues.get(priority).items.size();
+    }
+}
@@ -23,12 +23,14 @@
 package org.onap.ccsdk.oran.a1policymanagementservice.configuration;
 
 import com.google.common.base.Strings;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.Getter;
 import lombok.Setter;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.WebClientConfig.ConnectionPoolConfig;
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.WebClientConfig.HttpProxyConfig;
 import org.onap.ccsdk.oran.a1policymanagementservice.exceptions.ServiceException;
 import org.springframework.beans.factory.annotation.Value;
@@ -43,6 +45,14 @@ public class ApplicationConfig {
     @Value("${app.filepath:null}")
     private String localConfigurationFilePath;
 
+    @Getter
+    @Value("${app.config-file-watch.enabled:true}")
+    private boolean configFileWatchEnabled = true;
+
+    @Getter
+    @Value("${app.config-file-watch.debounce-millis:500}")
+    private long configFileWatchDebounceMillis = 500;
+
     @Getter
     @Value("${app.config-file-schema-path:null}")
     private String configurationFileSchemaPath;
@@ -85,6 +95,36 @@ public class ApplicationConfig {
     @Value("${app.webclient.http.proxy-type:HTTP}")
     private String httpProxyType = "HTTP";
 
+    @Value("${app.webclient.connect-timeout-seconds:10}")
+    private int webClientConnectTimeoutSeconds = 10;
+
+    @Value("${app.webclient.read-write-timeout-seconds:30}")
+    private int webClientReadWriteTimeoutSeconds = 30;
+
+    @Value("${app.webclient.http2-enabled:false}")
+    private boolean webClientHttp2Enabled = false;
+
+    @Value("${app.webclient.max-response-size-bytes:16777216}")
+    private int webClientMaxResponseSize = 16777216;
+
+    @Value("${app.webclient.pool.max-connections:50}")
+    private int poolMaxConnections = 50;
+
+    @Value("${app.webclient.pool.pending-acquire-max-count:1000}")
+    private int poolPendingAcquireMaxCount = 1000;
+
+    @Value("${app.webclient.pool.pending-acquire-timeout-seconds:45}")
+    private int poolPendingAcquireTimeoutSeconds = 45;
+
+    @Value("${app.webclient.pool.max-idle-time-seconds:60}")
+    private int poolMaxIdleTimeSeconds = 60;
+
+    @Value("${app.webclient.pool.max-life-time-seconds:600}")
+    private int poolMaxLifeTimeSeconds = 600;
+
+    @Value("${app.webclient.pool.eviction-interval-seconds:30}")
+    private int poolEvictionIntervalSeconds = 30;
+
     @Getter
     @Value("${app.s3.endpointOverride:}")
     private String s3EndpointOverride;
@@ -101,6 +141,9 @@ public class ApplicationConfig {
     @Value("${app.s3.bucket:}")
     private String s3Bucket;
 
+    @Value("${app.s3.local-cache-enabled:false}")
+    private boolean s3LocalCacheEnabled = false;
+
     @Getter
     @Setter
     @Value("${app.authorization-provider:}")
@@ -127,6 +170,143 @@ public class ApplicationConfig {
     @Value("${app.validate-policy-instance-schema:NONE}")
     private ValidateSchema validatePolicyInstanceSchema;
 
+    @Getter
+    @Value("${app.a1-concurrency.initial-limit:2}")
+    private int a1ConcurrencyInitialLimit = 2;
+
+    @Getter
+    @Value("${app.a1-concurrency.min-limit:1}")
+    private int a1ConcurrencyMinLimit = 1;
+
+    @Getter
+    @Value("${app.a1-concurrency.max-limit:10}")
+    private int a1ConcurrencyMaxLimit = 10;
+
+    @Getter
+    @Value("${app.a1-rate-limit.requests-per-second:0}")
+    private double a1RateLimitRequestsPerSecond = 0;
+
+    @Getter
+    @Value("${app.a1-rate-limit.burst:10}")
+    private int a1RateLimitBurst = 10;
+
+    @Getter
+    @Value("${app.ric-supervision.interval-seconds:60}")
+    private int ricSupervisionIntervalSeconds = 60;
+
+    @Getter
+    @Value("${app.ric-supervision.max-interval-seconds:600}")
+    private int ricSupervisionMaxIntervalSeconds = 600;
+
+    @Getter
+    @Value("${app.ric-supervision.max-concurrency:50}")
+    private int ricSupervisionMaxConcurrency = 50;
+
+    @Getter
+    @Value("${app.ric-write-queue.max-size:100}")
+    private int ricWriteQueueMaxSize = 100;
+
+    @Getter
+    @Value("${app.ric-write-queue.timeout-seconds:30}")
+    private int ricWriteQueueTimeoutSeconds = 30;
+
+    @Getter
+    @Value("${app.a1-request-coalescing.enabled:true}")
+    private boolean a1RequestCoalescingEnabled = true;
+
+    @Getter
+    @Value("${app.policy-status-cache.ttl-seconds:0}")
+    private int policyStatusCacheTtlSeconds = 0;
+
+    @Getter
+    @Value("${app.policy-status-cache.max-stale-seconds:60}")
+    private int policyStatusCacheMaxStaleSeconds = 60;
+
+    @Getter
+    @Value("${app.policy-status-cache.refresh-concurrency:2}")
+    private int policyStatusCacheRefreshConcurrency = 2;
+
+    @Value("${app.a1-circuit-breaker.enabled:true}")
+    private boolean circuitBreakerEnabled = true;
+
+    @Value("${app.a1-circuit-breaker.sliding-window-size:20}")
+    private int circuitBreakerSlidingWindowSize = 20;
+
+    @Value("${app.a1-circuit-breaker.minimum-number-of-calls:10}")
+    private int circuitBreakerMinimumNumberOfCalls = 10;
+
+    @Value("${app.a1-circuit-breaker.failure-rate-threshold:50}")
+    private int circuitBreakerFailureRateThreshold = 50;
+
+    @Value("${app.a1-circuit-breaker.slow-call-duration-threshold-seconds:10}")
+    private int circuitBreakerSlowCallDurationThresholdSeconds = 10;
+
+    @Value("${app.a1-circuit-breaker.slow-call-rate-threshold:80}")
+    private int circuitBreakerSlowCallRateThreshold = 80;
+
+    @Value("${app.a1-circuit-breaker.wait-duration-in-open-state-seconds:30}")
+    private int circuitBreakerWaitDurationInOpenStateSeconds = 30;
+
+    @Value("${app.a1-circuit-breaker.permitted-calls-in-half-open-state:3}")
+    private int circuitBreakerPermittedCallsInHalfOpenState = 3;
+
+    @Value("${app.a1-retry.enabled:true}")
+    private boolean retryEnabled = true;
+
+    @Value("${app.a1-retry.max-attempts:3}")
+    private int retryMaxAttempts = 3;
+
+    @Value("${app.a1-retry.initial-backoff-millis:100}")
+    private int retryInitialBackoffMillis = 100;
+
+    @Value("${app.a1-retry.max-backoff-millis:2000}")
+    private int retryMaxBackoffMillis = 2000;
+
+    @Value("${app.a1-retry.budget-percent:20}")
+    private int retryBudgetPercent = 20;
+
+    @Value("${app.a1-retry.hedging-enabled:false}")
+    private boolean retryHedgingEnabled = false;
+
+    @Value("${app.a1-retry.hedge-min-delay-millis:500}")
+    private int retryHedgeMinDelayMillis = 500;
+
+    @Getter
+    @Value("${app.a1-timeout.adaptive-enabled:true}")
+    private boolean a1TimeoutAdaptiveEnabled = true;
+
+    @Getter
+    @Value("${app.a1-timeout.min-millis:1000}")
+    private int a1TimeoutMinMillis = 1000;
+
+    @Getter
+    @Value("${app.a1-timeout.max-millis:30000}")
+    private int a1TimeoutMaxMillis = 30000;
+
+    @Getter
+    @Value("${app.a1-timeout.percentile:99}")
+    private int a1TimeoutPercentile = 99;
+
+    @Getter
+    @Value("${app.a1-timeout.multiplier:3}")
+    private double a1TimeoutMultiplier = 3;
+
+    @Getter
+    @Value("${app.northbound-request-timeout-seconds:60}")
+    private int northboundRequestTimeoutSeconds = 60;
+
+    @Getter
+    @Value("${app.io-scheduler.max-threads:0}")
+    private int ioSchedulerMaxThreads = 0;
+
+    @Getter
+    @Value("${app.io-scheduler.max-queued-tasks:0}")
+    private int ioSchedulerMaxQueuedTasks = 0;
+
+    @Getter
+    @Value("${app.io-scheduler.virtual-threads:false}")
+    private boolean ioSchedulerVirtualThreads = false;
+
     private Map<String, RicConfig> ricConfigs = new HashMap<>();
 
     private WebClientConfig webClientConfig = null;
@@ -142,30 +322,68 @@ public class ApplicationConfig {
                     .httpProxyPort(this.httpProxyPort) //
                     .httpProxyType(ProxyProvider.Proxy.valueOf(this.httpProxyType)) //
                     .build();
+            ConnectionPoolConfig connectionPoolConfig = ConnectionPoolConfig.builder() //
+                    .maxConnections(this.poolMaxConnections) //
+                    .pendingAcquireMaxCount(this.poolPendingAcquireMaxCount) //
+                    .pendingAcquireTimeout(Duration.ofSeconds(this.poolPendingAcquireTimeoutSeconds)) //
+                    .maxIdleTime(Duration.ofSeconds(this.poolMaxIdleTimeSeconds)) //
+                    .maxLifeTime(Duration.ofSeconds(this.poolMaxLifeTimeSeconds)) //
+                    .evictionInterval(Duration.ofSeconds(this.poolEvictionIntervalSeconds)) //
+                    .build();
+            WebClientConfig.WebClientConfigBuilder builder = WebClientConfig.builder() //
+                    .httpProxyConfig(httpProxyConfig) //
+                    .connectionPoolConfig(connectionPoolConfig) //
+                    .connectTimeout(Duration.ofSeconds(this.webClientConnectTimeoutSeconds)) //
+                    .readWriteTimeout(Duration.ofSeconds(this.webClientReadWriteTimeoutSeconds)) //
+                    .http2Enabled(this.webClientHttp2Enabled) //
+                    .maxResponseSize(this.webClientMaxResponseSize);
             if (sslEnabled) {
-                this.webClientConfig = WebClientConfig.builder() //
-                        .sslEnabled(true)
+                builder.sslEnabled(true) //
                         .keyStoreType(this.sslKeyStoreType) //
                         .keyStorePassword(this.sslKeyStorePassword) //
                         .keyStore(this.sslKeyStore) //
                         .keyPassword(this.sslKeyPassword) //
                         .isTrustStoreUsed(this.sslTrustStoreUsed) //
                         .trustStore(this.sslTrustStore) //
-                        .trustStorePassword(this.sslTrustStorePassword) //
-                        .httpProxyConfig(httpProxyConfig) //
-                        .build();
+                        .trustStorePassword(this.sslTrustStorePassword);
             } else {
-                this.webClientConfig = WebClientConfig.builder() //
-                        .sslEnabled(false)
-                        .isTrustStoreUsed(false)
-                        .httpProxyConfig(httpProxyConfig) //
-                        .build();
+                builder.sslEnabled(false) //
+                        .isTrustStoreUsed(false);
             }
-
+            this.webClientConfig = builder.build();
         }
         return this.webClientConfig;
     }
 
+    public CircuitBreakerConfig getCircuitBreakerConfig() {
+        return CircuitBreakerConfig.builder() //
+                .enabled(this.circuitBreakerEnabled) //
+                .slidingWindowSize(this.circuitBreakerSlidingWindowSize) //
+                .minimumNumberOfCalls(this.circuitBreakerMinimumNumberOfCalls) //
+                .failureRateThreshold(this.circuitBreakerFailureRateThreshold) //
+                .slowCallDurationThreshold(Duration.ofSeconds(this.circuitBreakerSlowCallDurationThresholdSeconds)) //
+                .slowCallRateThreshold(this.circuitBreakerSlowCallRateThreshold) //
+                .waitDurationInOpenState(Duration.ofSeconds(this.circuitBreakerWaitDurationInOpenStateSeconds)) //
+                .permittedCallsInHalfOpenState(this.circuitBreakerPermittedCallsInHalfOpenState) //
+                .build();
+    }
+
+    /**
+     * @return the retry configuration that is used for the Near-RT RICs that have
+     *         no retry configuration of their own
+     */
+    public RetryConfig getRetryConfig() {
+        return RetryConfig.builder() //
+                .enabled(this.retryEnabled) //
+                .maxAttempts(this.retryMaxAttempts) //
+                .initialBackoff(Duration.ofMillis(this.retryInitialBackoffMillis)) //
+                .maxBackoff(Duration.ofMillis(this.retryMaxBackoffMillis)) //
+                .budgetPercent(this.retryBudgetPercent) //
+                .hedgingEnabled(this.retryHedgingEnabled) //
+                .hedgeMinDelay(Duration.ofMillis(this.retryHedgeMinDelayMillis)) //
+                .build();
+    }
+
     public synchronized RicConfig getRic(String ricId) throws ServiceException {
         RicConfig ricConfig = this.ricConfigs.get(ricId);
         if (ricConfig == null) {
@@ -217,6 +435,10 @@ public class ApplicationConfig {
         return Flux.fromIterable(modifications);
     }
 
+    public boolean isS3LocalCacheEnabled() {
+        return s3LocalCacheEnabled && !Strings.isNullOrEmpty(vardataDirectory) && !"null".equals(vardataDirectory);
+    }
+
     public boolean isS3Enabled() {
         return !(Strings.isNullOrEmpty(s3EndpointOverride) || Strings.isNullOrEmpty(s3Bucket));
     }
@@ -29,6 +29,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -56,6 +57,9 @@ public class ApplicationConfigParser {
 
     private static final String CONFIG = "config";
     private static final String CONTROLLER = "controller";
+    private static final String RETRY = "retry";
+    // The schema is a resource that is not changed, so it is compiled once
+    private static final JsonSchemaRegistry configurationSchemas = new JsonSchemaRegistry();
     private final ApplicationConfig applicationConfig;
 
     public ApplicationConfigParser(ApplicationConfig applicationConfig) {
@@ -100,10 +104,8 @@ public class ApplicationConfigParser {
         }
 
         try {
-            String schemaAsString = readSchemaFile();
-
-            JSONObject schemaJSON = new JSONObject(schemaAsString);
-            var schema = org.everit.json.schema.loader.SchemaLoader.load(schemaJSON);
+            var schema = configurationSchemas.getSchema(applicationConfig.getConfigurationFileSchemaPath(),
+                    this::readSchemaFile);
 
             String objectAsString = object.toString();
             JSONObject json = new JSONObject(objectAsString);
@@ -158,6 +160,10 @@ public class ApplicationConfigParser {
                     .controllerConfig(controllerConfig)
                     .customAdapterClass(getString(ricJsonObj, "customAdapterClass", ""));
 
+            if (ricJsonObj.has(RETRY)) {
+                ricConfigBuilder.retryConfig(parseRetryConfig(get(ricJsonObj, RETRY).getAsJsonObject()));
+            }
+
             if (ricJsonObj.has("managedElementIds")) {
                 ricConfigBuilder
                     .managedElementIds(parseManagedElementIds(get(ricJsonObj, "managedElementIds").getAsJsonArray()));
@@ -205,6 +211,34 @@ public class ApplicationConfigParser {
         return result;
     }
 
+    private RetryConfig parseRetryConfig(JsonObject retryJson) {
+        RetryConfig defaultConfig = applicationConfig.getRetryConfig();
+        RetryConfig.RetryConfigBuilder builder =
+                defaultConfig != null ? defaultConfig.toBuilder() : RetryConfig.builder();
+        if (retryJson.has("enabled")) {
+            builder.enabled(retryJson.get("enabled").getAsBoolean());
+        }
+        if (retryJson.has("maxAttempts")) {
+            builder.maxAttempts(retryJson.get("maxAttempts").getAsInt());
+        }
+        if (retryJson.has("initialBackoffMillis")) {
+            builder.initialBackoff(Duration.ofMillis(retryJson.get("initialBackoffMillis").getAsLong()));
+        }
+        if (retryJson.has("maxBackoffMillis")) {
+            builder.maxBackoff(Duration.ofMillis(retryJson.get("maxBackoffMillis").getAsLong()));
+        }
+        if (retryJson.has("budgetPercent")) {
+            builder.budgetPercent(retryJson.get("budgetPercent").getAsInt());
+        }
+        if (retryJson.has("hedgingEnabled")) {
+            builder.hedgingEnabled(retryJson.get("hedgingEnabled").getAsBoolean());
+        }
+        if (retryJson.has("hedgeMinDelayMillis")) {
+            builder.hedgeMinDelay(Duration.ofMillis(retryJson.get("hedgeMinDelayMillis").getAsLong()));
+        }
+        return builder.build();
+    }
+
     private List<String> parseManagedElementIds(JsonArray asJsonObject) {
         Iterator<JsonElement> iterator = asJsonObject.iterator();
         List<String> managedElementIds = new ArrayList<>();
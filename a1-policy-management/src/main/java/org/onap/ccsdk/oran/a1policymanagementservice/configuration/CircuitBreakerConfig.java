@@ -0,0 +1,67 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.configuration;
+
+import java.time.Duration;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Configuration of the circuit breakers for the Near-RT RICs.
+ */
+@Builder
+@Getter
+@ToString
+public class CircuitBreakerConfig {
+
+    @Builder.Default
+    private boolean enabled = true;
+
+    // The number of the latest requests that the failure and slow call rates are
+    // calculated from
+    @Builder.Default
+    private int slidingWindowSize = 20;
+
+    // The number of requests needed before the rates are calculated
+    @Builder.Default
+    private int minimumNumberOfCalls = 10;
+
+    // Percentage
+    @Builder.Default
+    private int failureRateThreshold = 50;
+
+    @Builder.Default
+    private Duration slowCallDurationThreshold = Duration.ofSeconds(10);
+
+    // Percentage
+    @Builder.Default
+    private int slowCallRateThreshold = 80;
+
+    // The time that requests are rejected before trial requests are let through
+    @Builder.Default
+    private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+
+    // The number of trial requests
+    @Builder.Default
+    private int permittedCallsInHalfOpenState = 3;
+}
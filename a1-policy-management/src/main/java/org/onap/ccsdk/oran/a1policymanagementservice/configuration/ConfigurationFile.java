@@ -31,18 +31,36 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.lang.invoke.MethodHandles;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
 @Component
 public class ConfigurationFile {
     private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
     final ApplicationConfig appConfig;
     final Gson gson = new Gson();
+    private final Sinks.Many<Boolean> writes = Sinks.many().multicast().directBestEffort();
+    private byte[] lastSeenContent = new byte[0]; // Content of the file when last written or checked
 
     public ConfigurationFile(ApplicationConfig appConfig) {
         this.appConfig = appConfig;
@@ -79,6 +97,120 @@ public class ConfigurationFile {
             gson.toJson(content, fileWriter);
             logger.debug("Local configuration file written: {}", filepath);
         }
+        rememberContent();
+        writes.tryEmitNext(true);
+    }
+
+    /**
+     * Emits an event each time the file may have changed. A write from this
+     * process is signalled directly. Other changes are detected by watching the
+     * directory of the file, if enabled. Any change in the directory is
+     * considered, since the file may be replaced without an event for the file
+     * itself, as when Kubernetes swaps the symbolic link of a mounted ConfigMap.
+     * When no further change is seen within the debounce time, the content of the
+     * file is compared with the content last seen and a change is signalled if it
+     * differs. A file that is written in several steps is thus read once.
+     */
+    public Flux<Boolean> changes() {
+        Flux<Boolean> writtenHere = writes.asFlux();
+        if (!appConfig.isConfigFileWatchEnabled()) {
+            return writtenHere;
+        }
+        Duration debounce = Duration.ofMillis(appConfig.getConfigFileWatchDebounceMillis());
+        Flux<Boolean> watched = watch() //
+                .sampleTimeout(notUsed -> Mono.delay(debounce)) //
+                .filterWhen(notUsed -> Mono.fromCallable(this::isContentChanged).subscribeOn(IoScheduler.get())) //
+                .doOnError(t -> logger.warn("Cannot watch the configuration file, relying on polling. {}",
+                        t.getMessage())) //
+                .onErrorResume(t -> Flux.empty());
+        return Flux.merge(writtenHere, watched);
+    }
+
+    /**
+     * Watches the directory of the file. The watch blocks a thread of its own,
+     * rather than one of the I/O scheduler, until it is cancelled.
+     */
+    Flux<Boolean> watch() {
+        Scheduler watchThread = Schedulers.newSingle("config-file-watch", true);
+        return Flux.<Boolean>create(this::watch) //
+                .subscribeOn(watchThread) //
+                .doFinally(signal -> watchThread.dispose());
+    }
+
+    private void watch(FluxSink<Boolean> sink) {
+        Path file = Path.of(appConfig.getLocalConfigurationFilePath()).toAbsolutePath();
+        try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+            file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+            sink.onDispose(() -> closeWatchService(watchService));
+            rememberContent(); // Changes made before the watch is started are not signalled
+            logger.debug("Watching configuration file: {}", file);
+            while (!sink.isCancelled()) {
+                WatchKey key = watchService.take();
+                // Any event in the directory, or an overflow, may be a change of the file
+                if (!key.pollEvents().isEmpty()) {
+                    sink.next(true);
+                }
+                if (!key.reset()) {
+                    sink.error(new IOException("Directory is no longer accessible: " + file.getParent()));
+                    return;
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // Cancelled
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            sink.error(e);
+        }
+    }
+
+    /**
+     * @return true if the content of the file differs from the content last seen
+     */
+    synchronized boolean isContentChanged() {
+        byte[] content = readContent();
+        boolean changed = !Arrays.equals(content, lastSeenContent);
+        lastSeenContent = content;
+        return changed;
+    }
+
+    private synchronized void rememberContent() {
+        lastSeenContent = readContent();
+    }
+
+    private byte[] readContent() {
+        try {
+            return Files.readAllBytes(Path.of(appConfig.getLocalConfigurationFilePath()));
+        } catch (IOException e) {
+            return new byte[0]; // Not existing or not readable
+        }
+    }
+
+    private static void closeWatchService(WatchService watchService) {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.debug("Could not close watch service: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the file on the I/O scheduler.
+     */
+    public Mono<Optional<JsonObject>> readFileAsync() {
+        return Mono.fromCallable(this::readFile) //
+                .subscribeOn(IoScheduler.get());
+    }
+
+    /**
+     * Writes the file on the I/O scheduler.
+     */
+    public Mono<JsonObject> writeFileAsync(JsonObject content) {
+        return Mono.fromCallable(() -> {
+            writeFile(content);
+            return content;
+        }).subscribeOn(IoScheduler.get());
     }
 
     FileWriter getFileWriter(String filepath) throws IOException {
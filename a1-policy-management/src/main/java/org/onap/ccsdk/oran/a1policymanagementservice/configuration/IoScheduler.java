@@ -0,0 +1,146 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.configuration;
+
+import jakarta.annotation.PreDestroy;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.ThreadFactory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * The scheduler that blocking file I/O is executed on, so that the event loop
+ * threads serving the northbound and southbound traffic never wait for the
+ * disk. The scheduler is bounded, both in number of threads and in number of
+ * queued tasks. On a Java runtime that supports it, the scheduler can be backed
+ * by virtual threads.
+ *
+ * The bean configures the scheduler from the application configuration and
+ * disposes it when the application context is closed. Objects that are not
+ * created by Spring, such as the data stores, reach the scheduler through
+ * {@link #get()}, which should be called each time a task is scheduled since the
+ * scheduler can be replaced.
+ */
+@Component
+public class IoScheduler {
+    private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+    private static final String THREAD_NAME_PREFIX = "pms-io";
+    private static final int THREAD_TTL_SECONDS = 60;
+
+    private static Scheduler scheduler = null;
+    private static String configuration = "";
+
+    private final Scheduler configuredScheduler;
+
+    public IoScheduler(ApplicationConfig applicationConfig) {
+        this.configuredScheduler = configure(applicationConfig.getIoSchedulerMaxThreads(),
+                applicationConfig.getIoSchedulerMaxQueuedTasks(), applicationConfig.isIoSchedulerVirtualThreads());
+    }
+
+    @PreDestroy
+    void dispose() {
+        synchronized (IoScheduler.class) {
+            if (scheduler == configuredScheduler) {
+                scheduler = null;
+                configuration = "";
+                configuredScheduler.dispose();
+            }
+        }
+    }
+
+    /**
+     * @return the scheduler that was configured by this bean
+     */
+    public Scheduler scheduler() {
+        return configuredScheduler;
+    }
+
+    /**
+     * Gets the I/O scheduler. If it has not been configured, a default one is
+     * created.
+     */
+    public static synchronized Scheduler get() {
+        if (scheduler == null) {
+            configure(0, 0, false);
+        }
+        return scheduler;
+    }
+
+    /**
+     * Configures the I/O scheduler.
+     *
+     * @param maxThreads the maximum number of threads, 0 means the Reactor default
+     *        (10 times the number of CPU cores)
+     * @param maxQueuedTasks the maximum number of queued tasks, 0 means the Reactor
+     *        default
+     * @param virtualThreads use virtual threads, if supported by the Java runtime
+     * @return the configured scheduler
+     */
+    public static synchronized Scheduler configure(int maxThreads, int maxQueuedTasks, boolean virtualThreads) {
+        String newConfiguration = maxThreads + "/" + maxQueuedTasks + "/" + virtualThreads;
+        if (scheduler == null || !newConfiguration.equals(configuration)) {
+            Scheduler replaced = scheduler;
+            scheduler = create(maxThreads, maxQueuedTasks, virtualThreads);
+            configuration = newConfiguration;
+            if (replaced != null) {
+                // The tasks already scheduled are completed, new ones are rejected
+                replaced.disposeGracefully() //
+                        .doOnError(t -> logger.warn("Could not dispose I/O scheduler, reason: {}", t.getMessage())) //
+                        .onErrorResume(t -> Mono.empty()) //
+                        .subscribe();
+            }
+        }
+        return scheduler;
+    }
+
+    private static Scheduler create(int maxThreads, int maxQueuedTasks, boolean virtualThreads) {
+        int threadCap = maxThreads > 0 ? maxThreads : Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE;
+        int queuedTaskCap = maxQueuedTasks > 0 ? maxQueuedTasks : Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE;
+        ThreadFactory virtualThreadFactory = virtualThreads ? virtualThreadFactory() : null;
+        if (virtualThreadFactory != null) {
+            logger.debug("I/O scheduler using virtual threads, max {} threads", threadCap);
+            return Schedulers.newBoundedElastic(threadCap, queuedTaskCap, virtualThreadFactory, THREAD_TTL_SECONDS);
+        }
+        logger.debug("I/O scheduler using platform threads, max {} threads", threadCap);
+        return Schedulers.newBoundedElastic(threadCap, queuedTaskCap, THREAD_NAME_PREFIX, THREAD_TTL_SECONDS, true);
+    }
+
+    private static ThreadFactory virtualThreadFactory() {
+        try {
+            // Thread.ofVirtual().name(...).factory(), available from Java 21
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder,
+                    THREAD_NAME_PREFIX + "-", 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (Exception e) {
+            logger.warn("Virtual threads are not supported by this Java runtime, using platform threads");
+            return null;
+        }
+    }
+}
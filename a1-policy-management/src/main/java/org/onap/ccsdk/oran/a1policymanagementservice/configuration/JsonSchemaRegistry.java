@@ -0,0 +1,114 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.configuration;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.everit.json.schema.Schema;
+import org.everit.json.schema.loader.SchemaLoader;
+import org.json.JSONObject;
+import org.onap.ccsdk.oran.a1policymanagementservice.exceptions.ServiceException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compiled JSON schemas, keyed by an id such as a policy type id. A schema is
+ * compiled the first time it is requested and is compiled again only when its
+ * source is changed, which is detected by comparing the hash and the content
+ * of the source with the one the cached schema was compiled from. A compiled
+ * schema is immutable and can be used for validation by several threads.
+ */
+public class JsonSchemaRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    /**
+     * Loads the source of a schema.
+     */
+    public interface SourceLoader {
+        String load() throws IOException, ServiceException;
+    }
+
+    private static class Entry {
+        final String source;
+        final Schema schema;
+
+        Entry(String source, Schema schema) {
+            this.source = source;
+            this.schema = schema;
+        }
+    }
+
+    private final Map<String, Entry> schemas = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the compiled schema.
+     *
+     * @param id the id of the schema
+     * @param source the schema
+     * @return the schema, compiled from the given source
+     */
+    public Schema getSchema(String id, String source) {
+        Entry entry = schemas.get(id);
+        if (entry == null || !isSameSource(entry.source, source)) {
+            entry = new Entry(source, SchemaLoader.load(new JSONObject(source)));
+            schemas.put(id, entry);
+            logger.debug("Compiled JSON schema: {}", id);
+        }
+        return entry.schema;
+    }
+
+    /**
+     * Gets the compiled schema. The source is loaded only if no schema with the
+     * given id is cached, so this is meant for sources that do not change.
+     *
+     * @param id the id of the schema
+     * @param loader loads the source of the schema
+     * @return the schema
+     */
+    public Schema getSchema(String id, SourceLoader loader) throws IOException, ServiceException {
+        Entry entry = schemas.get(id);
+        if (entry != null) {
+            return entry.schema;
+        }
+        return getSchema(id, loader.load());
+    }
+
+    public void invalidate(String id) {
+        schemas.remove(id);
+    }
+
+    public void invalidateAll() {
+        schemas.clear();
+    }
+
+    public int size() {
+        return schemas.size();
+    }
+
+    private static boolean isSameSource(String cached, String source) {
+        // The hash of a string is computed once, so a changed source is most often
+        // detected without comparing the content
+        return cached.hashCode() == source.hashCode() && cached.equals(source);
+    }
+}
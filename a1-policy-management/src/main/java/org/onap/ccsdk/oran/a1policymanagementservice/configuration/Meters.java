@@ -24,6 +24,7 @@ import io.micrometer.core.instrument.MeterRegistry;
 
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.Policies;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.PolicyTypes;
+import org.onap.ccsdk.oran.a1policymanagementservice.repository.Ric;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.Rics;
 import org.springframework.stereotype.Component;
 
@@ -31,6 +32,13 @@ import org.springframework.stereotype.Component;
  * The aim is to collect statistical values from the A1 Policy Management
  * Service.
  * The counters are being updated every minute.
+ *
+ * <p>
+ * The service is degraded while available_ric_count is less than
+ * total_ric_count, for instance while the RICs are synchronized after a
+ * restart. Policies, types and services are then served from the restored
+ * state, and writes to the RICs that are not available are queued, see
+ * queued_ric_write_count.
  */
 @Component
 public class Meters {
@@ -39,5 +47,25 @@ public class Meters {
         meterRegistry.gauge("total_ric_count", rics, Rics::size);
         meterRegistry.gauge("total_policy_type_count", policyTypes, PolicyTypes::size);
         meterRegistry.gauge("total_policy_count", policies, Policies::size);
+        meterRegistry.gauge("available_ric_count", rics, Meters::availableRicCount);
+        meterRegistry.gauge("queued_ric_write_count", rics, Meters::queuedRicWriteCount);
+    }
+
+    private static int availableRicCount(Rics rics) {
+        int count = 0;
+        for (Ric ric : rics.getRics()) {
+            if (ric.getState() == Ric.RicState.AVAILABLE) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int queuedRicWriteCount(Rics rics) {
+        int count = 0;
+        for (Ric ric : rics.getRics()) {
+            count += ric.getAvailabilityWaiterCount();
+        }
+        return count;
     }
 }
@@ -0,0 +1,68 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.configuration;
+
+import java.time.Duration;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Configuration of the retries and hedged reads of the requests to a Near-RT
+ * RIC.
+ */
+@Builder(toBuilder = true)
+@Getter
+@EqualsAndHashCode
+@ToString
+public class RetryConfig {
+
+    @Builder.Default
+    private boolean enabled = true;
+
+    // The max number of attempts of a request, including the first one
+    @Builder.Default
+    private int maxAttempts = 3;
+
+    // The backoff before a retry is randomly chosen between zero and the
+    // exponentially growing backoff (full jitter)
+    @Builder.Default
+    private Duration initialBackoff = Duration.ofMillis(100);
+
+    @Builder.Default
+    private Duration maxBackoff = Duration.ofSeconds(2);
+
+    // The retries and hedged requests to a RIC, in percent of the requests to it
+    @Builder.Default
+    private int budgetPercent = 20;
+
+    // If true, a second GET request is sent if the first one is not answered
+    // within the 95th percentile of the response times
+    @Builder.Default
+    private boolean hedgingEnabled = false;
+
+    // The minimum delay before a hedged request is sent, also used until enough
+    // response times are recorded
+    @Builder.Default
+    private Duration hedgeMinDelay = Duration.ofMillis(500);
+}
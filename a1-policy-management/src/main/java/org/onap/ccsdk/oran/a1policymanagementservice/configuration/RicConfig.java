@@ -45,4 +45,8 @@ public class RicConfig {
 
     @Builder.Default
     private String customAdapterClass = "";
+
+    // If null, the default retry configuration is used
+    @Builder.Default
+    private RetryConfig retryConfig = null;
 }
@@ -22,6 +22,8 @@
 
 package org.onap.ccsdk.oran.a1policymanagementservice.configuration;
 
+import java.time.Duration;
+
 import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
@@ -62,4 +64,47 @@ public class WebClientConfig {
 
     private HttpProxyConfig httpProxyConfig;
 
+    /**
+     * Configuration of a connection pool. The limits apply per remote host.
+     */
+    @Builder
+    @Getter
+    @ToString
+    public static class ConnectionPoolConfig {
+        @Builder.Default
+        private int maxConnections = 50;
+
+        @Builder.Default
+        private int pendingAcquireMaxCount = 1000;
+
+        @Builder.Default
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(45);
+
+        @Builder.Default
+        private Duration maxIdleTime = Duration.ofSeconds(60);
+
+        @Builder.Default
+        private Duration maxLifeTime = Duration.ofMinutes(10);
+
+        @Builder.Default
+        private Duration evictionInterval = Duration.ofSeconds(30);
+    }
+
+    @Builder.Default
+    private ConnectionPoolConfig connectionPoolConfig = ConnectionPoolConfig.builder().build();
+
+    @Builder.Default
+    private Duration connectTimeout = Duration.ofSeconds(10);
+
+    @Builder.Default
+    private Duration readWriteTimeout = Duration.ofSeconds(30);
+
+    // Negotiate HTTP/2, using ALPN for HTTPS and upgrade (h2c) for HTTP
+    private boolean http2Enabled;
+
+    // The maximum size of a response body, a larger response is rejected while it
+    // is received. A negative value means no limit.
+    @Builder.Default
+    private int maxResponseSize = 16 * 1024 * 1024;
+
 }
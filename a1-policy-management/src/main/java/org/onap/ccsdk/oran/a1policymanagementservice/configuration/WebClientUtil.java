@@ -53,12 +53,20 @@ public class WebClientUtil {
         }
     }
 
-    public static WebClient buildWebClient(String baseURL, final HttpClient httpClient) {
+    /**
+     * Builds a WebClient.
+     *
+     * @param maxInMemorySize the maximum number of bytes of a response body that
+     *        is buffered, a negative value means no limit
+     */
+    public static WebClient buildWebClient(String baseURL, final HttpClient httpClient, int maxInMemorySize) {
 
         Object traceTag = new AtomicInteger().incrementAndGet();
 
+        // The response body is decoded from a stream of buffers, the decoding is
+        // aborted as soon as the limit is exceeded
         ExchangeStrategies exchangeStrategies = ExchangeStrategies.builder() //
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(-1)) //
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(maxInMemorySize)) //
                 .build();
 
         ExchangeFilterFunction reqLogger = ExchangeFilterFunction.ofRequestProcessor(req -> {
@@ -0,0 +1,82 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.controllers;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.RequestDeadline;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.ApplicationConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Sets the deadline of each northbound request. The deadline is the configured
+ * northbound request timeout, or the timeout given by the client in the header
+ * X-Request-Timeout-Millis, if that is shorter. The requests to the Near-RT
+ * RICs made when serving the request are cancelled when the deadline is
+ * reached.
+ */
+@Component
+public class RequestDeadlineFilter implements WebFilter {
+
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout-Millis";
+
+    private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private final Duration defaultTimeout;
+
+    public RequestDeadlineFilter(ApplicationConfig applicationConfig) {
+        this.defaultTimeout = Duration.ofSeconds(applicationConfig.getNorthboundRequestTimeoutSeconds());
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        Duration timeout = getTimeout(exchange.getRequest().getHeaders().getFirst(TIMEOUT_HEADER));
+        if (timeout.isZero()) {
+            return chain.filter(exchange);
+        }
+        return chain.filter(exchange) //
+                .contextWrite(RequestDeadline.within(timeout));
+    }
+
+    Duration getTimeout(String timeoutHeader) {
+        if (timeoutHeader == null) {
+            return defaultTimeout;
+        }
+        try {
+            Duration requested = Duration.ofMillis(Long.parseLong(timeoutHeader.trim()));
+            if (requested.isNegative() || requested.isZero()) {
+                return defaultTimeout;
+            }
+            return defaultTimeout.isZero() || requested.compareTo(defaultTimeout) < 0 ? requested : defaultTimeout;
+        } catch (NumberFormatException e) {
+            logger.debug("Ignoring invalid {} header: {}", TIMEOUT_HEADER, timeoutHeader);
+            return defaultTimeout;
+        }
+    }
+}
@@ -48,7 +48,7 @@ public class ServiceCallbacks {
     private final AsyncRestClient restClient;
 
     public ServiceCallbacks(AsyncRestClientFactory restClientFactory) {
-        this.restClient = restClientFactory.createRestClientNoHttpProxy("");
+        this.restClient = restClientFactory.createRestClientNoHttpProxy("", AsyncRestClientFactory.CALLBACK_POOL);
     }
 
     public Flux<Service> notifyServicesRicAvailable(Ric ric, Services services) {
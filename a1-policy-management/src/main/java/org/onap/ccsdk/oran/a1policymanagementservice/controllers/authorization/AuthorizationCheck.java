@@ -23,6 +23,8 @@ package org.onap.ccsdk.oran.a1policymanagementservice.controllers.authorization;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 import java.lang.invoke.MethodHandles;
 import java.util.Map;
 
@@ -49,12 +51,13 @@ public class AuthorizationCheck {
     private final AsyncRestClient restClient;
     private static Gson gson = new GsonBuilder().disableHtmlEscaping().create();
 
-    public AuthorizationCheck(ApplicationConfig applicationConfig, SecurityContext securityContext) {
+    public AuthorizationCheck(ApplicationConfig applicationConfig, SecurityContext securityContext,
+            MeterRegistry meterRegistry) {
 
         this.applicationConfig = applicationConfig;
         AsyncRestClientFactory restClientFactory =
-                new AsyncRestClientFactory(applicationConfig.getWebClientConfig(), securityContext);
-        this.restClient = restClientFactory.createRestClientUseHttpProxy("");
+                new AsyncRestClientFactory(applicationConfig.getWebClientConfig(), securityContext, meterRegistry);
+        this.restClient = restClientFactory.createRestClientUseHttpProxy("", AsyncRestClientFactory.CALLBACK_POOL);
     }
 
     public Mono<Policy> doAccessControl(Map<String, String> receivedHttpHeaders, Policy policy, AccessType accessType) {
@@ -37,7 +37,6 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 import java.io.IOException;
-import java.util.Optional;
 
 @RestController("configurationControllerV2")
 @Tag( //
@@ -72,27 +71,29 @@ public class ConfigurationController implements ConfigurationApi {
                         JsonObject configJson = JsonParser.parseString(configAsString).getAsJsonObject();
                         ApplicationConfigParser configParser = new ApplicationConfigParser(applicationConfig);
                         configParser.parse(configJson);
-                        configurationFile.writeFile(configJson);
-                        logger.info("Configuration changed through REST call.");
-                        return Mono.just(new ResponseEntity<>(HttpStatus.OK));
-                    } catch (IOException ioe) {
-                        logger.warn("Configuration file not written, {}.", ioe.getMessage());
-                        return ErrorResponse.createMono("Internal error when writing the configuration.",
-                                HttpStatus.INTERNAL_SERVER_ERROR);
+                        return configurationFile.writeFileAsync(configJson);
                     } catch (ServiceException e) {
-                        return ErrorResponse.createMono(e, HttpStatus.BAD_REQUEST);
+                        return Mono.error(e);
                     }
                 })
+                .map(configJson -> {
+                    logger.info("Configuration changed through REST call.");
+                    return new ResponseEntity<>(HttpStatus.OK);
+                })
+                .onErrorResume(ServiceException.class, e -> ErrorResponse.createMono(e, HttpStatus.BAD_REQUEST))
+                .onErrorResume(IOException.class, ioe -> {
+                    logger.warn("Configuration file not written, {}.", ioe.getMessage());
+                    return ErrorResponse.createMono("Internal error when writing the configuration.",
+                            HttpStatus.INTERNAL_SERVER_ERROR);
+                })
                 .doOnError(error -> logger.error(error.getMessage()));
     }
 
     @Override
     public Mono<ResponseEntity<String>> getConfiguration(final ServerWebExchange exchange) throws ServiceException {
-            Optional<JsonObject> rootObject = configurationFile.readFile();
-            if (rootObject.isPresent()) {
-                return Mono.just(new ResponseEntity<>(rootObject.get().toString(), HttpStatus.OK));
-            } else {
-                throw new ServiceException("File does not exist", HttpStatus.NOT_FOUND);
-            }
+        return configurationFile.readFileAsync() //
+                .flatMap(rootObject -> rootObject.isPresent()
+                        ? Mono.just(new ResponseEntity<>(rootObject.get().toString(), HttpStatus.OK))
+                        : Mono.error(new ServiceException("File does not exist", HttpStatus.NOT_FOUND)));
     }
 }
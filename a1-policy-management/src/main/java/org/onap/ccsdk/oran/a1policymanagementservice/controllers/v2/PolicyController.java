@@ -29,15 +29,19 @@ import com.google.gson.GsonBuilder;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 import java.lang.invoke.MethodHandles;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Function;
 
 import lombok.Getter;
 
 import lombok.RequiredArgsConstructor;
 import org.onap.ccsdk.oran.a1policymanagementservice.clients.A1ClientFactory;
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.PolicyStatusCache;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.ApplicationConfig;
 import org.onap.ccsdk.oran.a1policymanagementservice.controllers.api.v2.A1PolicyManagementApi;
 import org.onap.ccsdk.oran.a1policymanagementservice.controllers.authorization.AuthorizationCheck;
 import org.onap.ccsdk.oran.a1policymanagementservice.controllers.authorization.PolicyAuthorizationRequest.Input.AccessType;
@@ -89,9 +93,11 @@ public class PolicyController implements A1PolicyManagementApi {
     private final PolicyTypes policyTypes;
     private final Policies policies;
     private final A1ClientFactory a1ClientFactory;
+    private final PolicyStatusCache policyStatusCache;
     private final Services services;
     private final ObjectMapper objectMapper;
     private final AuthorizationCheck authorization;
+    private final ApplicationConfig applicationConfig;
 
     private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
     private static final Gson gson = new GsonBuilder().create();
@@ -136,8 +142,8 @@ public class PolicyController implements A1PolicyManagementApi {
 
         logger.trace("Policy to be deleted: {}", policy.getId());
         return authorization.doAccessControl(exchange.getRequest().getHeaders().toSingleValueMap(), policy, AccessType.WRITE)
-                .flatMap(x -> policy.getRic().getLock().lock(Lock.LockType.SHARED, "deletePolicy"))
-                .flatMap(grant -> deletePolicy(grant, policy))
+                .flatMap(x -> awaitRicAvailable(policy.getRic(), ric -> ric.getLock().lock(Lock.LockType.SHARED, "deletePolicy")
+                        .flatMap(grant -> deletePolicy(grant, policy))))
                 .onErrorResume(this::handleException);
     }
 
@@ -145,6 +151,7 @@ public class PolicyController implements A1PolicyManagementApi {
         return checkRicStateIdle(policy.getRic()) //
                 .flatMap(notUsed -> a1ClientFactory.createA1Client(policy.getRic()))
                 .doOnNext(notUsed -> policies.remove(policy))
+                .doOnNext(notUsed -> policyStatusCache.remove(policy.getId()))
                 .doFinally(x -> grant.unlockBlocking())
                 .flatMap(client -> client.deletePolicy(policy))
                 .map(notUsed -> new ResponseEntity<>(HttpStatus.NO_CONTENT))
@@ -176,8 +183,8 @@ public class PolicyController implements A1PolicyManagementApi {
                                 .build();
 
                         return authorization.doAccessControl(exchange.getRequest().getHeaders().toSingleValueMap(), policy, AccessType.WRITE)
-                                .flatMap(x -> ric.getLock().lock(Lock.LockType.SHARED, "putPolicy"))
-                                .flatMap(grant -> putPolicy(grant, policy));
+                                .flatMap(x -> awaitRicAvailable(ric, r -> r.getLock().lock(Lock.LockType.SHARED, "putPolicy")
+                                        .flatMap(grant -> putPolicy(grant, policy))));
                     }).onErrorResume(this::handleException);
         });
     }
@@ -239,6 +246,17 @@ public class PolicyController implements A1PolicyManagementApi {
         return Mono.just("{}");
     }
 
+    /**
+     * A write to a RIC that is synchronizing is queued until the RIC is AVAILABLE
+     * and the queued writes are then done one at a time, in order of arrival. The
+     * RIC lock is taken by the write, as a synchronization needs the lock
+     * exclusively.
+     */
+    private <T> Mono<T> awaitRicAvailable(Ric ric, Function<Ric, Mono<T>> write) {
+        return ric.awaitAvailable(applicationConfig.getRicWriteQueueMaxSize(),
+                Duration.ofSeconds(applicationConfig.getRicWriteQueueTimeoutSeconds()), write);
+    }
+
     private Mono<Object> checkRicStateIdle(Ric ric) {
         if (ric.getState() == Ric.RicState.AVAILABLE) {
             return Mono.just("{}");
@@ -294,12 +312,17 @@ public class PolicyController implements A1PolicyManagementApi {
         Policy policy = policies.getPolicy(policyId);
 
         return authorization.doAccessControl(exchange.getRequest().getHeaders().toSingleValueMap(), policy, AccessType.READ) //
-                .flatMap(notUsed -> a1ClientFactory.createA1Client(policy.getRic())) //
-                .flatMap(client -> client.getPolicyStatus(policy).onErrorResume(e -> Mono.just("{}"))) //
+                .flatMap(notUsed -> policyStatusCache.getStatus(policy, readPolicyStatus(policy))) //
+                .defaultIfEmpty("{}") //
                 .flatMap(status -> createPolicyStatus(policy, status))
                 .doOnError(error -> logger.error(error.getMessage()));
     }
 
+    private Mono<String> readPolicyStatus(Policy policy) {
+        return a1ClientFactory.createA1Client(policy.getRic()) //
+                .flatMap(client -> client.getPolicyStatus(policy).onErrorResume(e -> Mono.empty()));
+    }
+
     private Mono<ResponseEntity<PolicyStatusInfo>> createPolicyStatus(Policy policy, String statusFromNearRic) {
 
         PolicyStatusInfo policyStatusInfo = new PolicyStatusInfo();
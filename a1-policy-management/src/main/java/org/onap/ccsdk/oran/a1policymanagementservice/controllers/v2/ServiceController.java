@@ -23,6 +23,8 @@ package org.onap.ccsdk.oran.a1policymanagementservice.controllers.v2;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.onap.ccsdk.oran.a1policymanagementservice.controllers.api.v2.ServiceRegistryAndSupervisionApi;
+import org.onap.ccsdk.oran.a1policymanagementservice.controllers.authorization.AuthorizationCheck;
+import org.onap.ccsdk.oran.a1policymanagementservice.controllers.authorization.PolicyAuthorizationRequest.Input.AccessType;
 import org.onap.ccsdk.oran.a1policymanagementservice.exceptions.ServiceException;
 import org.onap.ccsdk.oran.a1policymanagementservice.models.v2.ServiceRegistrationInfo;
 import org.onap.ccsdk.oran.a1policymanagementservice.models.v2.ServiceStatus;
@@ -31,6 +33,7 @@ import org.onap.ccsdk.oran.a1policymanagementservice.repository.Policies;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.Policy;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.Service;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.Services;
+import org.onap.ccsdk.oran.a1policymanagementservice.tasks.CascadeDeletion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -38,6 +41,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ServerWebExchange;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.lang.invoke.MethodHandles;
@@ -47,6 +51,7 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 @RestController("serviceControllerV2")
 @RequiredArgsConstructor
@@ -65,7 +70,11 @@ public class ServiceController implements ServiceRegistryAndSupervisionApi {
 
     private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
-    private final PolicyController policyController;
+    private final AuthorizationCheck authorization;
+
+    private final CascadeDeletion cascadeDeletion;
+
+    private static final int ACCESS_CONTROL_CONCURRENCY = 10;
 
     private static final String GET_SERVICE_DETAILS =
             "Either information about a registered service with given identity or all registered services are returned.";
@@ -156,25 +165,19 @@ public class ServiceController implements ServiceRegistryAndSupervisionApi {
     private void removePolicies(Service service, ServerWebExchange exchange) {
         Collection<Policy> policyList = this.policies.getForService(service.getName());
         logger.trace("Policies to be deleted: {}", policyList);
-        for (Policy policy : policyList) {
-            try {
-                policyController.deletePolicy(policy.getId(), exchange).doOnNext(resp -> {
-                    if (resp.getStatusCode().is2xxSuccessful()) {
-                        logger.trace("Deleting Policy '{}' when deleting Service '{}'", policy.getId(),
-                                service.getName());
-                    } else {
-                        logger.warn("Possible problem deleting Policy '{}' when deleting Service '{}'. Continuing, "
-                                + "but might trigger a re-sync with affected ric '{}'. Repsonse: \"{}\"",
-                                policy.getId(), service.getName(), policy.getRic().getConfig().getRicId(),
-                                resp.toString());
-                    }
-                }).subscribe();
-            } catch (Exception e) {
-                logger.warn("Problem deleting Policy '{}' when deleting Service '{}'."
-                        + " Continuing, but might trigger a re-sync with affected ric '{}'. Problem: \"{}\"",
-                        policy.getId(), service.getName(), policy.getRic().getConfig().getRicId(), e.getMessage());
-            }
-        }
+        Map<String, String> headers = exchange.getRequest().getHeaders().toSingleValueMap();
+        Flux.fromIterable(policyList) //
+                .flatMap(policy -> authorization.doAccessControl(headers, policy, AccessType.WRITE) //
+                        .onErrorResume(e -> {
+                            logger.warn("Problem deleting Policy '{}' when deleting Service '{}'. Continuing, but "
+                                    + "the policy is not deleted. Problem: \"{}\"", policy.getId(),
+                                    service.getName(), e.getMessage());
+                            return Mono.empty();
+                        }), ACCESS_CONTROL_CONCURRENCY) //
+                .collectList() //
+                .map(authorized -> cascadeDeletion.start("deleted service: " + service.getName(), authorized)) //
+                .subscribe(job -> logger.debug("Deleting {} policies when deleting Service '{}', job: {}",
+                        job.getTotal(), service.getName(), job.getId()));
     }
 
     private Service toService(ServiceRegistrationInfo s) {
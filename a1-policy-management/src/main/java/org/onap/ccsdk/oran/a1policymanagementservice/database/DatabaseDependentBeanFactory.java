@@ -20,6 +20,8 @@
 
 package org.onap.ccsdk.oran.a1policymanagementservice.database;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.ApplicationConfig;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.Policies;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.PolicyTypes;
@@ -35,23 +37,26 @@ import org.springframework.context.annotation.DependsOn;
 public class DatabaseDependentBeanFactory {
     @Bean
     @DependsOn({ "springContextProvider", "flywayInitializer" })
-    public Services getServices(@Autowired ApplicationConfig applicationConfig) {
-        Services services = new Services(applicationConfig);
+    public Services getServices(@Autowired ApplicationConfig applicationConfig,
+            @Autowired MeterRegistry meterRegistry) {
+        Services services = new Services(applicationConfig, meterRegistry);
         services.restoreFromDatabase().subscribe();
         return services;
     }
 
     @Bean
     @DependsOn({ "springContextProvider", "flywayInitializer" })
-    public PolicyTypes getPolicyTypes(@Autowired ApplicationConfig applicationConfig) {
-        PolicyTypes types = new PolicyTypes(applicationConfig);
+    public PolicyTypes getPolicyTypes(@Autowired ApplicationConfig applicationConfig,
+            @Autowired MeterRegistry meterRegistry) {
+        PolicyTypes types = new PolicyTypes(applicationConfig, meterRegistry);
         types.restoreFromDatabase().subscribe();
         return types;
     }
 
     @Bean
     @DependsOn({ "springContextProvider", "flywayInitializer" })
-    public Policies getPolicies(@Autowired ApplicationConfig applicationConfig) {
-        return new Policies(applicationConfig);
+    public Policies getPolicies(@Autowired ApplicationConfig applicationConfig,
+            @Autowired MeterRegistry meterRegistry) {
+        return new Policies(applicationConfig, meterRegistry);
     }
 }
@@ -21,12 +21,17 @@
 package org.onap.ccsdk.oran.a1policymanagementservice.datastore;
 
 import com.google.common.base.Strings;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.ApplicationConfig;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface DataStore {
 
+    // Number of parallel deletes, for stores that delete one object at a time
+    static final int DELETE_CONCURRENCY = 10;
+
     public Flux<String> listObjects(String prefix);
 
     public Mono<byte[]> readObject(String name);
@@ -35,21 +40,52 @@ public interface DataStore {
 
     public Mono<Boolean> deleteObject(String name);
 
+    /**
+     * Deletes a number of objects. Stores that support it delete the objects in
+     * batches, otherwise the objects are deleted one by one.
+     *
+     * @param names the names of the objects to delete
+     * @return the number of deleted objects
+     */
+    public default Mono<Long> deleteObjects(Collection<String> names) {
+        return Flux.fromIterable(names) //
+                .flatMap(this::deleteObject, DELETE_CONCURRENCY) //
+                .count();
+    }
+
     public Mono<String> createDataStore();
 
     public Mono<String> deleteAllObjects();
 
-    public static DataStore create(ApplicationConfig appConfig, String location) {
+    /**
+     * Releases the resources of the store, for instance background tasks.
+     */
+    public default void close() {
+    }
+
+    /**
+     * Creates the store configured for a location.
+     *
+     * @param meterRegistry where the metrics of the store are registered
+     */
+    public static DataStore create(ApplicationConfig appConfig, String location, MeterRegistry meterRegistry) {
         if (appConfig.isDatabaseEnabled()) {
-            return new DatabaseStore(location);
+            return instrument(new DatabaseStore(location), "database", location, meterRegistry);
+        } else if (appConfig.isS3Enabled() && appConfig.isS3LocalCacheEnabled()) {
+            return instrument(new TieredDataStore(appConfig, location), "s3-tiered", location, meterRegistry);
         } else if (appConfig.isS3Enabled()) {
-            return new S3ObjectStore(appConfig, location);
+            return instrument(new S3ObjectStore(appConfig, location), "s3", location, meterRegistry);
         } else if (!Strings.isNullOrEmpty(appConfig.getVardataDirectory())) {
-            return new FileStore(appConfig, location);
+            return instrument(new FileStore(appConfig, location), "file", location, meterRegistry);
         } else {
-            return new NullStore(location);
+            return instrument(new NullStore(location), "none", location, meterRegistry);
         }
 
     }
 
+    private static DataStore instrument(DataStore store, String backend, String location,
+            MeterRegistry meterRegistry) {
+        return new InstrumentedDataStore(store, backend, location.toLowerCase(), meterRegistry);
+    }
+
 }
@@ -21,13 +21,16 @@
 package org.onap.ccsdk.oran.a1policymanagementservice.datastore;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Collection;
 import org.onap.ccsdk.oran.a1policymanagementservice.SpringContextProvider;
 import org.onap.ccsdk.oran.a1policymanagementservice.database.entities.BaseSchema;
 import org.onap.ccsdk.oran.a1policymanagementservice.database.entities.Policy;
 import org.onap.ccsdk.oran.a1policymanagementservice.database.entities.PolicyType;
+import org.onap.ccsdk.oran.a1policymanagementservice.database.entities.Ric;
 import org.onap.ccsdk.oran.a1policymanagementservice.database.entities.Service;
 import org.onap.ccsdk.oran.a1policymanagementservice.database.repositories.PoliciesRepository;
 import org.onap.ccsdk.oran.a1policymanagementservice.database.repositories.PolicyTypesRepository;
+import org.onap.ccsdk.oran.a1policymanagementservice.database.repositories.RicsRepository;
 import org.onap.ccsdk.oran.a1policymanagementservice.database.repositories.ServicesRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,11 +45,13 @@ public class DatabaseStore implements DataStore {
     private final PoliciesRepository policiesRepository;
     private final ServicesRepository servicesRepository;
     private final PolicyTypesRepository policyTypesRepository;
+    private final RicsRepository ricsRepository;
 
     private enum OperationTarget {
         POLICYTYPES,
         SERVICES,
-        POLICIES
+        POLICIES,
+        RICS
     }
 
     public DatabaseStore(String target) {
@@ -54,6 +59,7 @@ public class DatabaseStore implements DataStore {
         this.policiesRepository = SpringContextProvider.getSpringContext().getBean(PoliciesRepository.class);
         this.servicesRepository = SpringContextProvider.getSpringContext().getBean(ServicesRepository.class);
         this.policyTypesRepository = SpringContextProvider.getSpringContext().getBean(PolicyTypesRepository.class);
+        this.ricsRepository = SpringContextProvider.getSpringContext().getBean(RicsRepository.class);
     }
 
     @Override
@@ -64,6 +70,8 @@ public class DatabaseStore implements DataStore {
                 return policiesRepository.findByIdStartingWith(prefix).map(BaseSchema::getId);
             } else if (localOperationTarget == OperationTarget.POLICYTYPES) {
                 return policyTypesRepository.findAll().map(BaseSchema::getId);
+            } else if (localOperationTarget == OperationTarget.RICS) {
+                return ricsRepository.findAll().map(BaseSchema::getId);
             } else {
                 return servicesRepository.findAll().map(BaseSchema::getId);
             }
@@ -78,6 +86,8 @@ public class DatabaseStore implements DataStore {
                 return policiesRepository.findById(name).map(policy -> policy.getPayload().getBytes());
             } else if (localOperationTarget == OperationTarget.POLICYTYPES) {
                 return policyTypesRepository.findById(name).map(policyType -> policyType.getPayload().getBytes());
+            } else if (localOperationTarget == OperationTarget.RICS) {
+                return ricsRepository.findById(name).map(ric -> ric.getPayload().getBytes());
             } else {
                 return servicesRepository.findById(name).map(service -> service.getPayload().getBytes());
             }
@@ -102,6 +112,13 @@ public class DatabaseStore implements DataStore {
                             policyType.setNew(isNewPolicyType);
                             return policyTypesRepository.save(policyType).map(savedPolicyType -> fileData);
                         });
+            } else if (localOperationTarget == OperationTarget.RICS) {
+                return ricsRepository.findById(name).map(ric -> Boolean.FALSE).defaultIfEmpty(Boolean.TRUE)
+                        .flatMap(isNewRic -> {
+                            Ric ric = new Ric(name, new String(fileData));
+                            ric.setNew(isNewRic);
+                            return ricsRepository.save(ric).map(savedRic -> fileData);
+                        });
             } else {
                 return servicesRepository.findById(name).map(service -> Boolean.FALSE).defaultIfEmpty(Boolean.TRUE)
                         .flatMap(isNewService -> {
@@ -121,12 +138,30 @@ public class DatabaseStore implements DataStore {
                 return policiesRepository.deleteById(name).thenReturn(Boolean.TRUE);
             } else if (localOperationTarget == OperationTarget.POLICYTYPES) {
                 return policyTypesRepository.deleteById(name).thenReturn(Boolean.TRUE);
+            } else if (localOperationTarget == OperationTarget.RICS) {
+                return ricsRepository.deleteById(name).thenReturn(Boolean.TRUE);
             } else {
                 return servicesRepository.deleteById(name).thenReturn(Boolean.TRUE);
             }
         });
     }
 
+    @Override
+    public Mono<Long> deleteObjects(Collection<String> names) {
+        logger.debug("Deleting {} objects for target {}", names.size(), operationTarget.name());
+        return Mono.just(operationTarget).flatMap(localOperationTarget -> {
+            if (localOperationTarget == OperationTarget.POLICIES) {
+                return policiesRepository.deleteAllById(names).thenReturn((long) names.size());
+            } else if (localOperationTarget == OperationTarget.POLICYTYPES) {
+                return policyTypesRepository.deleteAllById(names).thenReturn((long) names.size());
+            } else if (localOperationTarget == OperationTarget.RICS) {
+                return ricsRepository.deleteAllById(names).thenReturn((long) names.size());
+            } else {
+                return servicesRepository.deleteAllById(names).thenReturn((long) names.size());
+            }
+        });
+    }
+
     @Override
     public Mono<String> createDataStore() {
         return Mono.just(OK);
@@ -140,6 +175,8 @@ public class DatabaseStore implements DataStore {
                 return policiesRepository.deleteAll().thenReturn(OK);
             } else if (localOperationTarget == OperationTarget.POLICYTYPES) {
                 return policyTypesRepository.deleteAll().thenReturn(OK);
+            } else if (localOperationTarget == OperationTarget.RICS) {
+                return ricsRepository.deleteAll().thenReturn(OK);
             } else {
                 return servicesRepository.deleteAll().thenReturn(OK);
             }
@@ -31,20 +31,33 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.ApplicationConfig;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.IoScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
+/**
+ * A DataStore backed by files. All file accesses are blocking and are executed
+ * on the I/O scheduler. The operations are executed one at a time, in the order
+ * they are subscribed to, so that for instance a delete that follows a write of
+ * the same file is not overtaken by it.
+ */
 class FileStore implements DataStore {
     private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
     ApplicationConfig applicationConfig;
     private final String location;
+    private Scheduler scheduler = null;
+    private Scheduler.Worker worker = null;
 
     public FileStore(ApplicationConfig applicationConfig, String location) {
         this.applicationConfig = applicationConfig;
@@ -53,6 +66,50 @@ class FileStore implements DataStore {
 
     @Override
     public Flux<String> listObjects(String prefix) {
+        return execute(() -> listFiles(prefix)) //
+                .flatMapMany(files -> files);
+    }
+
+    /**
+     * Executes a task on the worker. A task that is cancelled before it is started
+     * is skipped. A started task is not interrupted, since that could leave a
+     * partly written file.
+     */
+    private <T> Mono<T> execute(Callable<T> task) {
+        return Mono.create(sink -> {
+            AtomicBoolean cancelled = new AtomicBoolean();
+            sink.onCancel(() -> cancelled.set(true));
+            try {
+                worker().schedule(() -> {
+                    if (cancelled.get()) {
+                        return;
+                    }
+                    try {
+                        sink.success(task.call());
+                    } catch (Exception e) {
+                        sink.error(e);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                sink.error(e);
+            }
+        });
+    }
+
+    /**
+     * The worker is created from the current I/O scheduler, and is recreated if
+     * the scheduler is replaced.
+     */
+    private synchronized Scheduler.Worker worker() {
+        Scheduler current = IoScheduler.get();
+        if (current != scheduler) {
+            scheduler = current;
+            worker = current.createWorker();
+        }
+        return worker;
+    }
+
+    private Flux<String> listFiles(String prefix) {
         Path root = Path.of(path().toString(), prefix);
         if (!root.toFile().exists()) {
             root = root.getParent();
@@ -91,27 +148,30 @@ class FileStore implements DataStore {
 
     @Override
     public Mono<byte[]> readObject(String fileName) {
-        try {
-            byte[] contents = Files.readAllBytes(path(fileName));
-            return Mono.just(contents);
-        } catch (IOException e) {
-            return Mono.error(e);
-        }
+        return execute(() -> Files.readAllBytes(path(fileName)));
     }
 
     @Override
     public Mono<Boolean> deleteObject(String name) {
+        return execute(() -> deleteFile(name));
+    }
+
+    private boolean deleteFile(String name) {
         try {
             Files.delete(path(name));
-            return Mono.just(true);
+            return true;
         } catch (IOException e) {
             logger.debug("Could not delete file: {}, reason: {}", name, e.getMessage());
-            return Mono.just(false);
+            return false;
         }
     }
 
     @Override
     public Mono<String> createDataStore() {
+        return execute(this::createDirectory);
+    }
+
+    private String createDirectory() {
         try {
             if (!Strings.isNullOrEmpty(applicationConfig.getVardataDirectory())) {
                 Files.createDirectories(path());
@@ -119,7 +179,7 @@ class FileStore implements DataStore {
         } catch (IOException e) {
             logger.error("Could not create directory: {}, reason: {}", path(), e.getMessage());
         }
-        return Mono.just("OK");
+        return "OK";
     }
 
     private Path path(String name) throws IOException {
@@ -137,14 +197,18 @@ class FileStore implements DataStore {
 
     @Override
     public Mono<String> deleteAllObjects() {
-        return listObjects("") //
-                .flatMap(this::deleteObject) //
-                .collectList() //
-                .map(o -> "OK");
+        return execute(() -> {
+            listFiles("").toIterable().forEach(this::deleteFile);
+            return "OK";
+        });
     }
 
     @Override
     public Mono<byte[]> writeObject(String fileName, byte[] fileData) {
+        return execute(() -> writeFile(fileName, fileData));
+    }
+
+    private byte[] writeFile(String fileName, byte[] fileData) {
         try {
             Path filePath = path(fileName);
             if (!Strings.isNullOrEmpty(applicationConfig.getVardataDirectory())) {
@@ -156,7 +220,7 @@ class FileStore implements DataStore {
         } catch (IOException e) {
             logger.warn("Could not write file: {}, reason; {}", fileName, e.getMessage());
         }
-        return Mono.just(fileData);
+        return fileData;
     }
 
 }
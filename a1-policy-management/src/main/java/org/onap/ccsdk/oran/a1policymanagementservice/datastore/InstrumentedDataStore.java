@@ -0,0 +1,170 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.datastore;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * A DataStore that measures the latency, throughput and failures of the
+ * operations performed by another DataStore. The meters are tagged with the
+ * backend (file, s3, database or none) and the location (policies, services,
+ * policytypes) so that the persistence cost can be told apart from the A1
+ * (southbound) cost.
+ */
+public class InstrumentedDataStore implements DataStore {
+
+    static final String OPERATION_TIMER = "datastore_operation";
+    static final String INFLIGHT_GAUGE = "datastore_inflight_operations";
+    static final String FAILED_WRITES_COUNTER = "datastore_failed_writes";
+
+    private enum Operation {
+        LIST, READ, WRITE, DELETE, DELETE_BATCH, CREATE, DELETE_ALL;
+
+        String tag() {
+            return name().toLowerCase();
+        }
+    }
+
+    // Several stores for the same backend and location share one gauge. The
+    // counters are kept as long as their registry exists.
+    private static final Map<MeterRegistry, Map<String, AtomicInteger>> inflightCounters = new WeakHashMap<>();
+
+    private final DataStore delegate;
+    private final MeterRegistry meterRegistry;
+    private final String backend;
+    private final String location;
+    private final AtomicInteger inflight;
+    private final Counter failedWrites;
+
+    public InstrumentedDataStore(DataStore delegate, String backend, String location, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+        this.backend = backend;
+        this.location = location;
+        this.inflight = inflightCounter(meterRegistry, backend, location);
+        this.failedWrites = Counter.builder(FAILED_WRITES_COUNTER) //
+                .description("Number of failed writes and deletes in the data store") //
+                .tags("backend", backend, "location", location) //
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Flux<String> listObjects(String prefix) {
+        return Flux.defer(() -> {
+            final long startTime = start();
+            return delegate.listObjects(prefix) //
+                    .doFinally(signal -> stop(Operation.LIST, startTime, signal));
+        });
+    }
+
+    @Override
+    public Mono<byte[]> readObject(String name) {
+        return instrument(Operation.READ, () -> delegate.readObject(name));
+    }
+
+    @Override
+    public Mono<byte[]> writeObject(String name, byte[] fileData) {
+        return instrument(Operation.WRITE, () -> delegate.writeObject(name, fileData)) //
+                .doOnError(t -> failedWrites.increment());
+    }
+
+    @Override
+    public Mono<Boolean> deleteObject(String name) {
+        return instrument(Operation.DELETE, () -> delegate.deleteObject(name)) //
+                .doOnError(t -> failedWrites.increment());
+    }
+
+    @Override
+    public Mono<Long> deleteObjects(Collection<String> names) {
+        return instrument(Operation.DELETE_BATCH, () -> delegate.deleteObjects(names)) //
+                .doOnError(t -> failedWrites.increment());
+    }
+
+    @Override
+    public Mono<String> createDataStore() {
+        return instrument(Operation.CREATE, delegate::createDataStore);
+    }
+
+    @Override
+    public Mono<String> deleteAllObjects() {
+        return instrument(Operation.DELETE_ALL, delegate::deleteAllObjects);
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    private <T> Mono<T> instrument(Operation operation, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            final long startTime = start();
+            return call.get() //
+                    .doFinally(signal -> stop(operation, startTime, signal));
+        });
+    }
+
+    private static AtomicInteger inflightCounter(MeterRegistry registry, String backend, String location) {
+        synchronized (inflightCounters) {
+            return inflightCounters.computeIfAbsent(registry, r -> new HashMap<>()) //
+                    .computeIfAbsent(backend + "/" + location, key -> registry.gauge(INFLIGHT_GAUGE,
+                            Tags.of("backend", backend, "location", location), new AtomicInteger()));
+        }
+    }
+
+    private long start() {
+        inflight.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    private void stop(Operation operation, long startTime, SignalType signal) {
+        inflight.decrementAndGet();
+        Timer.builder(OPERATION_TIMER) //
+                .description("Latency of data store operations") //
+                .tags("operation", operation.tag(), "backend", backend, "location", location, //
+                        "outcome", outcome(signal)) //
+                .register(meterRegistry) //
+                .record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+    }
+
+    private static String outcome(SignalType signal) {
+        if (signal == SignalType.ON_ERROR) {
+            return "error";
+        } else if (signal == SignalType.CANCEL) {
+            return "cancelled";
+        }
+        return "success";
+    }
+}
@@ -20,8 +20,13 @@
 
 package org.onap.ccsdk.oran.a1policymanagementservice.datastore;
 
+import com.google.common.base.Strings;
+
 import java.lang.invoke.MethodHandles;
 import java.net.URI;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.ApplicationConfig;
@@ -46,6 +51,9 @@ import software.amazon.awssdk.services.s3.model.DeleteBucketRequest;
 import software.amazon.awssdk.services.s3.model.DeleteBucketResponse;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.ListObjectsRequest;
@@ -56,6 +64,7 @@ import software.amazon.awssdk.services.s3.model.S3Object;
 
 class S3ObjectStore implements DataStore {
     private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+    private static final int MAX_KEYS_PER_DELETE = 1000; // Limit given by the S3 DeleteObjects API
     private final ApplicationConfig applicationConfig;
 
     private static S3AsyncClient s3AsynchClient;
@@ -103,6 +112,31 @@ class S3ObjectStore implements DataStore {
         return Mono.fromFuture(future).map(resp -> true);
     }
 
+    @Override
+    public Mono<Long> deleteObjects(Collection<String> names) {
+        return Flux.fromIterable(names) //
+                .buffer(MAX_KEYS_PER_DELETE) //
+                .concatMap(this::deleteObjectBatch) //
+                .reduce(0L, Long::sum);
+    }
+
+    private Mono<Long> deleteObjectBatch(List<String> names) {
+        List<ObjectIdentifier> keys = names.stream() //
+                .map(name -> ObjectIdentifier.builder().key(key(name)).build()) //
+                .toList();
+        DeleteObjectsRequest request = DeleteObjectsRequest.builder() //
+                .bucket(bucket()) //
+                .delete(delete -> delete.objects(keys).quiet(false)) //
+                .build();
+
+        CompletableFuture<DeleteObjectsResponse> future = s3AsynchClient.deleteObjects(request);
+
+        return Mono.fromFuture(future) //
+                .doOnNext(resp -> resp.errors().forEach(error -> logger.warn("Could not delete object: {}, reason: {}",
+                        error.key(), error.message()))) //
+                .map(resp -> (long) resp.deleted().size());
+    }
+
     @Override
     public Mono<byte[]> readObject(String name) {
         return getDataFromS3Object(bucket(), name);
@@ -110,7 +144,29 @@ class S3ObjectStore implements DataStore {
 
     @Override
     public Mono<byte[]> writeObject(String name, byte[] fileData) {
+        return writeObjectAndGetETag(name, fileData) //
+                .map(eTag -> fileData);
+    }
+
+    /**
+     * Lists the objects with the given prefix together with their ETags.
+     *
+     * @param prefix the object name prefix
+     * @return (name, ETag) entries
+     */
+    Flux<Map.Entry<String, String>> listObjectETags(String prefix) {
+        return listObjectsInBucket(bucket(), location + "/" + prefix) //
+                .map(obj -> Map.entry(externalName(obj.key()), obj.eTag()));
+    }
 
+    /**
+     * Stores an object.
+     *
+     * @param name the object name
+     * @param fileData the contents
+     * @return the ETag S3 assigned to the stored object
+     */
+    Mono<String> writeObjectAndGetETag(String name, byte[] fileData) {
         PutObjectRequest request = PutObjectRequest.builder() //
                 .bucket(bucket()) //
                 .key(key(name)) //
@@ -121,7 +177,7 @@ class S3ObjectStore implements DataStore {
         CompletableFuture<PutObjectResponse> future = s3AsynchClient.putObject(request, body);
 
         return Mono.fromFuture(future) //
-                .map(putObjectResponse -> fileData) //
+                .map(resp -> Strings.nullToEmpty(resp.eTag())) //
                 .doOnError(t -> logger.error("Failed to store object '{}' in S3 {}", key(name), t.getMessage()));
     }
 
@@ -0,0 +1,362 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.datastore;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.ApplicationConfig;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.IoScheduler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * A DataStore that keeps a local replica of an S3 object store. Reads and
+ * listings are served from the local disk, writes and deletes go through to S3.
+ *
+ * A manifest with the ETag of each object, as last seen in S3, is kept next to
+ * the replica. When the store is created, the replica is reconciled with S3
+ * before the creation completes, so that the state that is restored into the
+ * repositories is the reconciled one:
+ * <ul>
+ * <li>objects that are new or changed in S3 (ETag differs) are downloaded</li>
+ * <li>objects that are removed from S3 are removed from the replica</li>
+ * <li>objects that were stored locally but never reached S3 are uploaded</li>
+ * <li>objects that were deleted locally but not in S3 are deleted in S3</li>
+ * </ul>
+ * If S3 cannot be reached, the creation completes anyway so that the local
+ * replica is restored, and the reconciliation is retried regularly.
+ *
+ * An object whose upload to, or delete in, S3 fails is marked as pending in the
+ * manifest and the local operation succeeds. The local replica is then the
+ * valid one, the object is not overwritten or brought back from S3 and the
+ * operation is retried regularly.
+ */
+@SuppressWarnings("squid:S2629") // Invoke method(s) only conditionally
+class TieredDataStore implements DataStore {
+    private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+    private static final Gson gson = new GsonBuilder().create();
+    private static final Duration MANIFEST_SAVE_INTERVAL = Duration.ofSeconds(1);
+    private static final int RECONCILE_CONCURRENCY = 10;
+    private static final Duration RETRY_INTERVAL = Duration.ofMinutes(1);
+    // Manifest values of an object that is changed or deleted locally but not yet
+    // in S3. An S3 ETag is a quoted string, so it cannot be mistaken for one.
+    static final String PENDING_UPLOAD = "pending-upload";
+    static final String PENDING_DELETE = "pending-delete";
+
+    private final S3ObjectStore remote;
+    private final DataStore local;
+    private final String location;
+    private final Path manifestPath;
+    private final Map<String, String> manifest = new HashMap<>(); // name -> S3 ETag
+    private final Sinks.Many<Boolean> manifestChanges = Sinks.many().multicast().directBestEffort();
+    private final Mono<Boolean> initialSynchronization = Mono.defer(this::synchronize).cache();
+    private volatile boolean isReconciliationFailed = false;
+    private final Disposable manifestSaver;
+    private final Disposable retrier;
+
+    public TieredDataStore(ApplicationConfig applicationConfig, String location) {
+        this(new S3ObjectStore(applicationConfig, location), new FileStore(applicationConfig, location), location,
+                Path.of(applicationConfig.getVardataDirectory(), "database", location + ".manifest.json"));
+    }
+
+    TieredDataStore(S3ObjectStore remote, DataStore local, String location, Path manifestPath) {
+        this.remote = remote;
+        this.local = local;
+        this.location = location;
+        this.manifestPath = manifestPath;
+        loadManifest();
+        this.manifestSaver = manifestChanges.asFlux() //
+                .sample(MANIFEST_SAVE_INTERVAL) //
+                .concatMap(x -> Mono.fromRunnable(this::saveManifest).subscribeOn(IoScheduler.get())) //
+                .subscribe();
+        this.retrier = Flux.interval(RETRY_INTERVAL) //
+                .onBackpressureDrop() //
+                .concatMap(x -> retry()) //
+                .subscribe();
+    }
+
+    @Override
+    public Flux<String> listObjects(String prefix) {
+        return local.listObjects(prefix);
+    }
+
+    @Override
+    public Mono<byte[]> readObject(String name) {
+        return local.readObject(name) //
+                .onErrorResume(t -> readThrough(name));
+    }
+
+    @Override
+    public Mono<byte[]> writeObject(String name, byte[] fileData) {
+        return local.writeObject(name, fileData) //
+                .flatMap(x -> remote.writeObjectAndGetETag(name, fileData) //
+                        .doOnNext(eTag -> updateManifest(name, eTag)) //
+                        .then() //
+                        .onErrorResume(t -> markPending(List.of(name), PENDING_UPLOAD, t))) //
+                .thenReturn(fileData);
+    }
+
+    @Override
+    public Mono<Boolean> deleteObject(String name) {
+        return local.deleteObject(name) //
+                .flatMap(deleted -> remote.deleteObject(name) //
+                        .doOnNext(x -> updateManifest(name, null)) //
+                        .then() //
+                        .onErrorResume(t -> markPending(List.of(name), PENDING_DELETE, t)) //
+                        .thenReturn(deleted));
+    }
+
+    @Override
+    public Mono<Long> deleteObjects(Collection<String> names) {
+        return local.deleteObjects(names) //
+                .flatMap(count -> remote.deleteObjects(names) //
+                        .doOnNext(x -> names.forEach(name -> updateManifest(name, null))) //
+                        .then() //
+                        .onErrorResume(t -> markPending(names, PENDING_DELETE, t)) //
+                        .thenReturn(count));
+    }
+
+    @Override
+    public Mono<String> createDataStore() {
+        return local.createDataStore() //
+                .flatMap(x -> initialSynchronization) // Done once, later creations get the cached result
+                .map(x -> "OK");
+    }
+
+    @Override
+    public Mono<String> deleteAllObjects() {
+        return local.deleteAllObjects() //
+                .flatMap(x -> remote.deleteAllObjects()) //
+                .doOnNext(x -> clearManifest());
+    }
+
+    @Override
+    public void close() {
+        manifestSaver.dispose();
+        retrier.dispose();
+    }
+
+    /**
+     * Creates the S3 bucket and reconciles the local replica with it. A failure is
+     * logged and the reconciliation is then retried in the background.
+     *
+     * @return true if the replica is reconciled
+     */
+    private Mono<Boolean> synchronize() {
+        return remote.createDataStore() //
+                .flatMap(x -> reconcile()) //
+                .doOnNext(count -> isReconciliationFailed = false) //
+                .map(count -> true) //
+                .doOnError(t -> logger.warn("Could not reconcile {} with S3, the local replica is used, reason: {}",
+                        location, t.getMessage())) //
+                .doOnError(t -> isReconciliationFailed = true) //
+                .onErrorReturn(false);
+    }
+
+    /**
+     * Brings the local replica in line with S3.
+     *
+     * @return the number of objects that were transferred or removed
+     */
+    Mono<Long> reconcile() {
+        return remote.listObjectETags("") //
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue) //
+                .flatMapMany(remoteETags -> Flux.concat(download(remoteETags), removeDeleted(remoteETags),
+                        uploadPending(remoteETags), retryPendingDeletes())) //
+                .count() //
+                .doOnNext(count -> logger.debug("Reconciled {} objects for {} with S3", count, location));
+    }
+
+    private Flux<String> download(Map<String, String> remoteETags) {
+        return Flux.fromIterable(remoteETags.entrySet()) //
+                .filter(entry -> !entry.getValue().equals(getManifestETag(entry.getKey()))) //
+                .filter(entry -> !isPending(entry.getKey())) //
+                .flatMap(entry -> remote.readObject(entry.getKey()) //
+                        .flatMap(data -> local.writeObject(entry.getKey(), data)) //
+                        .doOnNext(data -> updateManifest(entry.getKey(), entry.getValue())) //
+                        .map(data -> entry.getKey()), RECONCILE_CONCURRENCY);
+    }
+
+    private Flux<String> removeDeleted(Map<String, String> remoteETags) {
+        return Flux.fromIterable(getManifestNames()) //
+                .filter(name -> !remoteETags.containsKey(name) && !isPending(name)) //
+                .flatMap(name -> local.deleteObject(name) //
+                        .doOnNext(x -> updateManifest(name, null)) //
+                        .map(x -> name), RECONCILE_CONCURRENCY);
+    }
+
+    /**
+     * Uploads the objects that are marked as pending and the ones that are
+     * stored locally but are neither in S3 nor in the manifest.
+     */
+    private Flux<String> uploadPending(Map<String, String> remoteETags) {
+        return Flux.defer(() -> local.listObjects("")) //
+                .filter(name -> isPendingUpload(name, remoteETags)) //
+                .flatMap(this::upload, RECONCILE_CONCURRENCY);
+    }
+
+    /**
+     * Retries the reconciliation if that has failed, otherwise the pending uploads
+     * and deletes.
+     *
+     * @return true if the replica is reconciled
+     */
+    Mono<Boolean> retry() {
+        return Mono.defer(() -> isReconciliationFailed ? synchronize() : retryPending().then(Mono.just(true)));
+    }
+
+    /**
+     * Retries the uploads and deletes of the objects that are marked as pending.
+     *
+     * @return the names of the objects that were uploaded or deleted
+     */
+    Flux<String> retryPending() {
+        return Flux.concat(retryPendingDeletes(), retryPendingUploads());
+    }
+
+    private Flux<String> retryPendingUploads() {
+        return Flux.defer(() -> Flux.fromIterable(getManifestNames())) //
+                .filter(name -> PENDING_UPLOAD.equals(getManifestETag(name))) //
+                .flatMap(this::upload, RECONCILE_CONCURRENCY);
+    }
+
+    private Flux<String> retryPendingDeletes() {
+        return Mono.fromCallable(() -> getManifestNames().stream() //
+                .filter(name -> PENDING_DELETE.equals(getManifestETag(name))) //
+                .toList()) //
+                .filter(names -> !names.isEmpty()) //
+                .flatMap(names -> remote.deleteObjects(names).thenReturn(names)) //
+                .doOnNext(names -> names.forEach(name -> clearPending(name, PENDING_DELETE))) //
+                .flatMapIterable(names -> names) //
+                .doOnError(t -> logger.debug("Delete in S3 failed, reason: {}", t.getMessage())) //
+                .onErrorResume(t -> Flux.empty());
+    }
+
+    private Mono<Void> markPending(Collection<String> names, String marker, Throwable t) {
+        logger.warn("Could not update {} objects in S3 for {}, it is retried, reason: {}", names.size(), location,
+                t.getMessage());
+        names.forEach(name -> updateManifest(name, marker));
+        return Mono.empty();
+    }
+
+    private boolean isPending(String name) {
+        String manifestETag = getManifestETag(name);
+        return PENDING_UPLOAD.equals(manifestETag) || PENDING_DELETE.equals(manifestETag);
+    }
+
+    private Mono<String> upload(String name) {
+        return local.readObject(name) //
+                .flatMap(data -> remote.writeObjectAndGetETag(name, data)) //
+                .doOnNext(eTag -> updateManifest(name, eTag)) //
+                .map(eTag -> name) //
+                .doOnError(t -> logger.debug("Upload of {} to S3 failed, reason: {}", name, t.getMessage())) //
+                .onErrorResume(t -> Mono.empty());
+    }
+
+    private boolean isPendingUpload(String name, Map<String, String> remoteETags) {
+        String manifestETag = getManifestETag(name);
+        return PENDING_UPLOAD.equals(manifestETag) || (manifestETag == null && !remoteETags.containsKey(name));
+    }
+
+    private Mono<byte[]> readThrough(String name) {
+        return remote.readObject(name) //
+                .flatMap(data -> local.writeObject(name, data));
+    }
+
+    private synchronized String getManifestETag(String name) {
+        return manifest.get(name);
+    }
+
+    private synchronized Set<String> getManifestNames() {
+        return new HashSet<>(manifest.keySet());
+    }
+
+    private synchronized void updateManifest(String name, String eTag) {
+        if (eTag == null) {
+            manifest.remove(name);
+        } else {
+            manifest.put(name, eTag);
+        }
+        manifestChanges.tryEmitNext(true);
+    }
+
+    private synchronized void clearPending(String name, String marker) {
+        if (marker.equals(manifest.get(name))) {
+            updateManifest(name, null);
+        }
+    }
+
+    private synchronized void clearManifest() {
+        manifest.clear();
+        manifestChanges.tryEmitNext(true);
+    }
+
+    private synchronized void loadManifest() {
+        if (!Files.exists(manifestPath)) {
+            return;
+        }
+        try {
+            String json = Files.readString(manifestPath, StandardCharsets.UTF_8);
+            Map<String, String> stored = gson.fromJson(json, new TypeToken<Map<String, String>>() {}.getType());
+            if (stored != null) {
+                manifest.putAll(stored);
+            }
+        } catch (Exception e) {
+            logger.warn("Could not read manifest: {}, reason: {}", manifestPath, e.getMessage());
+        }
+    }
+
+    private void saveManifest() {
+        String json;
+        synchronized (this) {
+            json = gson.toJson(manifest);
+        }
+        try {
+            Files.createDirectories(manifestPath.getParent());
+            Path tmp = manifestPath.resolveSibling(manifestPath.getFileName() + ".tmp");
+            Files.writeString(tmp, json, StandardCharsets.UTF_8);
+            Files.move(tmp, manifestPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Could not store manifest: {}, reason: {}", manifestPath, e.getMessage());
+        }
+    }
+}
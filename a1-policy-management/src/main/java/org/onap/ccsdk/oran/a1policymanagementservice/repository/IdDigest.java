@@ -0,0 +1,93 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.repository;
+
+import java.util.Collection;
+
+import lombok.EqualsAndHashCode;
+
+/**
+ * An order independent digest of a set of identities, which can be updated
+ * incrementally when an identity is added or removed. Two sets with the same
+ * identities have the same digest, so a set can be compared with another set
+ * in O(n) without sorting or lookups. Different sets may, with a very low
+ * probability, have the same digest.
+ *
+ * <p>
+ * Not thread safe.
+ */
+@EqualsAndHashCode
+public class IdDigest {
+    private long sum = 0;
+    private long xor = 0;
+    private int count = 0;
+
+    public static IdDigest of(Collection<String> ids) {
+        IdDigest digest = new IdDigest();
+        for (String id : ids) {
+            digest.add(id);
+        }
+        return digest;
+    }
+
+    public void add(String id) {
+        long hash = hash(id);
+        sum += hash;
+        xor ^= hash;
+        count++;
+    }
+
+    public void remove(String id) {
+        long hash = hash(id);
+        sum -= hash;
+        xor ^= hash;
+        count--;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public IdDigest copy() {
+        IdDigest copy = new IdDigest();
+        copy.sum = sum;
+        copy.xor = xor;
+        copy.count = count;
+        return copy;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%016x%016x/%d", sum, xor, count);
+    }
+
+    // 64 bits FNV-1a, followed by the finalizer of SplitMix64 to spread the bits
+    private static long hash(String id) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < id.length(); ++i) {
+            hash ^= id.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+}
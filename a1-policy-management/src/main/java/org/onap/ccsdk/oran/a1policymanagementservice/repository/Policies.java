@@ -23,6 +23,10 @@ package org.onap.ccsdk.oran.a1policymanagementservice.repository;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PreDestroy;
+
 import java.lang.invoke.MethodHandles;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -69,12 +73,13 @@ public class Policies {
     private MultiMap<Policy> policiesRic = new MultiMap<>();
     private MultiMap<Policy> policiesService = new MultiMap<>();
     private MultiMap<Policy> policiesType = new MultiMap<>();
+    private Map<String, IdDigest> digestsRic = new HashMap<>();
     private final DataStore dataStore;
 
     private static Gson gson = new GsonBuilder().create();
 
-    public Policies(@Autowired ApplicationConfig appConfig) {
-        this.dataStore = DataStore.create(appConfig, "policies");
+    public Policies(@Autowired ApplicationConfig appConfig, MeterRegistry meterRegistry) {
+        this.dataStore = DataStore.create(appConfig, "policies", meterRegistry);
     }
 
     public Flux<Policy> restoreFromDatabase(Ric ric, PolicyTypes types) {
@@ -104,6 +109,7 @@ public class Policies {
         policiesRic.put(policy.getRic().id(), policy.getId(), policy);
         policiesService.put(policy.getOwnerServiceId(), policy.getId(), policy);
         policiesType.put(policy.getType().getId(), policy.getId(), policy);
+        digestsRic.computeIfAbsent(policy.getRic().id(), ricId -> new IdDigest()).add(policy.getId());
         if (!policy.isTransient()) {
             store(policy);
         }
@@ -137,6 +143,14 @@ public class Policies {
         return policiesRic.get(ric);
     }
 
+    /**
+     * @return the digest of the identities of the policies in a Near-RT RIC
+     */
+    public synchronized IdDigest getPolicyIdDigest(String ricId) {
+        IdDigest digest = digestsRic.get(ricId);
+        return digest == null ? new IdDigest() : digest.copy();
+    }
+
     public synchronized Set<String> getPolicyIdsForRic(String ricId) {
         return policiesRic.keySet(ricId);
     }
@@ -160,13 +174,32 @@ public class Policies {
         removeFromMaps(policy);
     }
 
-    public synchronized void removePoliciesForRic(String ricId) {
-        Collection<Policy> policiesForRic = getForRic(ricId);
-        for (Policy policy : policiesForRic) {
-            remove(policy);
+    /**
+     * Removes a number of policies. The stored policies are deleted in one batch.
+     *
+     * @param policiesToRemove the policies to remove
+     */
+    public synchronized void removePolicies(Collection<Policy> policiesToRemove) {
+        List<String> paths = new ArrayList<>();
+        for (Policy policy : policiesToRemove) {
+            if (!policy.isTransient()) {
+                paths.add(getPath(policy));
+            }
+            removeFromMaps(policy);
+        }
+        if (!paths.isEmpty()) {
+            dataStore.deleteObjects(paths) //
+                    .doOnError(t -> logger.error("Could not delete {} stored policies, reason: {}", paths.size(),
+                            t.getMessage())) //
+                    .onErrorResume(t -> Mono.empty()) //
+                    .subscribe();
         }
     }
 
+    public synchronized void removePoliciesForRic(String ricId) {
+        removePolicies(getForRic(ricId));
+    }
+
     public Collection<Policy> filterPolicies(@Nullable String typeId, @Nullable String ricId,
             @Nullable String serviceId, @Nullable String typeName) {
 
@@ -185,6 +218,14 @@ public class Policies {
         return policiesId.size();
     }
 
+    /**
+     * Releases the data store, when the application context is closed.
+     */
+    @PreDestroy
+    public void close() {
+        dataStore.close();
+    }
+
     public synchronized void clear() {
         while (policiesId.size() > 0) {
             Set<String> keys = policiesId.keySet();
@@ -202,12 +243,24 @@ public class Policies {
     }
 
     private void removeFromMaps(Policy policy) {
-        policiesId.remove(policy.getId());
+        if (policiesId.remove(policy.getId()) != null) {
+            removeFromDigest(policy);
+        }
         policiesRic.remove(policy.getRic().id(), policy.getId());
         policiesService.remove(policy.getOwnerServiceId(), policy.getId());
         policiesType.remove(policy.getType().getId(), policy.getId());
     }
 
+    private void removeFromDigest(Policy policy) {
+        IdDigest digest = digestsRic.get(policy.getRic().id());
+        if (digest != null) {
+            digest.remove(policy.getId());
+            if (digest.size() == 0) {
+                digestsRic.remove(policy.getRic().id());
+            }
+        }
+    }
+
     private boolean isMatch(String filterValue, String actualValue) {
         return filterValue == null || actualValue.equals(filterValue);
     }
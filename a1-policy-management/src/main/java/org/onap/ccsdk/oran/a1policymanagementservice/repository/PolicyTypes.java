@@ -23,6 +23,10 @@ package org.onap.ccsdk.oran.a1policymanagementservice.repository;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PreDestroy;
+
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -31,7 +35,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Vector;
 
+import org.everit.json.schema.Schema;
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.ApplicationConfig;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.JsonSchemaRegistry;
 import org.onap.ccsdk.oran.a1policymanagementservice.datastore.DataStore;
 import org.onap.ccsdk.oran.a1policymanagementservice.exceptions.EntityNotFoundException;
 import org.onap.ccsdk.oran.a1policymanagementservice.exceptions.ServiceException;
@@ -48,9 +54,11 @@ public class PolicyTypes {
     private Map<String, PolicyType> types = new HashMap<>();
     private static Gson gson = new GsonBuilder().create();
     private final DataStore dataStore;
+    // Compiled schemas of the types, keyed by policy type id
+    private final JsonSchemaRegistry schemas = new JsonSchemaRegistry();
 
-    public PolicyTypes(@Autowired ApplicationConfig appConfig) {
-        this.dataStore = DataStore.create(appConfig, "policytypes");
+    public PolicyTypes(@Autowired ApplicationConfig appConfig, MeterRegistry meterRegistry) {
+        this.dataStore = DataStore.create(appConfig, "policytypes", meterRegistry);
     }
 
     public synchronized PolicyType getType(String name) throws EntityNotFoundException {
@@ -66,10 +74,29 @@ public class PolicyTypes {
     }
 
     public synchronized void put(PolicyType type) {
-        types.put(type.getId(), type);
+        PolicyType previous = types.put(type.getId(), type);
+        if (previous != null) {
+            schemas.invalidate(type.getId());
+        }
         store(type);
     }
 
+    public synchronized void remove(PolicyType type) {
+        types.remove(type.getId());
+        schemas.invalidate(type.getId());
+        dataStore.deleteObject(getPath(type)) //
+                .doOnError(t -> logger.warn("Could not delete policy type: {} {}", type.getId(), t.getMessage()))
+                .onErrorResume(t -> Mono.empty()) //
+                .subscribe();
+    }
+
+    /**
+     * @return the compiled schema of a policy type
+     */
+    public Schema getSchema(PolicyType type) {
+        return schemas.getSchema(type.getId(), type.getSchema());
+    }
+
     public synchronized boolean contains(String policyType) {
         return types.containsKey(policyType);
     }
@@ -105,8 +132,17 @@ public class PolicyTypes {
         return types.size();
     }
 
+    /**
+     * Releases the data store, when the application context is closed.
+     */
+    @PreDestroy
+    public void close() {
+        dataStore.close();
+    }
+
     public synchronized void clear() {
         this.types.clear();
+        schemas.invalidateAll();
         dataStore.deleteAllObjects().onErrorResume(t -> Mono.empty()).subscribe();
     }
 
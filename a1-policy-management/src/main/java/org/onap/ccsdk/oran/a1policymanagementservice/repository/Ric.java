@@ -21,18 +21,27 @@
 package org.onap.ccsdk.oran.a1policymanagementservice.repository;
 
 import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Vector;
+import java.util.function.Function;
 
 import lombok.Getter;
 import lombok.Setter;
 
 import org.onap.ccsdk.oran.a1policymanagementservice.clients.A1Client.A1ProtocolType;
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.RicConfig;
+import org.onap.ccsdk.oran.a1policymanagementservice.exceptions.ServiceException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
 /**
  * Holds information about a Near-RT RIC.
@@ -44,6 +53,10 @@ public class Ric {
     private RicConfig ricConfig;
     private RicState state = RicState.UNAVAILABLE;
     private Map<String, PolicyType> supportedPolicyTypes = new HashMap<>();
+    private IdDigest supportedPolicyTypeDigest = new IdDigest();
+    private final List<Sinks.One<Ric>> availabilityWaiters = new ArrayList<>(); // In order of arrival
+    private Sinks.One<Ric> releasedWaiter = null; // The released write in progress, the next waits for it
+    private boolean restoring = true; // Created and not yet synchronized, the state is not set
 
     @Setter
     private A1ProtocolType protocolVersion = A1ProtocolType.UNKNOWN;
@@ -73,9 +86,134 @@ public class Ric {
         return this.state;
     }
 
-    public synchronized void setState(RicState state) {
-        logger.debug("Ric {} state set to {}", getConfig().getRicId(), state);
-        this.state = state;
+    public void setState(RicState state) {
+        List<Sinks.One<Ric>> released;
+        synchronized (this) {
+            logger.debug("Ric {} state set to {}", getConfig().getRicId(), state);
+            this.state = state;
+            this.restoring = false;
+            released = takeReleasedWaiters();
+        }
+        release(released);
+    }
+
+    /**
+     * Ends the restoring of the Ric, when its first synchronization is completed
+     * whatever the outcome. The writes are no longer waiting for a Ric that is
+     * UNAVAILABLE.
+     */
+    public void endRestoring() {
+        List<Sinks.One<Ric>> released;
+        synchronized (this) {
+            if (!restoring) {
+                return;
+            }
+            this.restoring = false;
+            released = takeReleasedWaiters();
+        }
+        release(released);
+    }
+
+    /**
+     * Does a write when the Ric is AVAILABLE. A write to a Ric that is being
+     * synchronized, or that is restored and not yet synchronized, waits until the
+     * synchronization is completed. The waiting writes are then done one at a
+     * time, in order of arrival, so that several writes of the same policy are
+     * done in the order they were requested. A new write waits behind them. If the
+     * Ric becomes UNAVAILABLE, the waiting writes are done directly.
+     *
+     * @param maxWaiting the maximum number of writes that may wait for the Ric. If
+     *        more are waiting, the write is rejected.
+     * @param timeout the maximum time to wait. The write is rejected when it is
+     *        elapsed.
+     * @param write the write, the caller is expected to check the state of the Ric
+     *        as the write may be done without the Ric being AVAILABLE
+     * @return the result of the write, or a {@link ServiceException} with status
+     *         LOCKED if the write is rejected. A rejected write is not done, so
+     *         that it does not overtake the waiting writes.
+     */
+    public <T> Mono<T> awaitAvailable(int maxWaiting, Duration timeout, Function<Ric, Mono<T>> write) {
+        return Mono.defer(() -> {
+            Sinks.One<Ric> waiter = Sinks.one();
+            synchronized (this) {
+                boolean isQueueIdle = availabilityWaiters.isEmpty() && releasedWaiter == null;
+                boolean mustWait = isWaitedFor() || (state == RicState.AVAILABLE && !isQueueIdle);
+                if (!mustWait) {
+                    waiter = null;
+                } else if (availabilityWaiters.size() >= maxWaiting) {
+                    logger.debug("Ric {} not waited for, {} requests are already waiting", id(), maxWaiting);
+                    return Mono.error(rejection("too many writes are waiting"));
+                } else {
+                    availabilityWaiters.add(waiter);
+                }
+            }
+            if (waiter == null) {
+                return write.apply(this);
+            }
+            final Sinks.One<Ric> queued = waiter;
+            return queued.asMono() //
+                    .timeout(timeout, Mono.defer(() -> {
+                        onWriteDone(queued);
+                        return Mono.error(rejection("timeout while waiting"));
+                    })) //
+                    .doOnCancel(() -> onWriteDone(queued)) //
+                    .flatMap(ric -> write.apply(ric).doFinally(signal -> onWriteDone(queued)));
+        });
+    }
+
+    /**
+     * @return the number of requests waiting for the Ric to become AVAILABLE
+     */
+    public synchronized int getAvailabilityWaiterCount() {
+        return availabilityWaiters.size();
+    }
+
+    private boolean isWaitedFor() {
+        return state == RicState.SYNCHRONIZING || (state == RicState.UNAVAILABLE && restoring);
+    }
+
+    private synchronized ServiceException rejection(String reason) {
+        return new ServiceException("Near-RT RIC: is not operational, id: " + id() + ", state: " + state + ", "
+                + reason, HttpStatus.LOCKED);
+    }
+
+    private void onWriteDone(Sinks.One<Ric> waiter) {
+        List<Sinks.One<Ric>> released;
+        synchronized (this) {
+            availabilityWaiters.remove(waiter);
+            if (releasedWaiter != waiter) {
+                return;
+            }
+            releasedWaiter = null;
+            released = takeReleasedWaiters();
+        }
+        release(released);
+    }
+
+    /**
+     * @return the waiters to release, must be called with the lock held. When the
+     *         Ric is AVAILABLE, the first waiter is released when the previously
+     *         released write is done. When the Ric is UNAVAILABLE, all are released.
+     */
+    private List<Sinks.One<Ric>> takeReleasedWaiters() {
+        if (availabilityWaiters.isEmpty()) {
+            return List.of();
+        }
+        if (state == RicState.AVAILABLE && releasedWaiter == null) {
+            releasedWaiter = availabilityWaiters.remove(0);
+            return List.of(releasedWaiter);
+        }
+        if (state == RicState.UNAVAILABLE) {
+            List<Sinks.One<Ric>> released = new ArrayList<>(availabilityWaiters);
+            availabilityWaiters.clear();
+            return released;
+        }
+        return List.of();
+    }
+
+    private void release(List<Sinks.One<Ric>> waiters) {
+        // Released outside of the lock
+        waiters.forEach(waiter -> waiter.tryEmitValue(this));
     }
 
     public synchronized A1ProtocolType getProtocolVersion() {
@@ -124,7 +262,9 @@ public class Ric {
      * @param type the policy type to support.
      */
     public synchronized void addSupportedPolicyType(PolicyType type) {
-        supportedPolicyTypes.put(type.getId(), type);
+        if (supportedPolicyTypes.put(type.getId(), type) == null) {
+            supportedPolicyTypeDigest.add(type.getId());
+        }
     }
 
     /**
@@ -132,6 +272,15 @@ public class Ric {
      */
     public synchronized void clearSupportedPolicyTypes() {
         supportedPolicyTypes.clear();
+        supportedPolicyTypeDigest = new IdDigest();
+    }
+
+    /**
+     * @return the digest of the identities of the policy types supported by this
+     *         Ric
+     */
+    public synchronized IdDigest getSupportedPolicyTypeDigest() {
+        return supportedPolicyTypeDigest.copy();
     }
 
     /**
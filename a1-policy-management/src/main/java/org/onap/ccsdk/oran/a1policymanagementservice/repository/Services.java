@@ -22,6 +22,10 @@ package org.onap.ccsdk.oran.a1policymanagementservice.repository;
 
 import com.google.gson.Gson;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PreDestroy;
+
 import java.lang.invoke.MethodHandles;
 import java.util.HashMap;
 import java.util.Map;
@@ -45,8 +49,8 @@ public class Services {
 
     private Map<String, Service> registeredServices = new HashMap<>();
 
-    public Services(@Autowired ApplicationConfig appConfig) {
-        this.dataStore = DataStore.create(appConfig, "services");
+    public Services(@Autowired ApplicationConfig appConfig, MeterRegistry meterRegistry) {
+        this.dataStore = DataStore.create(appConfig, "services", meterRegistry);
     }
 
     public synchronized Service getService(String name) throws ServiceException {
@@ -83,6 +87,14 @@ public class Services {
         return registeredServices.size();
     }
 
+    /**
+     * Releases the data store, when the application context is closed.
+     */
+    @PreDestroy
+    public void close() {
+        dataStore.close();
+    }
+
     public synchronized void clear() {
         registeredServices.clear();
         dataStore.deleteAllObjects().onErrorResume(t -> Mono.empty()).subscribe();
@@ -24,6 +24,8 @@ import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
 import lombok.RequiredArgsConstructor;
 import org.onap.ccsdk.oran.a1policymanagementservice.clients.A1ClientFactory;
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.PolicyStatusCache;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.ApplicationConfig;
 import org.onap.ccsdk.oran.a1policymanagementservice.controllers.authorization.PolicyAuthorizationRequest.Input.AccessType;
 import org.onap.ccsdk.oran.a1policymanagementservice.controllers.v2.Consts;
 import org.onap.ccsdk.oran.a1policymanagementservice.exceptions.EntityNotFoundException;
@@ -44,9 +46,11 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.lang.invoke.MethodHandles;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -59,8 +63,10 @@ public class PolicyService {
     private final Policies policies;
     private final AuthorizationService authorizationService;
     private final A1ClientFactory a1ClientFactory;
+    private final PolicyStatusCache policyStatusCache;
     private final ErrorHandlingService errorHandlingService;
     private final Gson gson;
+    private final ApplicationConfig applicationConfig;
 
     public Mono<ResponseEntity<PolicyObjectInformation>> createPolicyService
             (PolicyObjectInformation policyObjectInfo, ServerWebExchange serverWebExchange) {
@@ -70,14 +76,15 @@ public class PolicyService {
             Ric ric = rics.getRic(policyObjectInfo.getNearRtRicId());
             PolicyType policyType = policyTypes.getType(policyObjectInfo.getPolicyTypeId());
             Policy policy = helper.buildPolicy(policyObjectInfo, policyType, ric, helper.policyIdGeneration(policyObjectInfo), serverWebExchange);
-            if (Boolean.FALSE.equals(helper.performPolicySchemaValidation(policy, policyType)))
-                return Mono.error(new ServiceException("Policy Type Schema validation failed in create", HttpStatus.BAD_REQUEST));
-            return helper.isPolicyAlreadyCreated(policy,policies)
+            return helper.performPolicySchemaValidationAsync(policy, policyType)
+                    .flatMap(valid -> Boolean.FALSE.equals(valid)
+                            ? Mono.error(new ServiceException("Policy Type Schema validation failed in create", HttpStatus.BAD_REQUEST))
+                            : helper.isPolicyAlreadyCreated(policy, policies))
                     .doOnError(errorHandlingService::handleError)
                     .flatMap(policyBuilt -> authorizationService.authCheck(serverWebExchange, policy, AccessType.WRITE)
                     .doOnError(errorHandlingService::handleError)
-                    .flatMap(policyNotUsed -> ric.getLock().lock(Lock.LockType.SHARED, "createPolicy"))
-                    .flatMap(grant -> postPolicy(policy, grant))
+                    .flatMap(policyNotUsed -> awaitRicAvailable(ric, r -> r.getLock().lock(Lock.LockType.SHARED, "createPolicy")
+                            .flatMap(grant -> postPolicy(policy, grant))))
                     .map(locationHeaderValue ->
                             new ResponseEntity<PolicyObjectInformation>(policyObjectInfo,helper.createHttpHeaders(
                                     "location",helper.buildURI(policy.getId(), serverWebExchange)), HttpStatus.CREATED))
@@ -108,15 +115,16 @@ public class PolicyService {
                     new PolicyObjectInformation(existingPolicy.getRic().getConfig().getRicId(), body, existingPolicy.getType().getId());
             Policy updatedPolicy = helper.buildPolicy(pos, existingPolicy.getType(), existingPolicy.getRic(), policyId, exchange);
             PolicyType policyType = policyTypes.getType(pos.getPolicyTypeId());
-            if (Boolean.FALSE.equals(helper.performPolicySchemaValidation(updatedPolicy, policyType)))
-                return Mono.error(new ServiceException("Policy Type Schema validation failed in update", HttpStatus.BAD_REQUEST));
             Ric ric = existingPolicy.getRic();
-            return authorizationService.authCheck(exchange, updatedPolicy, AccessType.WRITE)
+            return helper.performPolicySchemaValidationAsync(updatedPolicy, policyType)
+                    .flatMap(valid -> Boolean.FALSE.equals(valid)
+                            ? Mono.error(new ServiceException("Policy Type Schema validation failed in update", HttpStatus.BAD_REQUEST))
+                            : authorizationService.authCheck(exchange, updatedPolicy, AccessType.WRITE))
                     .doOnError(errorHandlingService::handleError)
-                    .flatMap(policy -> ric.getLock().lock(Lock.LockType.SHARED, "updatePolicy"))
-                    .doOnError(errorHandlingService::handleError)
-                    .flatMap(grant -> postPolicy(updatedPolicy, grant))
-                    .map(header -> new ResponseEntity<Object>(policies.get(updatedPolicy.getId()).getJson(), HttpStatus.OK))
+                    .flatMap(policy -> awaitRicAvailable(ric, r -> r.getLock().lock(Lock.LockType.SHARED, "updatePolicy")
+                            .doOnError(errorHandlingService::handleError)
+                            .flatMap(grant -> postPolicy(updatedPolicy, grant))
+                            .map(header -> new ResponseEntity<Object>(policies.get(updatedPolicy.getId()).getJson(), HttpStatus.OK))))
                     .doOnError(errorHandlingService::handleError);
         } catch(Exception ex) {
             return Mono.error(ex);
@@ -194,8 +202,8 @@ public class PolicyService {
         Policy singlePolicy = policies.getPolicy(policyId);
         return authorizationService.authCheck(serverWebExchange, singlePolicy, AccessType.WRITE)
                 .doOnError(errorHandlingService::handleError)
-                .flatMap(policy -> policy.getRic().getLock().lock(Lock.LockType.SHARED, "deletePolicy"))
-                .flatMap(grant -> deletePolicy(singlePolicy, grant))
+                .flatMap(policy -> awaitRicAvailable(policy.getRic(), ric -> ric.getLock().lock(Lock.LockType.SHARED, "deletePolicy")
+                        .flatMap(grant -> deletePolicy(singlePolicy, grant))))
                 .doOnError(errorHandlingService::handleError);
     }
 
@@ -209,11 +217,32 @@ public class PolicyService {
                 .flatMap(a1Client -> a1Client.deletePolicy(policy))
                 .doOnError(errorHandlingService::handleError)
                 .doOnNext(policyString -> policies.remove(policy))
+                .doOnNext(policyString -> policyStatusCache.remove(policy.getId()))
                 .doFinally(releaseLock -> grant.unlockBlocking())
                 .map(successResponse -> new ResponseEntity<Void>(HttpStatus.NO_CONTENT))
                 .doOnError(errorHandlingService::handleError);
     }
 
+    /**
+     * A write to a RIC that is synchronizing is queued until the RIC is AVAILABLE
+     * and the queued writes are then done one at a time, in order of arrival. The
+     * RIC lock is taken by the write, as a synchronization needs the lock
+     * exclusively.
+     */
+    private <T> Mono<T> awaitRicAvailable(Ric ric, Function<Ric, Mono<T>> write) {
+        return ric.awaitAvailable(applicationConfig.getRicWriteQueueMaxSize(),
+                Duration.ofSeconds(applicationConfig.getRicWriteQueueTimeoutSeconds()), write);
+    }
+
+    private Mono<String> readStatus(Policy policy) {
+        // The lock is taken only if the status is not found in the cache. A RIC that is not
+        // AVAILABLE is not waited for, it may be locked by a synchronization for a long time.
+        return Mono.defer(() -> helper.checkRicStateIdle(policy.getRic()))
+                .flatMap(ric -> ric.getLock().lock(Lock.LockType.SHARED, "getStatus"))
+                .doOnError(errorHandlingService::handleError)
+                .flatMap(grant -> getStatus(policy, grant));
+    }
+
     private Mono<String> getStatus(Policy policy, Lock.Grant grant) {
         return  helper.checkRicStateIdle(policy.getRic())
                 .doOnError(errorHandlingService::handleError)
@@ -233,9 +262,7 @@ public class PolicyService {
 
         return authorizationService.authCheck(exchange, policy, AccessType.READ)
                 .doOnError(errorHandlingService::handleError)
-                .flatMap(policyLock -> policy.getRic().getLock().lock(Lock.LockType.SHARED, "getStatus"))
-                .doOnError(errorHandlingService::handleError)
-                .flatMap(grant -> getStatus(policy, grant))
+                .flatMap(policyLock -> policyStatusCache.getStatus(policy, readStatus(policy)))
                 .doOnError(errorHandlingService::handleError)
                 .map(successResponse -> new ResponseEntity<Object>(successResponse, HttpStatus.OK))
                 .doOnError(errorHandlingService::handleError);
@@ -0,0 +1,283 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.tasks;
+
+import com.google.common.collect.Lists;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.Getter;
+
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.A1Client.PolicyResult;
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.A1ClientFactory;
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.PolicyStatusCache;
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.RequestPriority;
+import org.onap.ccsdk.oran.a1policymanagementservice.repository.Lock;
+import org.onap.ccsdk.oran.a1policymanagementservice.repository.Lock.LockType;
+import org.onap.ccsdk.oran.a1policymanagementservice.repository.Policies;
+import org.onap.ccsdk.oran.a1policymanagementservice.repository.Policy;
+import org.onap.ccsdk.oran.a1policymanagementservice.repository.Ric;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Deletes a number of policies, for instance all policies owned by a removed
+ * service. The policies are grouped by Near-RT RIC and removed from the
+ * repository and deleted in the RICs in batches. The RICs are handled in
+ * parallel, the batches of one RIC are deleted one after the other. Each
+ * deletion is a {@link Job} that can be followed while it is executed. When a
+ * job is completed, its outcome is logged and its duration is recorded.
+ */
+@Component
+@SuppressWarnings("squid:S2629") // Invoke method(s) only conditionally
+public class CascadeDeletion {
+    private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    public static final String PENDING_GAUGE = "cascade_deletion_pending_policies";
+    public static final String POLICIES_COUNTER = "cascade_deletion_policies";
+    public static final String JOBS_TIMER = "cascade_deletion_jobs";
+
+    // Number of RICs handled in parallel, the requests to each RIC are limited by the A1 client
+    static final int RIC_CONCURRENCY = 10;
+    static final int BATCH_SIZE = 100;
+
+    private final Policies policies;
+    private final A1ClientFactory a1ClientFactory;
+    private final PolicyStatusCache policyStatusCache;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Job> runningJobs = new LinkedHashMap<>();
+
+    public enum JobState {
+        RUNNING, COMPLETED
+    }
+
+    /**
+     * A deletion of a number of policies, and its progress.
+     */
+    public static class Job {
+        @Getter
+        private final String id = UUID.randomUUID().toString();
+        @Getter
+        private final String description;
+        @Getter
+        private final int total;
+        @Getter
+        private final Instant startTime = Instant.now();
+        private final Collection<Policy> policies;
+        private final AtomicInteger deleted = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final Sinks.One<Job> completion = Sinks.one();
+        private volatile Instant endTime = null;
+
+        Job(String description, Collection<Policy> policies) {
+            this.description = description;
+            this.policies = policies;
+            this.total = policies.size();
+        }
+
+        /**
+         * @return the number of policies that are deleted in the Near-RT RICs
+         */
+        public int getDeleted() {
+            return deleted.get();
+        }
+
+        /**
+         * @return the number of policies that could not be deleted in the Near-RT
+         *         RICs. They are removed from the repository anyway, and are deleted
+         *         by the next synchronization of the RIC.
+         */
+        public int getFailed() {
+            return failed.get();
+        }
+
+        public int getPending() {
+            return total - getDeleted() - getFailed();
+        }
+
+        public JobState getState() {
+            return endTime == null ? JobState.RUNNING : JobState.COMPLETED;
+        }
+
+        public Instant getEndTime() {
+            return endTime;
+        }
+
+        /**
+         * @return the job, emitted when the job is completed
+         */
+        public Mono<Job> completion() {
+            return completion.asMono();
+        }
+    }
+
+    public CascadeDeletion(Policies policies, A1ClientFactory a1ClientFactory, PolicyStatusCache policyStatusCache,
+            MeterRegistry meterRegistry) {
+        this.policies = policies;
+        this.a1ClientFactory = a1ClientFactory;
+        this.policyStatusCache = policyStatusCache;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder(PENDING_GAUGE, this, CascadeDeletion::getPending) //
+                .description("The number of policies that are waiting to be deleted by a cascade deletion") //
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts a deletion, which is executed in the background.
+     *
+     * @param description what is deleted, for instance the removed service
+     * @param policiesToDelete the policies to delete
+     * @return the started job
+     */
+    public Job start(String description, Collection<Policy> policiesToDelete) {
+        Job job = createJob(description, policiesToDelete);
+        execute(job) //
+                .contextWrite(RequestPriority.CLEANUP.toContext()) //
+                .subscribe();
+        return job;
+    }
+
+    /**
+     * Creates a job, which is executed by {@link #execute(Job)}.
+     */
+    public synchronized Job createJob(String description, Collection<Policy> policiesToDelete) {
+        Job job = new Job(description, policiesToDelete);
+        runningJobs.put(job.getId(), job);
+        return job;
+    }
+
+    /**
+     * Executes a job.
+     *
+     * @return the policies that are deleted in the Near-RT RICs
+     */
+    public Flux<Policy> execute(Job job) {
+        logger.info("Cascade deletion {} of {} policies started, {}", job.getId(), job.getTotal(),
+                job.getDescription());
+        return Flux.fromIterable(groupByRic(job.policies)) //
+                .flatMap(policiesInRic -> deleteInRic(job, policiesInRic), RIC_CONCURRENCY) //
+                .doFinally(signal -> onCompleted(job));
+    }
+
+    private void onCompleted(Job job) {
+        job.endTime = Instant.now();
+        removeRunningJob(job);
+        Duration duration = Duration.between(job.getStartTime(), job.getEndTime());
+        Timer.builder(JOBS_TIMER) //
+                .description("The duration of the cascade deletions") //
+                .tag("outcome", job.getFailed() == 0 ? "deleted" : "failed") //
+                .register(meterRegistry) //
+                .record(duration);
+        logger.info("Cascade deletion {} completed in {} ms, {}, deleted: {}, failed: {}", job.getId(),
+                duration.toMillis(), job.getDescription(), job.getDeleted(), job.getFailed());
+        job.completion.tryEmitValue(job);
+    }
+
+    private synchronized void removeRunningJob(Job job) {
+        runningJobs.remove(job.getId());
+    }
+
+    private synchronized double getPending() {
+        return runningJobs.values().stream().mapToInt(Job::getPending).sum();
+    }
+
+    private static Collection<List<Policy>> groupByRic(Collection<Policy> policiesToDelete) {
+        Map<String, List<Policy>> policiesPerRic = new LinkedHashMap<>();
+        for (Policy policy : policiesToDelete) {
+            policiesPerRic.computeIfAbsent(policy.getRic().id(), id -> new ArrayList<>()).add(policy);
+        }
+        return policiesPerRic.values();
+    }
+
+    private Flux<Policy> deleteInRic(Job job, List<Policy> policiesInRic) {
+        Ric ric = policiesInRic.get(0).getRic();
+        return Flux.fromIterable(Lists.partition(policiesInRic, BATCH_SIZE)) //
+                .concatMap(batch -> deleteBatch(job, ric, batch));
+    }
+
+    private Flux<Policy> deleteBatch(Job job, Ric ric, List<Policy> batch) {
+        Lock lock = ric.getLock();
+        AtomicInteger handled = new AtomicInteger();
+        return lock.lock(LockType.SHARED, "CascadeDeletion") //
+                .doOnNext(grant -> removePolicies(batch)) //
+                .flatMap(grant -> a1ClientFactory.createA1Client(ric)) //
+                .flatMapMany(client -> client.deletePolicies(Flux.fromIterable(batch))) //
+                .doOnNext(result -> handled.incrementAndGet()) //
+                .flatMap(result -> result.isOk() ? onDeleted(job, result.getPolicy()) : onFailed(job, result)) //
+                .doFinally(signal -> lock.unlockBlocking()) //
+                .onErrorResume(throwable -> {
+                    int noOfFailed = batch.size() - handled.get();
+                    logger.warn("Could not delete {} policies in ric: {}, reason: {}", noOfFailed, ric.id(),
+                            throwable.getMessage());
+                    job.failed.addAndGet(noOfFailed);
+                    countPolicies("failed", noOfFailed);
+                    return Flux.empty();
+                });
+    }
+
+    private void removePolicies(List<Policy> batch) {
+        policies.removePolicies(batch);
+        batch.forEach(policy -> policyStatusCache.remove(policy.getId()));
+    }
+
+    private Mono<Policy> onDeleted(Job job, Policy policy) {
+        logger.trace("Policy deleted: {}, {}", policy.getId(), job.getDescription());
+        job.deleted.incrementAndGet();
+        countPolicies("deleted", 1);
+        return Mono.just(policy);
+    }
+
+    private Mono<Policy> onFailed(Job job, PolicyResult result) {
+        Policy policy = result.getPolicy();
+        logger.warn("Could not delete policy: {} from ric: {}. Cause: {}", policy.getId(), policy.getRic().id(),
+                result.getError().getMessage());
+        job.failed.incrementAndGet();
+        countPolicies("failed", 1);
+        return Mono.empty();
+    }
+
+    private void countPolicies(String outcome, int noOfPolicies) {
+        Counter.builder(POLICIES_COUNTER) //
+                .description("The number of policies deleted in Near-RT RICs by cascade deletions") //
+                .tag("outcome", outcome) //
+                .register(meterRegistry) //
+                .increment(noOfPolicies);
+    }
+}
@@ -22,10 +22,13 @@ package org.onap.ccsdk.oran.a1policymanagementservice.tasks;
 
 import com.google.gson.JsonObject;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 import java.lang.invoke.MethodHandles;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -37,6 +40,7 @@ import org.onap.ccsdk.oran.a1policymanagementservice.configuration.ApplicationCo
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.ApplicationConfig.RicConfigUpdate;
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.ApplicationConfigParser;
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.ConfigurationFile;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.IoScheduler;
 import org.onap.ccsdk.oran.a1policymanagementservice.exceptions.ServiceException;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.Lock.LockType;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.Policies;
@@ -55,7 +59,9 @@ import reactor.core.publisher.Mono;
 import reactor.util.annotation.Nullable;
 
 /**
- * Regularly refreshes the component configuration from a configuration file.
+ * Refreshes the component configuration from a configuration file. The file is
+ * reloaded when a change of it is signalled and, as a fallback, when its
+ * modification time is changed.
  */
 @Component
 @SuppressWarnings("squid:S2629") // Invoke method(s) only conditionally
@@ -84,12 +90,14 @@ public class RefreshConfigTask {
     private final Services services;
     private final PolicyTypes policyTypes;
     private final AsyncRestClientFactory restClientFactory;
+    private final MeterRegistry meterRegistry;
 
     private long fileLastModified = 0;
+    private final AtomicBoolean reloadRequested = new AtomicBoolean();
 
     public RefreshConfigTask(ConfigurationFile configurationFile, ApplicationConfig appConfig, Rics rics,
             Policies policies, Services services, PolicyTypes policyTypes, A1ClientFactory a1ClientFactory,
-            SecurityContext securityContext) {
+            SecurityContext securityContext, MeterRegistry meterRegistry) {
         this.configurationFile = configurationFile;
         this.appConfig = appConfig;
         this.rics = rics;
@@ -97,7 +105,9 @@ public class RefreshConfigTask {
         this.services = services;
         this.policyTypes = policyTypes;
         this.a1ClientFactory = a1ClientFactory;
-        this.restClientFactory = new AsyncRestClientFactory(appConfig.getWebClientConfig(), securityContext);
+        this.restClientFactory =
+                new AsyncRestClientFactory(appConfig.getWebClientConfig(), securityContext, meterRegistry);
+        this.meterRegistry = meterRegistry;
     }
 
     public void start() {
@@ -117,8 +127,9 @@ public class RefreshConfigTask {
     }
 
     Flux<RicConfigUpdate.Type> createRefreshTask() {
-        Flux<JsonObject> loadFromFile = regularInterval() //
-                .flatMap(notUsed -> loadConfigurationFromFile()) //
+        Flux<JsonObject> loadFromFile = Flux.merge(regularInterval(), fileChanges()) //
+                .onBackpressureLatest() //
+                .concatMap(notUsed -> Flux.defer(this::loadConfigurationFromFile).subscribeOn(IoScheduler.get()), 1) //
                 .onErrorResume(this::ignoreErrorFlux) //
                 .doOnNext(json -> logger.debug("loadFromFile succeeded")) //
                 .doOnTerminate(() -> logger.error("loadFromFile Terminate"));
@@ -139,6 +150,12 @@ public class RefreshConfigTask {
                 .limitRate(1); // Limit so that only one event is emitted at a time
     }
 
+    private Flux<Long> fileChanges() {
+        return configurationFile.changes() //
+                .doOnNext(notUsed -> reloadRequested.set(true)) //
+                .map(notUsed -> 0L);
+    }
+
     private <R> Flux<R> ignoreErrorFlux(Throwable throwable) {
         String errMsg = throwable.toString();
         logger.warn("Could not refresh application configuration. {}", errMsg);
@@ -163,13 +180,17 @@ public class RefreshConfigTask {
         if (ric != null) {
             ric.getLock().lock(LockType.EXCLUSIVE, "removedRic") //
                     .flatMap(notUsed -> synchronizationTask().synchronizeRic(ric)) //
-                    .doFinally(sig -> ric.getLock().unlockBlocking()) //
+                    .doFinally(sig -> {
+                        ric.getLock().unlockBlocking();
+                        a1ClientFactory.invalidate(ric.id());
+                    }) //
                     .subscribe();
         }
     }
 
     private RicSynchronizationTask synchronizationTask() {
-        return new RicSynchronizationTask(a1ClientFactory, policyTypes, policies, services, restClientFactory, rics);
+        return new RicSynchronizationTask(a1ClientFactory, policyTypes, policies, services, restClientFactory, rics,
+                meterRegistry);
     }
 
     public Mono<RicConfigUpdate.Type> handleUpdatedRicConfig(RicConfigUpdate updatedInfo) {
@@ -191,10 +212,12 @@ public class RefreshConfigTask {
             } else if (event == RicConfigUpdate.Type.REMOVED) {
                 logger.debug("RIC removed {}", ricId);
                 Ric ric = rics.remove(ricId);
+                this.a1ClientFactory.invalidate(ricId);
                 this.policies.removePoliciesForRic(ricId);
                 removePoliciciesInRic(ric);
             } else if (event == RicConfigUpdate.Type.CHANGED) {
                 logger.debug("RIC config updated {}", ricId);
+                this.a1ClientFactory.invalidate(ricId);
                 Ric ric = this.rics.get(ricId);
                 if (ric == null) {
                     logger.error("An non existing RIC config is changed, should not happen (just for robustness)");
@@ -208,13 +231,17 @@ public class RefreshConfigTask {
     }
 
     /**
-     * Reads the configuration from file.
+     * Reads the configuration from file. This is blocking and is executed on the
+     * I/O scheduler.
      */
     Flux<JsonObject> loadConfigurationFromFile() {
-        if (configurationFile.getLastModified() == fileLastModified) {
+        long lastModified = configurationFile.getLastModified();
+        // A signalled change is loaded even if the modification time is unchanged,
+        // the time resolution of the file system may be too coarse to tell
+        if (!reloadRequested.getAndSet(false) && lastModified == fileLastModified) {
             return Flux.empty();
         }
-        fileLastModified = configurationFile.getLastModified();
+        fileLastModified = lastModified;
         Optional<JsonObject> readJson = configurationFile.readFile();
         if (readJson.isPresent()) {
             return Flux.just(readJson.get());
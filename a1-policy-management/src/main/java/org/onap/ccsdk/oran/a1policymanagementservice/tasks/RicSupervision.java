@@ -20,15 +20,24 @@
 
 package org.onap.ccsdk.oran.a1policymanagementservice.tasks;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.onap.ccsdk.oran.a1policymanagementservice.clients.A1Client;
 import org.onap.ccsdk.oran.a1policymanagementservice.clients.A1ClientFactory;
 import org.onap.ccsdk.oran.a1policymanagementservice.clients.AsyncRestClientFactory;
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.RequestPriority;
 import org.onap.ccsdk.oran.a1policymanagementservice.clients.SecurityContext;
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.ApplicationConfig;
 import org.onap.ccsdk.oran.a1policymanagementservice.exceptions.ServiceException;
+import org.onap.ccsdk.oran.a1policymanagementservice.repository.IdDigest;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.Lock.LockType;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.Policies;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.PolicyTypes;
@@ -56,13 +65,17 @@ import reactor.core.publisher.Mono;
 public class RicSupervision {
     private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
-    private static final int CONCURRENCY = 50; // Number of RIC checked in paralell
+    private static final int MAX_LOGGED_IDS = 10;
+    private static final long SCHEDULE_TICK_MILLIS = 1000;
     private final Rics rics;
     private final Policies policies;
     private final PolicyTypes policyTypes;
     private final A1ClientFactory a1ClientFactory;
     private final Services services;
     private final AsyncRestClientFactory restClientFactory;
+    private final MeterRegistry meterRegistry;
+    private final SupervisionSchedule schedule;
+    private final int maxConcurrency; // Number of RIC checked in paralell
 
     private static class SynchNeededException extends ServiceException {
         private static final long serialVersionUID = 1L;
@@ -84,22 +97,42 @@ public class RicSupervision {
 
         final Ric ric;
         private final A1Client a1Client;
+        volatile boolean consistent = false;
     }
 
     public RicSupervision(Rics rics, Policies policies, A1ClientFactory a1ClientFactory, PolicyTypes policyTypes,
-            Services services, ApplicationConfig config, SecurityContext securityContext) {
+            Services services, ApplicationConfig config, SecurityContext securityContext, MeterRegistry meterRegistry) {
         this.rics = rics;
         this.policies = policies;
         this.a1ClientFactory = a1ClientFactory;
         this.policyTypes = policyTypes;
         this.services = services;
-        this.restClientFactory = new AsyncRestClientFactory(config.getWebClientConfig(), securityContext);
+        this.restClientFactory =
+                new AsyncRestClientFactory(config.getWebClientConfig(), securityContext, meterRegistry);
+        this.meterRegistry = meterRegistry;
+        this.maxConcurrency = Math.max(1, config.getRicSupervisionMaxConcurrency());
+        Duration interval = Duration.ofSeconds(Math.max(1, config.getRicSupervisionIntervalSeconds()));
+        Duration maxInterval = Duration.ofSeconds(config.getRicSupervisionMaxIntervalSeconds());
+        this.schedule = new SupervisionSchedule(interval, maxInterval, maxConcurrency, meterRegistry);
+        a1ClientFactory.addSouthboundErrorListener(ricId -> schedule.shorten(ricId, Instant.now()));
     }
 
     /**
-     * Regularly contacts all Rics to check if they are alive and synchronized.
+     * Regularly contacts the Rics that are due for a check, to check if they are
+     * alive and synchronized. Each Ric is checked at its own phase of the
+     * supervision interval.
+     */
+    @Scheduled(fixedRate = SCHEDULE_TICK_MILLIS)
+    public void checkDueRics() {
+        Flux.fromIterable(schedule.takeDue(rics.getRics(), Instant.now())) //
+                .flatMap(this::superviseRic) //
+                .contextWrite(RequestPriority.SUPERVISION.toContext()) //
+                .subscribe();
+    }
+
+    /**
+     * Contacts all Rics at once to check if they are alive and synchronized.
      */
-    @Scheduled(fixedRate = 1000 * 60)
     public void checkAllRics() {
         logger.debug("Checking Rics starting");
         createTask().subscribe(null, null, () -> logger.debug("Checking all RICs completed"));
@@ -107,10 +140,20 @@ public class RicSupervision {
 
     private Flux<Ric> createTask() {
         return Flux.fromIterable(rics.getRics()) //
-                .flatMap(this::createRicData) //
-                .onErrorResume(t -> Flux.empty()) //
-                .flatMap(this::checkOneRic, CONCURRENCY) //
-                .map(ricData -> ricData.ric);
+                .filter(ric -> schedule.tryStart(ric, Instant.now())) //
+                .flatMap(this::superviseRic, maxConcurrency) //
+                .contextWrite(RequestPriority.SUPERVISION.toContext());
+    }
+
+    private Mono<Ric> superviseRic(Ric ric) {
+        Instant started = Instant.now();
+        AtomicBoolean consistent = new AtomicBoolean(false);
+        return createRicData(ric) //
+                .onErrorResume(t -> Mono.empty()) //
+                .flatMap(this::checkOneRic) //
+                .doOnNext(ricData -> consistent.set(ricData.consistent)) //
+                .map(ricData -> ricData.ric) //
+                .doFinally(sig -> schedule.completed(ric, started, Instant.now(), consistent.get()));
     }
 
     private Mono<RicData> checkOneRic(RicData ricData) {
@@ -151,6 +194,7 @@ public class RicSupervision {
     private void onRicCheckedOk(RicData ricData) {
         logger.debug("Ric: {} checked OK", ricData.ric.id());
         ricData.ric.setState(RicState.AVAILABLE);
+        ricData.consistent = true;
     }
 
     private Mono<RicData> createRicData(Ric ric) {
@@ -167,23 +211,15 @@ public class RicSupervision {
 
     private Mono<RicData> validateInstances(Collection<String> ricPolicies, RicData ric) {
         logger.trace("Policies to be validated: {} , against: {} , in ric: {}", ricPolicies, ric.ric.getManagedElementIds(), ric.ric.id());
-        synchronized (this.policies) {
-            if (ricPolicies.size() != policies.getForRic(ric.ric.id()).size()) {
-                logger.debug("RicSupervision, starting ric: {} synchronization (noOfPolicices == {}, expected == {})",
-                        ric.ric.id(), ricPolicies.size(), policies.getForRic(ric.ric.id()).size());
-                return Mono.error(new SynchNeededException(ric));
-            }
-
-            for (String policyId : ricPolicies) {
-                if (!policies.containsPolicy(policyId)) {
-                    logger.debug("RicSupervision, starting ric: {} synchronization (unexpected policy in RIC: {})",
-                            ric.ric.id(), policyId);
-                    return Mono.error(new SynchNeededException(ric));
-                }
-            }
-
+        // The digests are compared first, the repository is only locked while its
+        // digest is copied. The set of policies is only compared if they differ.
+        if (IdDigest.of(ricPolicies).equals(policies.getPolicyIdDigest(ric.ric.id()))) {
             return Mono.just(ric);
         }
+        Set<String> expected = new HashSet<>();
+        policies.getForRic(ric.ric.id()).forEach(policy -> expected.add(policy.getId()));
+        logMismatch(ric, "policies", ricPolicies, expected);
+        return Mono.error(new SynchNeededException(ric));
     }
 
     private Mono<RicData> checkRicPolicyTypes(RicData ric) {
@@ -192,21 +228,23 @@ public class RicSupervision {
     }
 
     private Mono<RicData> validateTypes(Collection<String> ricTypes, RicData ric) {
-        if (ricTypes.size() != ric.ric.getSupportedPolicyTypes().size()) {
-            logger.debug(
-                    "RicSupervision, starting ric: {} synchronization (unexpected numer of policy types in RIC: {}, expected: {})",
-                    ric.ric.id(), ricTypes.size(), ric.ric.getSupportedPolicyTypes().size());
-            return Mono.error(new SynchNeededException(ric));
-        }
-        for (String typeName : ricTypes) {
-            if (!ric.ric.isSupportingType(typeName)) {
-                logger.debug("RicSupervision, starting ric: {} synchronization (unexpected policy type: {})",
-                        ric.ric.id(), typeName);
-                return Mono.error(new SynchNeededException(ric));
-            }
+        if (IdDigest.of(ricTypes).equals(ric.ric.getSupportedPolicyTypeDigest())) {
+            return Mono.just(ric);
         }
+        logMismatch(ric, "policy types", ricTypes, new HashSet<>(ric.ric.getSupportedPolicyTypeNames()));
+        return Mono.error(new SynchNeededException(ric));
+    }
+
+    private void logMismatch(RicData ric, String what, Collection<String> inRic, Set<String> expected) {
+        Set<String> unexpected = new HashSet<>(inRic);
+        unexpected.removeAll(expected);
+        expected.removeAll(inRic);
+        logger.debug("RicSupervision, starting ric: {} synchronization ({} unexpected {} in RIC: {}, {} missing: {})",
+                ric.ric.id(), unexpected.size(), what, sample(unexpected), expected.size(), sample(expected));
+    }
 
-        return Mono.just(ric);
+    private static Collection<String> sample(Set<String> ids) {
+        return ids.stream().limit(MAX_LOGGED_IDS).toList();
     }
 
     private Mono<RicData> startSynchronization(RicData ric) {
@@ -218,6 +256,7 @@ public class RicSupervision {
     }
 
     RicSynchronizationTask createSynchronizationTask() {
-        return new RicSynchronizationTask(a1ClientFactory, policyTypes, policies, services, restClientFactory, rics);
+        return new RicSynchronizationTask(a1ClientFactory, policyTypes, policies, services, restClientFactory, rics,
+                meterRegistry);
     }
 }
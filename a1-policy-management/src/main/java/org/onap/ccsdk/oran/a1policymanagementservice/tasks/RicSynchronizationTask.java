@@ -22,13 +22,24 @@ package org.onap.ccsdk.oran.a1policymanagementservice.tasks;
 
 import static org.onap.ccsdk.oran.a1policymanagementservice.repository.Ric.RicState;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.onap.ccsdk.oran.a1policymanagementservice.clients.A1Client;
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.A1Client.PolicyResult;
 import org.onap.ccsdk.oran.a1policymanagementservice.clients.A1ClientFactory;
 import org.onap.ccsdk.oran.a1policymanagementservice.clients.AsyncRestClientFactory;
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.RequestPriority;
 import org.onap.ccsdk.oran.a1policymanagementservice.controllers.ServiceCallbacks;
+import org.onap.ccsdk.oran.a1policymanagementservice.exceptions.ServiceException;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.Policies;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.Policy;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.PolicyType;
@@ -38,6 +49,7 @@ import org.onap.ccsdk.oran.a1policymanagementservice.repository.Rics;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.Services;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import reactor.core.publisher.Flux;
@@ -50,7 +62,11 @@ import reactor.core.publisher.SignalType;
  * <p>
  * load all policy types
  * <p>
- * send all policy instances to the Near-RT RIC
+ * compare the policy instances in the Near-RT RIC with the ones in the
+ * repository, delete the ones that are not in the repository and create the
+ * ones that are missing in the Near-RT RIC. If the policy instances in the
+ * Near-RT RIC cannot be read because the Near-RT RIC does not support that, all
+ * policy instances are deleted and recreated.
  * <p>
  * if that fails remove all policy instances
  * <p>
@@ -60,7 +76,11 @@ import reactor.core.publisher.SignalType;
 public class RicSynchronizationTask {
 
     private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
-    static final int CONCURRENCY_RIC = 1; // How many paralell requests that is sent to one NearRT RIC
+
+    public static final String SYNCHRONIZATIONS_COUNTER = "ric_synchronizations";
+    public static final String PLAN_SIZE_SUMMARY = "ric_synchronization_plan_size";
+    static final String DIFFERENTIAL = "differential";
+    static final String FULL = "full";
 
     private final A1ClientFactory a1ClientFactory;
     private final PolicyTypes policyTypes;
@@ -68,15 +88,17 @@ public class RicSynchronizationTask {
     private final Services services;
     private final Rics rics;
     private final AsyncRestClientFactory restClientFactory;
+    private final MeterRegistry meterRegistry;
 
     public RicSynchronizationTask(A1ClientFactory a1ClientFactory, PolicyTypes policyTypes, Policies policies,
-            Services services, AsyncRestClientFactory restClientFactory, Rics rics) {
+            Services services, AsyncRestClientFactory restClientFactory, Rics rics, MeterRegistry meterRegistry) {
         this.a1ClientFactory = a1ClientFactory;
         this.policyTypes = policyTypes;
         this.policies = policies;
         this.services = services;
         this.restClientFactory = restClientFactory;
         this.rics = rics;
+        this.meterRegistry = meterRegistry;
     }
 
     public Mono<Ric> synchronizeRic(Ric ric) {
@@ -94,7 +116,8 @@ public class RicSynchronizationTask {
                 .collectList() //
                 .flatMap(notUsed -> onSynchronizationComplete(ric)) //
                 .onErrorResume(t -> Mono.just(ric)) //
-                .doFinally(signal -> onFinally(signal, ric));
+                .doFinally(signal -> onFinally(signal, ric)) //
+                .contextWrite(RequestPriority.SYNCHRONIZATION.toContext());
     }
 
     private void onFinally(SignalType signal, Ric ric) {
@@ -102,6 +125,8 @@ public class RicSynchronizationTask {
             logger.debug("Resetting ric state after failed synch, ric: {}, signal: {}", ric.id(), signal);
             ric.setState(RicState.UNAVAILABLE); //
         }
+        // Also when the synchronization could not be started, for instance if the RIC cannot be reached
+        ric.endRestoring();
     }
 
     /**
@@ -129,17 +154,93 @@ public class RicSynchronizationTask {
                 .doOnNext(x -> ric.clearSupportedPolicyTypes()) //
                 .flatMapMany(Flux::fromIterable) //
                 .doOnNext(typeId -> logger.debug("For ric: {}, handling type: {}", ric.getConfig().getRicId(), typeId)) //
-                .flatMap(policyTypeId -> getPolicyType(policyTypeId, a1Client), CONCURRENCY_RIC) //
+                .flatMap(policyTypeId -> getPolicyType(policyTypeId, a1Client), concurrency()) //
                 .doOnNext(ric::addSupportedPolicyType); //
     }
 
     private Flux<Object> runSynchronization(Ric ric, A1Client a1Client) {
         Flux<PolicyType> synchronizedTypes = synchronizePolicyTypes(ric, a1Client);
+        Flux<Object> synchronizedPolicies = a1Client.getPolicyIdentities() //
+                .map(policyIdsInRic -> synchronizePolicies(ric, a1Client, policyIdsInRic)) //
+                .onErrorResume(RicSynchronizationTask::isListingNotSupported, t -> {
+                    logger.debug("Could not read policies in ric: {}, all policies are recreated, reason: {}",
+                            ric.id(), t.getMessage());
+                    return Mono.just(recreateAllPolicies(ric, a1Client));
+                }) //
+                // A failed read is not a rejected policy, the stored policies must not be deleted
+                .onErrorMap(t -> !(t instanceof ServiceException), t -> new ServiceException(
+                        "Could not read policies in ric: " + ric.id() + ", reason: " + t.getMessage(),
+                        HttpStatus.BAD_GATEWAY)) //
+                .flatMapMany(flux -> flux);
+
+        return Flux.concat(synchronizedTypes, synchronizedPolicies);
+    }
+
+    /**
+     * @return true if the RIC does not support listing its policies. Other
+     *         failures to read the policies are not a reason to recreate all
+     *         policies, the RIC is then left unavailable.
+     */
+    private static boolean isListingNotSupported(Throwable t) {
+        if (t instanceof WebClientResponseException responseException) {
+            int status = responseException.getStatusCode().value();
+            return status == HttpStatus.NOT_FOUND.value() || status == HttpStatus.METHOD_NOT_ALLOWED.value()
+                    || status == HttpStatus.NOT_IMPLEMENTED.value();
+        }
+        return false;
+    }
+
+    /**
+     * Deletes the policies in the RIC that are not in the repository and creates
+     * the ones that are missing in the RIC.
+     */
+    private Flux<Object> synchronizePolicies(Ric ric, A1Client a1Client, Collection<String> policyIdsInRic) {
+        Set<String> inRic = new HashSet<>(policyIdsInRic);
+        Set<String> inRepository = new HashSet<>();
+        List<Policy> missingInRic = new ArrayList<>();
+        for (Policy policy : policies.getForRic(ric.id())) {
+            if (checkTransient(policy)) {
+                continue;
+            }
+            inRepository.add(policy.getId());
+            if (!inRic.contains(policy.getId())) {
+                missingInRic.add(policy);
+            }
+        }
+        long noOfExtra = inRic.stream().filter(id -> !inRepository.contains(id)).count();
+        logger.debug("Synchronizing ric: {}, policies to create: {}, to delete: {}, unchanged: {}", ric.id(),
+                missingInRic.size(), noOfExtra, inRepository.size() - missingInRic.size());
+        countSynchronization(DIFFERENTIAL);
+        recordPlanSize("create", missingInRic.size());
+        recordPlanSize("delete", noOfExtra);
+
+        // The policy type of an extra policy is not known, they are deleted by the client
+        Flux<?> policiesDeletedInRic = noOfExtra > 0 ? a1Client.deleteAllPolicies(inRepository) : Flux.empty();
+        Flux<Policy> policiesCreatedInRic = Flux.defer(() -> putPolicies(ric, a1Client, missingInRic));
+        return Flux.concat(policiesDeletedInRic, policiesCreatedInRic);
+    }
+
+    private Flux<Object> recreateAllPolicies(Ric ric, A1Client a1Client) {
         Set<String> excludeFromDelete = this.policies.getPolicyIdsForRic(ric.id());
         Flux<?> policiesDeletedInRic = a1Client.deleteAllPolicies(excludeFromDelete);
-        Flux<Policy> policiesRecreatedInRic = recreateAllPoliciesInRic(ric, a1Client);
+        Flux<Policy> policiesRecreatedInRic = Flux.defer(() -> recreateAllPoliciesInRic(ric, a1Client));
+        return Flux.concat(policiesDeletedInRic, policiesRecreatedInRic);
+    }
+
+    private void countSynchronization(String mode) {
+        Counter.builder(SYNCHRONIZATIONS_COUNTER) //
+                .description("The number of policy synchronizations of Near-RT RICs") //
+                .tag("mode", mode) //
+                .register(meterRegistry) //
+                .increment();
+    }
 
-        return Flux.concat(synchronizedTypes, policiesDeletedInRic, policiesRecreatedInRic);
+    private void recordPlanSize(String action, long noOfPolicies) {
+        DistributionSummary.builder(PLAN_SIZE_SUMMARY) //
+                .description("The number of policies created or deleted in a Near-RT RIC by a synchronization") //
+                .tag("action", action) //
+                .register(meterRegistry) //
+                .record(noOfPolicies);
     }
 
     private Mono<Ric> onSynchronizationComplete(Ric ric) {
@@ -169,10 +270,8 @@ public class RicSynchronizationTask {
         return pt;
     }
 
-    private Flux<Policy> putPolicy(Policy policy, Ric ric, A1Client a1Client) {
-        logger.trace("Recreating policy: {}, for ric: {}", policy.getId(), ric.getConfig().getRicId());
-        return a1Client.putPolicy(policy) //
-                .flatMapMany(notUsed -> Flux.just(policy));
+    private static Mono<Policy> toPolicy(PolicyResult result) {
+        return result.isOk() ? Mono.just(result.getPolicy()) : Mono.error(result.getError());
     }
 
     private boolean checkTransient(Policy policy) {
@@ -183,11 +282,31 @@ public class RicSynchronizationTask {
     }
 
     private Flux<Policy> recreateAllPoliciesInRic(Ric ric, A1Client a1Client) {
-        return Flux.fromIterable(policies.getForRic(ric.id())) //
-                .doOnNext(policy -> logger.debug("Recreating policy: {}, ric: {}", policy.getId(), ric.id())) //
-                .filter(policy -> !checkTransient(policy)) //
-                .flatMap(policy -> putPolicy(policy, ric, a1Client), CONCURRENCY_RIC)
+        List<Policy> ricPolicies = new ArrayList<>();
+        for (Policy policy : policies.getForRic(ric.id())) {
+            if (!checkTransient(policy)) {
+                ricPolicies.add(policy);
+            }
+        }
+        // The number of deleted policies is not known
+        countSynchronization(FULL);
+        recordPlanSize("create", ricPolicies.size());
+        return putPolicies(ric, a1Client, ricPolicies);
+    }
+
+    private Flux<Policy> putPolicies(Ric ric, A1Client a1Client, Collection<Policy> policiesToPut) {
+        if (policiesToPut.isEmpty()) {
+            return Flux.empty();
+        }
+        Flux<Policy> policiesToCreate = Flux.fromIterable(policiesToPut) //
+                .doOnNext(policy -> logger.debug("Recreating policy: {}, ric: {}", policy.getId(), ric.id()));
+        return a1Client.putPolicies(policiesToCreate) //
+                .concatMap(RicSynchronizationTask::toPolicy) //
                 .doOnError(t -> logger.warn("Recreating policy failed, ric: {}, reason: {}", ric.id(), t.getMessage()));
     }
 
+    // How many parallel requests that is sent to one NearRT RIC, the requests are limited by the A1 client
+    private int concurrency() {
+        return Math.max(1, a1ClientFactory.getMaxConcurrency());
+    }
 }
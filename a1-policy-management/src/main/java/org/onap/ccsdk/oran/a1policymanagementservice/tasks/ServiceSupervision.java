@@ -23,9 +23,7 @@ package org.onap.ccsdk.oran.a1policymanagementservice.tasks;
 import java.lang.invoke.MethodHandles;
 import java.time.Duration;
 
-import org.onap.ccsdk.oran.a1policymanagementservice.clients.A1ClientFactory;
-import org.onap.ccsdk.oran.a1policymanagementservice.repository.Lock;
-import org.onap.ccsdk.oran.a1policymanagementservice.repository.Lock.LockType;
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.RequestPriority;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.Policies;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.Policy;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.Service;
@@ -37,7 +35,6 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.stereotype.Component;
 
 import reactor.core.publisher.Flux;
-import reactor.core.publisher.Mono;
 
 /**
  * Periodically checks that services with a keepAliveInterval set are alive. If
@@ -51,22 +48,23 @@ import reactor.core.publisher.Mono;
 @SuppressWarnings("squid:S2629") // Invoke method(s) only conditionally
 public class ServiceSupervision {
     private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
-    static final int CONCURRENCY_RIC = 1; // How may paralell requests that is sent
+    // How many expired services that are handled in parallel
+    static final int CONCURRENCY = 10;
     private final Services services;
     private final Policies policies;
-    private A1ClientFactory a1ClientFactory;
+    private final CascadeDeletion cascadeDeletion;
     private final Duration checkInterval;
 
     @Autowired
-    public ServiceSupervision(Services services, Policies policies, A1ClientFactory a1ClientFactory) {
-        this(services, policies, a1ClientFactory, Duration.ofMinutes(1));
+    public ServiceSupervision(Services services, Policies policies, CascadeDeletion cascadeDeletion) {
+        this(services, policies, cascadeDeletion, Duration.ofMinutes(1));
     }
 
-    public ServiceSupervision(Services services, Policies policies, A1ClientFactory a1ClientFactory,
+    public ServiceSupervision(Services services, Policies policies, CascadeDeletion cascadeDeletion,
             Duration checkInterval) {
         this.services = services;
         this.policies = policies;
-        this.a1ClientFactory = a1ClientFactory;
+        this.cascadeDeletion = cascadeDeletion;
         this.checkInterval = checkInterval;
         start();
     }
@@ -86,39 +84,15 @@ public class ServiceSupervision {
                 .filter(Service::isExpired) //
                 .doOnNext(service -> logger.info("Service is expired: {}", service.getName())) //
                 .doOnNext(service -> services.remove(service.getName())) //
-                .flatMap(this::getAllPoliciesForService) //
-                .flatMap(this::deletePolicy, CONCURRENCY_RIC);
-    }
-
-    @SuppressWarnings("squid:S2629") // Invoke method(s) only conditionally
-    private Flux<Policy> deletePolicy(Policy policy) {
-        Lock lock = policy.getRic().getLock();
-        return lock.lock(LockType.SHARED, "ServiceSupervision") //
-                .doOnNext(notUsed -> policies.remove(policy)) //
-                .flatMap(notUsed -> deletePolicyInRic(policy))
-                .doOnNext(notUsed -> logger.debug("Policy deleted due to service inactivity: {}, service: {}",
+                .flatMap(this::deletePolicies, CONCURRENCY) //
+                .doOnNext(policy -> logger.debug("Policy deleted due to service inactivity: {}, service: {}",
                         policy.getId(), policy.getOwnerServiceId())) //
-                .doFinally(notUsed -> lock.unlockBlocking()) //
-                .doOnError(throwable -> logger.debug("Failed to delete inactive policy: {}, reason: {}", policy.getId(),
-                        throwable.getMessage())) //
-                .flatMapMany(notUsed -> Flux.just(policy)) //
-                .onErrorResume(throwable -> Flux.empty());
-    }
-
-    private Flux<Policy> getAllPoliciesForService(Service service) {
-        return Flux.fromIterable(policies.getForService(service.getName()));
-    }
-
-    private Mono<Policy> deletePolicyInRic(Policy policy) {
-        return a1ClientFactory.createA1Client(policy.getRic()) //
-                .flatMap(client -> client.deletePolicy(policy) //
-                        .onErrorResume(exception -> handleDeleteFromRicFailure(policy, exception)) //
-                        .map(nothing -> policy));
+                .contextWrite(RequestPriority.CLEANUP.toContext());
     }
 
-    private Mono<String> handleDeleteFromRicFailure(Policy policy, Throwable e) {
-        logger.warn("Could not delete policy: {} from ric: {}. Cause: {}", policy.getId(), policy.getRic().id(),
-                e.getMessage());
-        return Mono.empty();
+    private Flux<Policy> deletePolicies(Service service) {
+        CascadeDeletion.Job job = cascadeDeletion.createJob("expired service: " + service.getName(),
+                policies.getForService(service.getName()));
+        return cascadeDeletion.execute(job);
     }
 }
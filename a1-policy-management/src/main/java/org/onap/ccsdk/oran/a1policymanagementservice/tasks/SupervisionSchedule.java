@@ -0,0 +1,252 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.tasks;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.onap.ccsdk.oran.a1policymanagementservice.repository.Ric;
+
+/**
+ * The schedule of the supervision of the Near-RT RICs. Each RIC is checked at
+ * its own interval, with a phase offset derived from its identity so that the
+ * checks of many RICs are spread evenly over the interval instead of being done
+ * in one burst. The first check of a RIC is done at its phase offset from a
+ * wall-clock multiple of the min interval. Each interval is jittered to avoid that the checks of RICs
+ * drift into step. The number of checks in progress is limited by a global
+ * budget, checks that are due when the budget is used are started when other
+ * checks complete.
+ *
+ * <p>
+ * The interval of a RIC adapts to its stability. It is doubled, up to a max
+ * interval, for each check that finds the RIC consistent. It is reset to the
+ * min interval when a check fails or finds the RIC inconsistent, and when
+ * errors towards the RIC are seen on other traffic.
+ */
+class SupervisionSchedule {
+
+    public static final String LAST_CHECKED_GAUGE = "ric_supervision_last_checked_seconds";
+    public static final String CHECK_DURATION_TIMER = "ric_supervision_check_duration";
+    public static final String INTERVAL_GAUGE = "ric_supervision_interval_seconds";
+
+    static final double JITTER = 0.1;
+    static final int BACKOFF_FACTOR = 2;
+
+    private final Duration minInterval;
+    private final Duration maxInterval;
+    private final int maxConcurrency;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Entry> entries = new HashMap<>();
+    private int inProgress = 0;
+
+    private class Entry {
+        Ric ric;
+        final Gauge lastCheckedGauge;
+        final Timer checkDurationTimer;
+        final Gauge intervalGauge;
+        Instant nextCheck;
+        Instant lastCompleted = null;
+        boolean checking = false;
+        volatile Duration interval = minInterval;
+        volatile double lastChecked = Double.NaN; // Epoch seconds
+
+        Entry(Ric ric, Instant nextCheck) {
+            this.ric = ric;
+            this.nextCheck = nextCheck;
+            this.lastCheckedGauge = Gauge.builder(LAST_CHECKED_GAUGE, this, e -> e.lastChecked) //
+                    .description("The time of the last completed supervision check of a Near-RT RIC") //
+                    .tag("ric_id", ric.id()) //
+                    .register(meterRegistry);
+            this.checkDurationTimer = Timer.builder(CHECK_DURATION_TIMER) //
+                    .description("The duration of the supervision checks of a Near-RT RIC") //
+                    .tag("ric_id", ric.id()) //
+                    .register(meterRegistry);
+            this.intervalGauge = Gauge.builder(INTERVAL_GAUGE, this, e -> e.interval.toMillis() / 1000.0) //
+                    .description("The current supervision interval of a Near-RT RIC") //
+                    .tag("ric_id", ric.id()) //
+                    .register(meterRegistry);
+        }
+
+        void close() {
+            meterRegistry.remove(lastCheckedGauge);
+            meterRegistry.remove(checkDurationTimer);
+            meterRegistry.remove(intervalGauge);
+        }
+    }
+
+    SupervisionSchedule(Duration minInterval, Duration maxInterval, int maxConcurrency,
+            MeterRegistry meterRegistry) {
+        this.minInterval = minInterval;
+        this.maxInterval = maxInterval.compareTo(minInterval) > 0 ? maxInterval : minInterval;
+        this.maxConcurrency = maxConcurrency;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Updates the schedule with the current RICs and gets the RICs that are due
+     * for a check, as many as the concurrency budget allows. The returned RICs
+     * are marked as being checked.
+     *
+     * @param rics all RICs to supervise, RICs that are not included are removed
+     *        from the schedule
+     * @param now the current time
+     * @return the RICs to check, the most overdue first
+     */
+    synchronized List<Ric> takeDue(Collection<Ric> rics, Instant now) {
+        retain(rics, now);
+        List<Entry> due = entries.values().stream() //
+                .filter(entry -> !entry.checking && !entry.nextCheck.isAfter(now)) //
+                .sorted(Comparator.comparing(entry -> entry.nextCheck)) //
+                .limit(Math.max(0, maxConcurrency - inProgress)) //
+                .toList();
+        due.forEach(this::startCheck);
+        return due.stream().map(entry -> entry.ric).toList();
+    }
+
+    /**
+     * Marks a RIC as being checked, regardless of its schedule and of the
+     * concurrency budget.
+     *
+     * @return false if the RIC is already being checked
+     */
+    synchronized boolean tryStart(Ric ric, Instant now) {
+        Entry entry = entries.computeIfAbsent(ric.id(), id -> new Entry(ric, firstCheck(id, now)));
+        if (entry.checking) {
+            return false;
+        }
+        startCheck(entry);
+        return true;
+    }
+
+    /**
+     * Records a completed check and schedules the next check of the RIC.
+     *
+     * @param consistent true if the check found the RIC available and consistent
+     */
+    synchronized void completed(Ric ric, Instant started, Instant now, boolean consistent) {
+        Entry entry = entries.get(ric.id());
+        if (entry == null || !entry.checking) {
+            return;
+        }
+        entry.checking = false;
+        inProgress--;
+        entry.lastChecked = now.toEpochMilli() / 1000.0;
+        entry.lastCompleted = now;
+        entry.checkDurationTimer.record(Duration.between(started, now));
+        if (consistent) {
+            Duration backedOff = entry.interval.multipliedBy(BACKOFF_FACTOR);
+            entry.interval = backedOff.compareTo(maxInterval) < 0 ? backedOff : maxInterval;
+        } else {
+            entry.interval = minInterval;
+        }
+        entry.nextCheck = now.plus(jittered(entry.interval));
+    }
+
+    /**
+     * Resets the interval of a RIC, after errors towards the RIC are seen. The
+     * next check of the RIC is done at most one min interval after the previous
+     * check.
+     */
+    synchronized void shorten(String ricId, Instant now) {
+        Entry entry = entries.get(ricId);
+        if (entry == null || entry.interval.equals(minInterval)) {
+            return;
+        }
+        entry.interval = minInterval;
+        Instant earliest = entry.lastCompleted == null ? now : entry.lastCompleted.plus(minInterval);
+        if (earliest.isBefore(entry.nextCheck)) {
+            entry.nextCheck = earliest;
+        }
+    }
+
+    synchronized Instant getNextCheck(String ricId) {
+        Entry entry = entries.get(ricId);
+        return entry == null ? null : entry.nextCheck;
+    }
+
+    synchronized Duration getInterval(String ricId) {
+        Entry entry = entries.get(ricId);
+        return entry == null ? null : entry.interval;
+    }
+
+    synchronized int getInProgress() {
+        return inProgress;
+    }
+
+    /**
+     * Removes all RICs from the schedule, and their meters.
+     */
+    synchronized void close() {
+        entries.values().forEach(Entry::close);
+        entries.clear();
+        inProgress = 0;
+    }
+
+    private void retain(Collection<Ric> rics, Instant now) {
+        Set<String> ricIds = new HashSet<>();
+        for (Ric ric : rics) {
+            ricIds.add(ric.id());
+            entries.computeIfAbsent(ric.id(), id -> new Entry(ric, firstCheck(id, now))).ric = ric;
+        }
+        entries.values().removeIf(entry -> {
+            if (ricIds.contains(entry.ric.id())) {
+                return false;
+            }
+            if (entry.checking) {
+                inProgress--;
+            }
+            entry.close();
+            return true;
+        });
+    }
+
+    private void startCheck(Entry entry) {
+        entry.checking = true;
+        inProgress++;
+    }
+
+    private Instant firstCheck(String ricId, Instant now) {
+        // The phase is derived from the identity and anchored to wall-clock multiples
+        // of the interval, so it is the same after a restart
+        long intervalMillis = minInterval.toMillis();
+        long phase = Math.floorMod(ricId.hashCode() * 0x9E3779B97F4A7C15L, intervalMillis);
+        long nowMillis = now.toEpochMilli();
+        long firstCheck = nowMillis - Math.floorMod(nowMillis, intervalMillis) + phase;
+        return Instant.ofEpochMilli(firstCheck < nowMillis ? firstCheck + intervalMillis : firstCheck);
+    }
+
+    private static Duration jittered(Duration interval) {
+        double factor = 1 + JITTER * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+        return Duration.ofMillis((long) (interval.toMillis() * factor));
+    }
+}
@@ -23,7 +23,6 @@ package org.onap.ccsdk.oran.a1policymanagementservice.util.v3;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import lombok.RequiredArgsConstructor;
-import org.everit.json.schema.loader.SchemaLoader;
 import org.json.JSONObject;
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.ApplicationConfig;
 import org.onap.ccsdk.oran.a1policymanagementservice.exceptions.InvalidRequestException;
@@ -43,6 +42,7 @@ import reactor.core.publisher.Flux;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.lang.invoke.MethodHandles;
 import java.time.Instant;
@@ -62,6 +62,8 @@ public class Helper {
 
     private final Services services;
 
+    private final PolicyTypes policyTypes;
+
     private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
     private static final Gson gson = new GsonBuilder().create();
@@ -114,8 +116,7 @@ public class Helper {
 
     private boolean policyTypeSchemaValidation(Policy policy, PolicyType policyType) {
         try {
-            JSONObject schemaJson = new JSONObject(policyType.getSchema());
-            var schema = SchemaLoader.load(schemaJson);
+            var schema = policyTypes.getSchema(policyType);
             JSONObject policyJson = new JSONObject(policy.getJson());
 
             // PUT request body is not automatically deserialized - so we manually extract the desired policy object
@@ -159,6 +160,18 @@ public class Helper {
         }
     }
 
+    /**
+     * Performs the policy schema validation on the parallel scheduler, as the
+     * validation is CPU bound and may take time for a large policy.
+     */
+    public Mono<Boolean> performPolicySchemaValidationAsync(Policy policy, PolicyType policyType) {
+        if (applicationConfig.getValidatePolicyInstanceSchema() == ApplicationConfig.ValidateSchema.NONE) {
+            return Mono.just(true);
+        }
+        return Mono.fromCallable(() -> performPolicySchemaValidation(policy, policyType)) //
+                .subscribeOn(Schedulers.parallel());
+    }
+
     public String policyIdGeneration(PolicyObjectInformation policyObjectInfo) {
         if (policyObjectInfo.getPolicyId() == null || policyObjectInfo.getPolicyId().isEmpty() ||
                 policyObjectInfo.getPolicyId().isBlank())
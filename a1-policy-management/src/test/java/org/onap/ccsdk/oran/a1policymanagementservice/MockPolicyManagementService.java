@@ -25,6 +25,8 @@ import static org.awaitility.Awaitility.await;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import java.io.File;
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
@@ -101,7 +103,7 @@ class MockPolicyManagementService {
 
         @Bean
         public MockA1ClientFactory getA1ClientFactory(@Autowired ApplicationConfig appConfig) {
-            PolicyTypes ricTypes = new PolicyTypes(applicationConfig);
+            PolicyTypes ricTypes = new PolicyTypes(applicationConfig, new SimpleMeterRegistry());
             loadTypes(ricTypes);
             return new MockA1ClientFactory(appConfig, ricTypes);
         }
@@ -23,27 +23,42 @@ package org.onap.ccsdk.oran.a1policymanagementservice.clients;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.onap.ccsdk.oran.a1policymanagementservice.clients.A1Client.A1ProtocolType;
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.ApplicationConfig;
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.ControllerConfig;
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.RicConfig;
+import org.onap.ccsdk.oran.a1policymanagementservice.datastore.DataStore;
 import org.onap.ccsdk.oran.a1policymanagementservice.exceptions.ServiceException;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.Ric;
+import org.onap.ccsdk.oran.a1policymanagementservice.repository.Ric.RicState;
 import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
 
 import org.onap.ccsdk.oran.a1policymanagementservice.utils.MockA1Client;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.test.context.TestPropertySource;
 
 import reactor.core.publisher.Mono;
@@ -96,6 +111,11 @@ class A1ClientFactoryTest {
                 .build();
     }
 
+    // The created clients are instrumented
+    private static A1Client delegateOf(A1Client client) {
+        return ((InstrumentedA1Client) client).getDelegate();
+    }
+
     private static RicConfig ricConfig(String controllerName) {
         return ricConfig(controllerName, "");
     }
@@ -103,7 +123,7 @@ class A1ClientFactoryTest {
     @BeforeEach
     void createFactoryUnderTest() {
         SecurityContext sec = new SecurityContext("");
-        factoryUnderTest = spy(new A1ClientFactory(applicationConfigMock, sec));
+        factoryUnderTest = spy(new A1ClientFactory(applicationConfigMock, sec, new SimpleMeterRegistry()));
         this.ric = new Ric(ricConfig(""));
     }
 
@@ -112,11 +132,12 @@ class A1ClientFactoryTest {
     void getProtocolVersion_ok() throws ServiceException {
         whenGetProtocolVersionThrowException(clientMock1);
         whenGetProtocolVersionReturn(clientMock2, A1ProtocolType.STD_V1_1);
-        doReturn(clientMock1, clientMock2).when(factoryUnderTest).createClient(any(), any());
+        doReturn(clientMock1, clientMock2).when(factoryUnderTest).createProbeClient(any(), any());
+        doReturn(clientMock2).when(factoryUnderTest).createClient(any(), any());
 
         A1Client client = factoryUnderTest.createA1Client(ric).block();
 
-        assertEquals(clientMock2, client, "Not correct client returned");
+        assertEquals(clientMock2, delegateOf(client), "Not correct client returned");
         assertEquals(A1ProtocolType.STD_V1_1, ric.getProtocolVersion(), "Not correct protocol");
     }
 
@@ -125,11 +146,13 @@ class A1ClientFactoryTest {
     void getProtocolVersion_ok_Last() throws ServiceException {
         whenGetProtocolVersionThrowException(clientMock1, clientMock2, clientMock3);
         whenGetProtocolVersionReturn(clientMock4, A1ProtocolType.STD_V1_1);
-        doReturn(clientMock1, clientMock2, clientMock3, clientMock4).when(factoryUnderTest).createClient(any(), any());
+        doReturn(clientMock1, clientMock2, clientMock3, clientMock4).when(factoryUnderTest).createProbeClient(any(),
+                any());
+        doReturn(clientMock4).when(factoryUnderTest).createClient(any(), any());
 
         A1Client client = factoryUnderTest.createA1Client(ric).block();
 
-        assertEquals(clientMock4, client, "Not correct client returned");
+        assertEquals(clientMock4, delegateOf(client), "Not correct client returned");
         assertEquals(A1ProtocolType.STD_V1_1, ric.getProtocolVersion(), "Not correct protocol");
     }
 
@@ -147,18 +170,18 @@ class A1ClientFactoryTest {
         Ric ricLocal = new Ric(ricConfig("", CustomA1AdapterFactory.class.getName()));
         A1Client client = factoryUnderTest.createA1Client(ricLocal).block();
         assertNotNull(client);
-        assertEquals(client.getClass(), StdA1ClientVersion2.class);
+        assertEquals(delegateOf(client).getClass(), StdA1ClientVersion2.class);
 
         ricLocal = new Ric(ricConfig("", "org.onap.ccsdk.oran.a1policymanagementservice.clients.StdA1ClientVersion2"));
         client = factoryUnderTest.createA1Client(ricLocal).block();
         assertNotNull(client);
-        assertEquals(client.getClass(), StdA1ClientVersion2.class);
+        assertEquals(delegateOf(client).getClass(), StdA1ClientVersion2.class);
 
         ricLocal = new Ric(
                 ricConfig("", "org.onap.ccsdk.oran.a1policymanagementservice.clients.StdA1ClientVersion2$Factory"));
         client = factoryUnderTest.createA1Client(ricLocal).block();
         assertNotNull(client);
-        assertEquals(client.getClass(), StdA1ClientVersion2.class);
+        assertEquals(delegateOf(client).getClass(), StdA1ClientVersion2.class);
 
         Exception e = Assertions.assertThrows(Exception.class, () -> {
             factoryUnderTest.createClient(new Ric(ricConfig("", "junk")), A1ProtocolType.CUSTOM_PROTOCOL);
@@ -182,7 +205,8 @@ class A1ClientFactoryTest {
     @DisplayName("test get Protocol Version error")
     void getProtocolVersion_error() throws ServiceException {
         whenGetProtocolVersionThrowException(clientMock1, clientMock2, clientMock3, clientMock4);
-        doReturn(clientMock1, clientMock2, clientMock3, clientMock4).when(factoryUnderTest).createClient(any(), any());
+        doReturn(clientMock1, clientMock2, clientMock3, clientMock4).when(factoryUnderTest).createProbeClient(any(),
+                any());
 
         StepVerifier.create(factoryUnderTest.createA1Client(ric)) //
                 .expectSubscription() //
@@ -213,6 +237,129 @@ class A1ClientFactoryTest {
         assertTrue(createClient(A1ProtocolType.CCSDK_A1_ADAPTER_OSC_V1) instanceof CcsdkA1AdapterClient);
     }
 
+    @Test
+    @DisplayName("test get Protocol Version, probes are done in parallel and the first in order is chosen")
+    void getProtocolVersion_parallel() throws ServiceException {
+        // The first probe answers last, the version with the highest priority is still chosen
+        when(clientMock1.getProtocolVersion())
+                .thenReturn(Mono.delay(Duration.ofMillis(300)).thenReturn(A1ProtocolType.STD_V2_0_0));
+        whenGetProtocolVersionReturn(clientMock2, A1ProtocolType.STD_V1_1);
+        doReturn(clientMock1, clientMock2).when(factoryUnderTest).createProbeClient(any(), any());
+        doReturn(clientMock1).when(factoryUnderTest).createClient(any(), any());
+
+        StepVerifier.create(factoryUnderTest.createA1Client(ric)) //
+                .expectNextMatches(client -> delegateOf(client) == clientMock1) //
+                .expectComplete() //
+                .verify(Duration.ofSeconds(5));
+        assertEquals(A1ProtocolType.STD_V2_0_0, ric.getProtocolVersion(), "Not correct protocol");
+    }
+
+    @Test
+    @DisplayName("test get Protocol Version, the detected version is stored and reused")
+    void getProtocolVersion_stored() throws ServiceException {
+        DataStore dataStore = mock(DataStore.class);
+        when(dataStore.createDataStore()).thenReturn(Mono.just("OK"));
+        when(dataStore.readObject(RIC_NAME + ".json")).thenReturn(Mono.error(new Exception("Not found")));
+        when(dataStore.writeObject(anyString(), any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(1)));
+        factoryUnderTest = spy(new A1ClientFactory(applicationConfigMock, new SecurityContext(""),
+                new SimpleMeterRegistry(), new ProtocolVersionStore(Mono.just(dataStore))));
+        whenGetProtocolVersionReturn(clientMock1, A1ProtocolType.OSC_V1);
+        doReturn(clientMock1).when(factoryUnderTest).createProbeClient(any(), any());
+        doReturn(clientMock1).when(factoryUnderTest).createClient(any(), any());
+
+        factoryUnderTest.createA1Client(ric).block();
+
+        ArgumentCaptor<byte[]> stored = ArgumentCaptor.forClass(byte[].class);
+        verify(dataStore).writeObject(eq(RIC_NAME + ".json"), stored.capture());
+        assertTrue(new String(stored.getValue()).contains("OSC_V1"));
+
+        // After a restart, only the stored version is verified
+        when(dataStore.readObject(RIC_NAME + ".json")).thenReturn(Mono.just(stored.getValue()));
+        Ric restartedRic = new Ric(ric.getConfig());
+        clearInvocations(factoryUnderTest);
+
+        factoryUnderTest.createA1Client(restartedRic).block();
+
+        assertEquals(A1ProtocolType.OSC_V1, restartedRic.getProtocolVersion());
+        verify(factoryUnderTest, never()).createProbeClient(any(), eq(A1ProtocolType.STD_V2_0_0));
+    }
+
+    @Test
+    @DisplayName("test cached client is reused")
+    void createA1Client_cached() throws ServiceException {
+        ric.setProtocolVersion(A1ProtocolType.STD_V2_0_0);
+        doReturn(clientMock1, clientMock2).when(factoryUnderTest).createClient(any(), any());
+
+        A1Client first = factoryUnderTest.createA1Client(ric).block();
+        A1Client second = factoryUnderTest.createA1Client(ric).block();
+
+        assertEquals(clientMock1, delegateOf(first), "Not correct client returned");
+        assertSame(first, second, "Client not reused");
+    }
+
+    @Test
+    @DisplayName("test cached client is replaced when config changed or invalidated")
+    void createA1Client_configChanged() throws ServiceException {
+        ric.setProtocolVersion(A1ProtocolType.STD_V2_0_0);
+        doReturn(clientMock1, clientMock2, clientMock3).when(factoryUnderTest).createClient(any(), any());
+
+        assertEquals(clientMock1, delegateOf(factoryUnderTest.createA1Client(ric).block()));
+
+        ric.setRicConfig(RicConfig.builder().ricId(RIC_NAME).baseUrl("newBaseUrl").build());
+        assertEquals(clientMock2, delegateOf(factoryUnderTest.createA1Client(ric).block()), "Client not replaced");
+
+        factoryUnderTest.invalidate(RIC_NAME);
+        assertEquals(clientMock3, delegateOf(factoryUnderTest.createA1Client(ric).block()), "Client not invalidated");
+    }
+
+    @Test
+    @DisplayName("test requests are rejected when the circuit breaker is open")
+    void createA1Client_circuitBreakerOpen() {
+        ric.setState(RicState.AVAILABLE);
+        CircuitBreaker circuitBreaker = factoryUnderTest.getCircuitBreaker(ric);
+        for (int i = 0; i < 10; ++i) {
+            circuitBreaker.filter(HttpMethod.GET, "url", Mono.error(new Exception(EXCEPTION_MESSAGE))) //
+                    .onErrorResume(t -> Mono.empty()) //
+                    .block();
+        }
+
+        assertEquals(RicState.UNAVAILABLE, ric.getState(), "RIC not set to UNAVAILABLE");
+        StepVerifier.create(factoryUnderTest.createA1Client(ric)) //
+                .expectErrorMatches(t -> t instanceof ServiceException e
+                        && e.getHttpStatus() == HttpStatus.SERVICE_UNAVAILABLE) //
+                .verify();
+        factoryUnderTest.invalidate(RIC_NAME);
+    }
+
+    @Test
+    @DisplayName("test rest clients are shared")
+    void restClientsAreShared() {
+        AsyncRestClientFactory restClientFactory =
+                new AsyncRestClientFactory(null, new SecurityContext(""), new SimpleMeterRegistry());
+        assertSame(restClientFactory.createRestClientUseHttpProxy("url"),
+                restClientFactory.createRestClientUseHttpProxy("url"));
+        assertNotSame(restClientFactory.createRestClientUseHttpProxy("url"),
+                restClientFactory.createRestClientNoHttpProxy("url"));
+    }
+
+    @Test
+    @DisplayName("test rest clients are removed when no longer used by any RIC")
+    void restClientsAreReleased() {
+        AsyncRestClientFactory restClientFactory =
+                new AsyncRestClientFactory(null, new SecurityContext(""), new SimpleMeterRegistry());
+        AsyncRestClient shared = restClientFactory.withUser("ric1").createRestClientUseHttpProxy("url");
+        restClientFactory.withUser("ric2").createRestClientUseHttpProxy("url");
+        restClientFactory.withUser("ric2").createRestClientUseHttpProxy("controllerUrl");
+        assertEquals(2, restClientFactory.getNoOfCachedRestClients());
+
+        restClientFactory.release("ric2");
+        assertEquals(1, restClientFactory.getNoOfCachedRestClients());
+        assertSame(shared, restClientFactory.createRestClientUseHttpProxy("url"), "Client in use was removed");
+
+        restClientFactory.release("ric1");
+        assertEquals(0, restClientFactory.getNoOfCachedRestClients());
+    }
+
     private void whenGetProtocolVersionThrowException(A1Client... clientMocks) {
         for (A1Client clientMock : clientMocks) {
             when(clientMock.getProtocolVersion()).thenReturn(Mono.error(new Exception(EXCEPTION_MESSAGE)));
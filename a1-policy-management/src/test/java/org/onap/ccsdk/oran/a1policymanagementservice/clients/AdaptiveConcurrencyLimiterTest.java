@@ -0,0 +1,215 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Vector;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final String RIC_ID = "ric1";
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private Mono<ResponseEntity<String>> filter(AdaptiveConcurrencyLimiter limiter,
+            Mono<ResponseEntity<String>> exchange) {
+        return limiter.filter(HttpMethod.GET, "/a1-p/policytypes", exchange);
+    }
+
+    @Test
+    void testLimitCapsInFlightRequests() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(RIC_ID, 2, 1, 10, meterRegistry);
+        Sinks.One<ResponseEntity<String>> response = Sinks.one();
+
+        Disposable first = filter(limiter, response.asMono()).subscribe();
+        filter(limiter, Mono.never()).subscribe();
+        Disposable queued = filter(limiter, Mono.just(ResponseEntity.ok("OK"))).subscribe();
+
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+        assertThat(queued.isDisposed()).isFalse();
+
+        // When the first request is completed, the queued one is sent
+        response.tryEmitValue(ResponseEntity.ok("OK"));
+        assertThat(first.isDisposed()).isTrue();
+        assertThat(queued.isDisposed()).isTrue();
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(meterRegistry.get(AdaptiveConcurrencyLimiter.INFLIGHT_GAUGE).tag("ric_id", RIC_ID).gauge()
+                .value()).isEqualTo(1);
+    }
+
+    @Test
+    void testLimitIsAdapted() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(RIC_ID, 2, 1, 4, meterRegistry);
+
+        // A response time well above the timer resolution, so that the limit is not decreased by jitter. A
+        // response delayed by the load of the test machine may still decrease the limit, so the limit is given a
+        // number of responses to reach its max.
+        Mono<ResponseEntity<String>> response = Mono.just(ResponseEntity.ok("OK")).delayElement(Duration.ofMillis(10));
+        for (int i = 0; i < 100 && limiter.getLimit() < 4; ++i) {
+            StepVerifier.create(filter(limiter, response)).expectNextCount(1).verifyComplete();
+        }
+        assertThat(limiter.getLimit()).isEqualTo(4);
+
+        for (int i = 0; i < 20; ++i) {
+            StepVerifier.create(filter(limiter, Mono.error(new RuntimeException("Connection refused"))))
+                    .expectError().verify();
+        }
+        assertThat(limiter.getLimit()).isEqualTo(1);
+        assertThat(meterRegistry.get(AdaptiveConcurrencyLimiter.LIMIT_GAUGE).tag("ric_id", RIC_ID).gauge().value())
+                .isEqualTo(1);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void testConcurrentFailuresDecreaseLimitOnce() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(RIC_ID, 10, 1, 10, meterRegistry);
+        Sinks.One<ResponseEntity<String>> response = Sinks.one();
+        List<Throwable> errors = new Vector<>();
+
+        for (int i = 0; i < 10; ++i) {
+            filter(limiter, response.asMono()).subscribe(resp -> {
+            }, errors::add);
+        }
+        assertThat(limiter.getInFlight()).isEqualTo(10);
+
+        // All the requests in flight fail together, for instance they time out
+        response.tryEmitError(new RuntimeException("Timeout"));
+        assertThat(errors).hasSize(10);
+        assertThat(limiter.getLimit()).isEqualTo(9);
+
+        // A request sent after the decrease decreases the limit again
+        StepVerifier.create(filter(limiter, Mono.error(new RuntimeException("Timeout")))).expectError().verify();
+        assertThat(limiter.getLimit()).isEqualTo(8);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void testRejectedRequestDoesNotDecreaseLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(RIC_ID, 3, 1, 3, meterRegistry);
+        WebClientResponseException notFound = WebClientResponseException.create(HttpStatus.NOT_FOUND.value(),
+                "Not Found", HttpHeaders.EMPTY, new byte[0], StandardCharsets.UTF_8);
+
+        StepVerifier.create(filter(limiter, Mono.error(notFound))).expectError().verify();
+
+        assertThat(limiter.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    void testCancelReleasesPermit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(RIC_ID, 1, 1, 1, meterRegistry);
+
+        Disposable ongoing = filter(limiter, Mono.never()).subscribe();
+        Disposable queued = filter(limiter, Mono.never()).subscribe();
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+
+        queued.dispose();
+        ongoing.dispose();
+        assertThat(limiter.getInFlight()).isZero();
+
+        StepVerifier.create(filter(limiter, Mono.just(ResponseEntity.ok("OK")))).expectNextCount(1)
+                .verifyComplete();
+    }
+
+    @Test
+    void testCloseRemovesMeters() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(RIC_ID, 1, 1, 1, meterRegistry);
+        assertThat(meterRegistry.getMeters()).hasSize(2 + RequestPriority.values().length);
+
+        limiter.close();
+        assertThat(meterRegistry.getMeters()).isEmpty();
+    }
+
+    @Test
+    void testQueuedRequestsAreSentByPriority() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(RIC_ID, 1, 1, 1, meterRegistry);
+        Sinks.One<ResponseEntity<String>> response = Sinks.one();
+        List<RequestPriority> sent = new Vector<>();
+
+        filter(limiter, response.asMono()).subscribe();
+        for (int i = 0; i < 2; ++i) {
+            queue(limiter, RequestPriority.CLEANUP, sent);
+        }
+        for (int i = 0; i < 8; ++i) {
+            queue(limiter, RequestPriority.INTERACTIVE, sent);
+        }
+        assertThat(limiter.getQueued(RequestPriority.CLEANUP)).isEqualTo(2);
+        assertThat(meterRegistry.get(AdaptiveConcurrencyLimiter.QUEUED_GAUGE).tag("ric_id", RIC_ID)
+                .tag("priority", RequestPriority.INTERACTIVE.name()).gauge().value()).isEqualTo(8);
+
+        response.tryEmitValue(ResponseEntity.ok("OK"));
+
+        // The interactive requests get most of the capacity, the cleanup is not starved
+        RequestPriority i = RequestPriority.INTERACTIVE;
+        RequestPriority c = RequestPriority.CLEANUP;
+        assertThat(sent).containsExactly(i, c, i, i, i, i, i, i, i, c);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void testRateIsLimited() {
+        AdaptiveConcurrencyLimiter limiter =
+                new AdaptiveConcurrencyLimiter(RIC_ID, 10, 1, 10, 10, 2, meterRegistry);
+        List<RequestPriority> sent = new Vector<>();
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < 4; ++i) {
+            queue(limiter, RequestPriority.INTERACTIVE, sent);
+        }
+        // A burst of two requests is sent at once, the others are sent at the rate limit
+        assertThat(sent).hasSize(2);
+        assertThat(limiter.getQueued(RequestPriority.INTERACTIVE)).isEqualTo(2);
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> sent.size() == 4);
+        assertThat(Duration.ofNanos(System.nanoTime() - startTime)).isGreaterThanOrEqualTo(Duration.ofMillis(150));
+    }
+
+    private void queue(AdaptiveConcurrencyLimiter limiter, RequestPriority priority, List<RequestPriority> sent) {
+        filter(limiter, Mono.fromCallable(() -> {
+            sent.add(priority);
+            return ResponseEntity.ok("OK");
+        })).contextWrite(priority.toContext()).subscribe();
+    }
+}
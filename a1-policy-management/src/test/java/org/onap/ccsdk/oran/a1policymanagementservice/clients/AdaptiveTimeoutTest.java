@@ -0,0 +1,155 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.A1Client.A1ProtocolType;
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.RequestDeadline.DeadlineExceededException;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class AdaptiveTimeoutTest {
+
+    private static final String RIC_ID = "ric1";
+    private static final String URI = "/a1-p/policytypes";
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private AdaptiveTimeout createTimeout(Duration min, Duration max) {
+        return new AdaptiveTimeout(RIC_ID, true, min, max, 99, 3, meterRegistry);
+    }
+
+    private static Mono<ResponseEntity<String>> exchange(Duration responseTime) {
+        return Mono.just(ResponseEntity.ok("OK")).delayElement(responseTime);
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).tag("ric_id", RIC_ID).counter().count();
+    }
+
+    @Test
+    void testTimeoutAdaptsToResponseTimes() {
+        AdaptiveTimeout timeout = createTimeout(Duration.ofMillis(1000), Duration.ofSeconds(10));
+        assertThat(timeout.getTimeout()).contains(Duration.ofSeconds(10));
+
+        for (int i = 0; i < 30; ++i) {
+            timeout.filter(HttpMethod.GET, URI, Mono.just(ResponseEntity.ok("OK"))).block();
+        }
+        // The response times are close to zero, the timeout is bounded by the min timeout
+        assertThat(timeout.getTimeout()).contains(Duration.ofMillis(1000));
+        assertThat(meterRegistry.get(AdaptiveTimeout.TIMEOUT_GAUGE).gauge().value()).isEqualTo(1.0);
+
+        StepVerifier.create(timeout.filter(HttpMethod.GET, URI, Mono.never()))
+                .expectError(TimeoutException.class).verify(Duration.ofSeconds(10));
+        assertThat(counter(AdaptiveTimeout.TIMEOUTS_COUNTER)).isEqualTo(1);
+
+        timeout.close();
+        assertThat(meterRegistry.find(AdaptiveTimeout.TIMEOUT_GAUGE).gauge()).isNull();
+    }
+
+    @Test
+    void testTimeoutAdaptsToSlowerResponsesThanTimeout() {
+        AdaptiveTimeout timeout = createTimeout(Duration.ofMillis(100), Duration.ofSeconds(10));
+        for (int i = 0; i < 30; ++i) {
+            timeout.filter(HttpMethod.GET, URI, Mono.just(ResponseEntity.ok("OK"))).block();
+        }
+        assertThat(timeout.getTimeout().get()).isLessThan(Duration.ofMillis(1000));
+
+        // The response time steps up above the current timeout. The timed out
+        // requests make the timeout grow until the responses are received.
+        int noOfTimeouts = 0;
+        while (noOfTimeouts < 10 && timeout.filter(HttpMethod.GET, URI, exchange(Duration.ofMillis(1000))) //
+                .onErrorResume(TimeoutException.class, t -> Mono.empty()) //
+                .block() == null) {
+            ++noOfTimeouts;
+        }
+        assertThat(noOfTimeouts).isPositive().isLessThan(10);
+        assertThat(timeout.getTimeout().get()).isGreaterThan(Duration.ofMillis(1000));
+        assertThat(counter(AdaptiveTimeout.TIMEOUTS_COUNTER)).isEqualTo(noOfTimeouts);
+    }
+
+    @Test
+    void testDeadlineExceeded() {
+        AdaptiveTimeout timeout = createTimeout(Duration.ofSeconds(1), Duration.ofSeconds(10));
+
+        // The deadline is shorter than the timeout
+        StepVerifier.create(timeout.filter(HttpMethod.GET, URI, Mono.never()) //
+                .contextWrite(RequestDeadline.within(Duration.ofMillis(50)))) //
+                .expectError(DeadlineExceededException.class).verify(Duration.ofSeconds(10));
+
+        // The deadline is already passed, the request is not sent
+        AtomicBoolean sent = new AtomicBoolean();
+        Mono<ResponseEntity<String>> request = exchange(Duration.ZERO).doOnSubscribe(s -> sent.set(true));
+        StepVerifier.create(timeout.filter(HttpMethod.GET, URI, request) //
+                .contextWrite(RequestDeadline.within(Duration.ofMillis(-1)))) //
+                .expectError(DeadlineExceededException.class).verify();
+        assertThat(sent).isFalse();
+        assertThat(counter(AdaptiveTimeout.DEADLINE_EXCEEDED_COUNTER)).isEqualTo(2);
+        assertThat(counter(AdaptiveTimeout.TIMEOUTS_COUNTER)).isZero();
+    }
+
+    @Test
+    void testEarliestDeadlineIsKept() {
+        AdaptiveTimeout timeout = new AdaptiveTimeout(RIC_ID, false, Duration.ZERO, Duration.ZERO, 99, 3,
+                meterRegistry);
+        assertThat(timeout.getTimeout()).isEmpty();
+
+        StepVerifier.create(timeout.filter(HttpMethod.GET, URI, Mono.never()) //
+                .contextWrite(RequestDeadline.within(Duration.ofSeconds(30))) //
+                .contextWrite(RequestDeadline.within(Duration.ofMillis(50)))) //
+                .expectError(DeadlineExceededException.class).verify(Duration.ofSeconds(10));
+
+        StepVerifier.create(timeout.filter(HttpMethod.GET, URI, exchange(Duration.ofMillis(10))) //
+                .contextWrite(RequestDeadline.within(Duration.ofSeconds(10)))) //
+                .expectNextCount(1).verifyComplete();
+    }
+
+    @Test
+    void testTimeoutPerOperation() {
+        AdaptiveTimeout timeout = createTimeout(Duration.ofMillis(1000), Duration.ofSeconds(10));
+        A1ClientMetrics metrics = new A1ClientMetrics(RIC_ID, meterRegistry);
+
+        for (int i = 0; i < 30; ++i) {
+            metrics.record("getPolicyStatus", A1ProtocolType.STD_V2_0_0,
+                    timeout.filter(HttpMethod.GET, URI, Mono.just(ResponseEntity.ok("OK")))).block();
+        }
+        // Fast status reads do not shorten the timeout of other operations
+        assertThat(timeout.getTimeout("getPolicyStatus")).contains(Duration.ofMillis(1000));
+        assertThat(timeout.getTimeout("getPolicyIdentities")).contains(Duration.ofSeconds(10));
+    }
+}
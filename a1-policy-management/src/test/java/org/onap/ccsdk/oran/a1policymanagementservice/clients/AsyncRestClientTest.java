@@ -20,19 +20,37 @@
 
 package org.onap.ccsdk.oran.a1policymanagementservice.clients;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.netty.util.internal.logging.InternalLoggerFactory;
 import io.netty.util.internal.logging.JdkLoggerFactory;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.ApplicationConfig;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.WebClientConfig;
+import org.onap.ccsdk.oran.a1policymanagementservice.controllers.RequestDeadlineFilter;
+import org.onap.ccsdk.oran.a1policymanagementservice.exceptions.ServiceException;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.WebFilterChain;
 
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -62,7 +80,8 @@ class AsyncRestClientTest {
         Loggers.useJdkLoggers();
         mockWebServer = new MockWebServer();
         clientUnderTest =
-                new AsyncRestClient(mockWebServer.url(BASE_URL).toString(), null, null, new SecurityContext(""));
+                new AsyncRestClient(mockWebServer.url(BASE_URL).toString(), null, null, new SecurityContext(""),
+                        new SimpleMeterRegistry());
     }
 
     @AfterAll
@@ -172,4 +191,66 @@ class AsyncRestClientTest {
         StepVerifier.create(returnedMono)
                 .expectErrorMatches(throwable -> throwable instanceof WebClientResponseException).verify();
     }
+
+    @Test
+    @DisplayName("test pooled client with HTTP/2 negotiation falls back to HTTP/1.1")
+    void testPooledClientHttp2Fallback() {
+        WebClientConfig config = WebClientConfig.builder().http2Enabled(true).build();
+        AsyncRestClientFactory factory =
+                new AsyncRestClientFactory(config, new SecurityContext(""), new SimpleMeterRegistry());
+        AsyncRestClient pooledClient = factory.createRestClientNoHttpProxy(mockWebServer.url(BASE_URL).toString(),
+                AsyncRestClientFactory.CALLBACK_POOL);
+        mockWebServer.enqueue(new MockResponse().setResponseCode(SUCCESS_CODE) //
+                .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE) //
+                .setBody(TEST_JSON));
+
+        StepVerifier.create(pooledClient.get(REQUEST_URL)).expectNext(TEST_JSON).expectComplete().verify();
+
+        assertNotNull(Metrics.globalRegistry.find("reactor.netty.connection.provider.total.connections")
+                .tag("name", AsyncRestClientFactory.CALLBACK_POOL).gauge(), "Pool metrics not exported");
+    }
+
+    @Test
+    @DisplayName("test response exceeding the max size is rejected")
+    void testResponseTooLarge() {
+        WebClientConfig config = WebClientConfig.builder().maxResponseSize(1000).build();
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AsyncRestClient limitedClient = new AsyncRestClient(mockWebServer.url(BASE_URL).toString(), null, null,
+                new SecurityContext(""), null, config, meterRegistry);
+        mockWebServer.enqueue(new MockResponse().setResponseCode(SUCCESS_CODE) //
+                .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE) //
+                .setBody("[\"" + "x".repeat(2000) + "\"]"));
+
+        StepVerifier.create(limitedClient.get(REQUEST_URL)) //
+                .expectErrorMatches(t -> t instanceof ServiceException
+                        && ((ServiceException) t).getHttpStatus() == HttpStatus.BAD_GATEWAY) //
+                .verify();
+
+        assertNotNull(meterRegistry.find(AsyncRestClient.OVERSIZED_RESPONSES_COUNTER).counter(),
+                "Oversized response not counted");
+    }
+
+    @Test
+    @DisplayName("test deadline of a northbound request cancels the request to the RIC")
+    void testDeadlineIsPropagatedToRic() throws IOException {
+        try (MockWebServer ric = new MockWebServer()) {
+            // The Near-RT RIC is much slower than the timeout requested by the northbound client
+            ric.enqueue(new MockResponse().setResponseCode(SUCCESS_CODE).setBody(TEST_JSON) //
+                    .setHeadersDelay(10, TimeUnit.SECONDS));
+            AdaptiveTimeout timeout = new AdaptiveTimeout("ric1", true, Duration.ofSeconds(30),
+                    Duration.ofSeconds(30), 99, 3, new SimpleMeterRegistry());
+            AsyncRestClient ricClient = new AsyncRestClient(ric.url(BASE_URL).toString(), null, null,
+                    new SecurityContext(""), new SimpleMeterRegistry()).withRequestFilter(timeout);
+            ApplicationConfig config = mock(ApplicationConfig.class);
+            when(config.getNorthboundRequestTimeoutSeconds()).thenReturn(60);
+            WebFilterChain chain = exchange -> ricClient.get(REQUEST_URL).then();
+            MockServerWebExchange northboundRequest = MockServerWebExchange.from(MockServerHttpRequest
+                    .get("/a1-policy/v2/rics").header(RequestDeadlineFilter.TIMEOUT_HEADER, "200"));
+
+            StepVerifier.create(new RequestDeadlineFilter(config).filter(northboundRequest, chain)) //
+                    .expectError(RequestDeadline.DeadlineExceededException.class) //
+                    .verify(Duration.ofSeconds(5));
+            assertEquals(1, ric.getRequestCount());
+        }
+    }
 }
@@ -28,6 +28,9 @@ import static org.mockito.Mockito.when;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import java.io.File;
 import java.io.IOException;
@@ -86,7 +89,8 @@ class CcsdkA1AdapterClientTest {
     @Test
     @DisplayName("test create Client With Wrong Protocol then Error Is Thrown")
     void createClientWithWrongProtocol_thenErrorIsThrown() {
-        AsyncRestClient asyncRestClient = new AsyncRestClient("", null, null, new SecurityContext(""));
+        AsyncRestClient asyncRestClient =
+                new AsyncRestClient("", null, null, new SecurityContext(""), new SimpleMeterRegistry());
         assertThrows(IllegalArgumentException.class, () -> {
             new CcsdkA1AdapterClient(A1ProtocolType.STD_V1_1, null, asyncRestClient);
         });
@@ -210,6 +214,35 @@ class CcsdkA1AdapterClientTest {
         assertEquals("1", result.get(1));
     }
 
+    @Test
+    @DisplayName("test parse Json Array Of String is streamed")
+    void parseJsonArrayOfString_streamed() {
+        // Elements are emitted as they are parsed, the error at the end is not reached
+        String inputString = "[\"p1\", \"p2\", \"p3\", {";
+        StepVerifier.create(A1AdapterJsonHelper.parseJsonArrayOfString(inputString).take(2)) //
+                .expectNext("p1", "p2") //
+                .verifyComplete();
+
+        StepVerifier.create(A1AdapterJsonHelper.parseJsonArrayOfString(inputString)) //
+                .expectNext("p1", "p2", "p3") //
+                .expectError(JsonParseException.class) //
+                .verify();
+    }
+
+    @Test
+    @DisplayName("test get output from A1 Adapter response")
+    void getOutput() {
+        String response = "{\"other\": {\"body\": \"x\"}, \"A1-ADAPTER-API:output\": "
+                + "{\"http-status\": 200, \"body\": \"policyBody\"}}";
+        AdapterOutput output = A1AdapterJsonHelper.getOutput(response, AdapterOutput.class).block();
+        assertEquals(200, output.getHttpStatus());
+        assertEquals("policyBody", output.getBody());
+
+        StepVerifier.create(A1AdapterJsonHelper.getOutput("{\"other\": 1}", AdapterOutput.class)) //
+                .expectError(JsonParseException.class) //
+                .verify();
+    }
+
     private void getPolicyIdentities(A1ProtocolType protocolType, String... expUrls) {
         clientUnderTest = new CcsdkA1AdapterClient(protocolType, //
                 createRic(RIC_1_URL).getConfig(), //
@@ -0,0 +1,186 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Vector;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.CircuitBreaker.State;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.CircuitBreakerConfig;
+import org.onap.ccsdk.oran.a1policymanagementservice.exceptions.ServiceException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class CircuitBreakerTest {
+
+    private static final String RIC_ID = "ric1";
+
+    private SimpleMeterRegistry meterRegistry;
+    private final List<State> stateChanges = new Vector<>();
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        stateChanges.clear();
+    }
+
+    private CircuitBreaker createBreaker(Duration waitDurationInOpenState) {
+        CircuitBreakerConfig config = CircuitBreakerConfig.builder() //
+                .slidingWindowSize(4) //
+                .minimumNumberOfCalls(4) //
+                .failureRateThreshold(50) //
+                .waitDurationInOpenState(waitDurationInOpenState) //
+                .permittedCallsInHalfOpenState(2) //
+                .build();
+        return new CircuitBreaker(RIC_ID, config, meterRegistry, stateChanges::add);
+    }
+
+    private Mono<ResponseEntity<String>> filter(CircuitBreaker breaker, Mono<ResponseEntity<String>> exchange) {
+        return breaker.filter(HttpMethod.GET, "/a1-p/policytypes", exchange);
+    }
+
+    private void succeed(CircuitBreaker breaker) {
+        StepVerifier.create(filter(breaker, Mono.just(ResponseEntity.ok("OK")))).expectNextCount(1).verifyComplete();
+    }
+
+    private void fail(CircuitBreaker breaker) {
+        StepVerifier.create(filter(breaker, Mono.error(new RuntimeException("Connection refused")))).expectError()
+                .verify();
+    }
+
+    @Test
+    void testOpenedOnFailures() {
+        CircuitBreaker breaker = createBreaker(Duration.ofMinutes(1));
+
+        succeed(breaker);
+        fail(breaker);
+        succeed(breaker);
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+        fail(breaker);
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+        assertThat(stateChanges).containsExactly(State.OPEN);
+
+        // Rejected without sending the request
+        StepVerifier.create(filter(breaker, Mono.error(new AssertionError("Not expected")))) //
+                .expectErrorMatches(t -> t instanceof ServiceException e
+                        && e.getHttpStatus() == HttpStatus.SERVICE_UNAVAILABLE) //
+                .verify();
+        assertThat(breaker.isRejecting()).isTrue();
+        assertThat(meterRegistry.get(CircuitBreaker.REJECTED_COUNTER).tag("ric_id", RIC_ID).counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get(CircuitBreaker.STATE_GAUGE).tag("ric_id", RIC_ID).gauge().value())
+                .isEqualTo(State.OPEN.ordinal());
+    }
+
+    @Test
+    void testRejectedRequestsAreNotFailures() {
+        CircuitBreaker breaker = createBreaker(Duration.ofMinutes(1));
+        WebClientResponseException notFound = WebClientResponseException.create(HttpStatus.NOT_FOUND.value(),
+                "Not Found", HttpHeaders.EMPTY, new byte[0], StandardCharsets.UTF_8);
+
+        for (int i = 0; i < 10; ++i) {
+            StepVerifier.create(filter(breaker, Mono.error(notFound))).expectError().verify();
+        }
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    void testHalfOpen() {
+        CircuitBreaker breaker = createBreaker(Duration.ZERO);
+        for (int i = 0; i < 4; ++i) {
+            fail(breaker);
+        }
+
+        // The wait duration has elapsed, trial requests are let through
+        assertThat(breaker.isRejecting()).isFalse();
+        fail(breaker);
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+        fail(breaker);
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+
+        succeed(breaker);
+        succeed(breaker);
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(stateChanges).containsExactly(State.OPEN, State.HALF_OPEN, State.OPEN, State.HALF_OPEN,
+                State.CLOSED);
+    }
+
+    @Test
+    void testHalfOpenLimitsTrials() {
+        CircuitBreaker breaker = createBreaker(Duration.ZERO);
+        for (int i = 0; i < 4; ++i) {
+            fail(breaker);
+        }
+
+        filter(breaker, Mono.never()).subscribe();
+        var cancelled = filter(breaker, Mono.never()).subscribe();
+        assertThat(breaker.isRejecting()).isTrue();
+        StepVerifier.create(filter(breaker, Mono.just(ResponseEntity.ok("OK")))).expectError().verify();
+
+        // A cancelled trial gives room for another one
+        cancelled.dispose();
+        assertThat(breaker.isRejecting()).isFalse();
+    }
+
+    @Test
+    void testResultsOfRequestsStartedBeforeOpenedAreIgnored() {
+        CircuitBreaker breaker = createBreaker(Duration.ZERO);
+        Sinks.One<ResponseEntity<String>> startedWhenClosed = Sinks.one();
+        filter(breaker, startedWhenClosed.asMono()).subscribe();
+        for (int i = 0; i < 4; ++i) {
+            fail(breaker);
+        }
+
+        fail(breaker);
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+
+        // Not counted as the second trial request
+        startedWhenClosed.tryEmitValue(ResponseEntity.ok("OK"));
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+
+        succeed(breaker);
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    }
+
+    @Test
+    void testCloseRemovesMeters() {
+        CircuitBreaker breaker = createBreaker(Duration.ZERO);
+        assertThat(meterRegistry.getMeters()).hasSize(2);
+
+        breaker.close();
+        assertThat(meterRegistry.getMeters()).isEmpty();
+    }
+}
@@ -0,0 +1,155 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.A1Client.A1ProtocolType;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.RicConfig;
+import org.onap.ccsdk.oran.a1policymanagementservice.repository.Policy;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class InstrumentedA1ClientTest {
+    private static final String RIC_ID = "ric1";
+    private static final String RIC_URL = "RicUrl";
+    private static final String POLICY_JSON = "{\"policyId\":\"policy1\"}";
+
+    @Mock
+    AsyncRestClient asyncRestClientMock;
+
+    @Mock
+    RicConfig ricConfigMock;
+
+    private SimpleMeterRegistry meterRegistry;
+    private A1ClientMetrics metrics;
+    private A1Client clientUnderTest;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new A1ClientMetrics(RIC_ID, meterRegistry);
+        clientUnderTest = metrics.instrument(new StdA1ClientVersion1(asyncRestClientMock, ricConfigMock),
+                A1ProtocolType.STD_V1_1);
+        doReturn(RIC_URL).when(ricConfigMock).getBaseUrl();
+    }
+
+    private Timer timer(String operation, String outcome) {
+        return meterRegistry.find(A1ClientMetrics.OPERATION_TIMER) //
+                .tag("ric_id", RIC_ID) //
+                .tag("protocol", A1ProtocolType.STD_V1_1.name()) //
+                .tag("operation", operation) //
+                .tag("outcome", outcome) //
+                .timer();
+    }
+
+    private double inflight() {
+        return meterRegistry.get(A1ClientMetrics.INFLIGHT_GAUGE).tag("ric_id", RIC_ID).gauge().value();
+    }
+
+    @Test
+    void testOperationsAreMeasured() {
+        Policy policy1 = A1ClientHelper.createPolicy(RIC_URL, "policy1", POLICY_JSON, "type1");
+        Policy policy2 = A1ClientHelper.createPolicy(RIC_URL, "policy2", POLICY_JSON, "type1");
+        when(asyncRestClientMock.put(RIC_URL + "/A1-P/v1/policies/policy1", POLICY_JSON)).thenReturn(Mono.just("OK"));
+        when(asyncRestClientMock.put(RIC_URL + "/A1-P/v1/policies/policy2", POLICY_JSON))
+                .thenReturn(Mono.error(WebClientResponseException.create(400, "", new HttpHeaders(), new byte[0],
+                        StandardCharsets.UTF_8)));
+        when(asyncRestClientMock.get(RIC_URL + "/A1-P/v1/policies/policy1/status"))
+                .thenReturn(Mono.error(WebClientResponseException.create(503, "", new HttpHeaders(), new byte[0],
+                        StandardCharsets.UTF_8)));
+
+        StepVerifier.create(clientUnderTest.putPolicy(policy1)).expectNext("OK").verifyComplete();
+        StepVerifier.create(clientUnderTest.getPolicyStatus(policy1)).expectError().verify();
+        // The bulk operation is not implemented by the client, each policy is measured
+        StepVerifier.create(clientUnderTest.putPolicies(Flux.just(policy1, policy2))).expectNextCount(2)
+                .verifyComplete();
+
+        assertThat(timer("putPolicy", A1ClientMetrics.SUCCESS).count()).isEqualTo(2);
+        assertThat(timer("putPolicy", A1ClientMetrics.CLIENT_ERROR).count()).isEqualTo(1);
+        assertThat(timer("getPolicyStatus", A1ClientMetrics.SERVER_ERROR).count()).isEqualTo(1);
+        assertThat(timer("putPolicies", A1ClientMetrics.SUCCESS)).isNull();
+        assertThat(inflight()).isZero();
+    }
+
+    @Test
+    void testSouthboundErrorsOfNorthboundRequestsAreNotified() {
+        List<String> notified = new ArrayList<>();
+        A1Client client = new A1ClientMetrics(RIC_ID, meterRegistry, notified::add)
+                .instrument(new StdA1ClientVersion1(asyncRestClientMock, ricConfigMock), A1ProtocolType.STD_V1_1);
+        Policy policy = A1ClientHelper.createPolicy(RIC_URL, "policy1", POLICY_JSON, "type1");
+        when(asyncRestClientMock.get(RIC_URL + "/A1-P/v1/policies/policy1/status"))
+                .thenReturn(Mono.error(WebClientResponseException.create(503, "", new HttpHeaders(), new byte[0],
+                        StandardCharsets.UTF_8)));
+        when(asyncRestClientMock.put(RIC_URL + "/A1-P/v1/policies/policy1", POLICY_JSON))
+                .thenReturn(Mono.error(WebClientResponseException.create(400, "", new HttpHeaders(), new byte[0],
+                        StandardCharsets.UTF_8)));
+
+        StepVerifier.create(client.getPolicyStatus(policy)).expectError().verify();
+        StepVerifier.create(client.putPolicy(policy)).expectError().verify();
+        StepVerifier.create(client.getPolicyStatus(policy).contextWrite(RequestPriority.SUPERVISION.toContext()))
+                .expectError().verify();
+        assertThat(notified).containsExactly(RIC_ID);
+
+        // The northbound client gave up, the RIC may be healthy
+        when(asyncRestClientMock.get(RIC_URL + "/A1-P/v1/policies/policy1/status"))
+                .thenReturn(Mono.error(new RequestDeadline.DeadlineExceededException("Deadline exceeded")));
+        StepVerifier.create(client.getPolicyStatus(policy)).expectError().verify();
+        assertThat(notified).containsExactly(RIC_ID);
+    }
+
+    @Test
+    void testInflightAndCancel() {
+        Policy policy = A1ClientHelper.createPolicy(RIC_URL, "policy1", POLICY_JSON, "type1");
+        when(asyncRestClientMock.delete(RIC_URL + "/A1-P/v1/policies/policy1")).thenReturn(Mono.never());
+
+        StepVerifier.create(clientUnderTest.deletePolicy(policy)) //
+                .expectSubscription() //
+                .then(() -> assertThat(inflight()).isEqualTo(1)) //
+                .thenCancel() //
+                .verify();
+
+        assertThat(inflight()).isZero();
+        assertThat(timer("deletePolicy", A1ClientMetrics.CANCELLED).count()).isEqualTo(1);
+
+        metrics.close();
+        assertThat(meterRegistry.getMeters()).isEmpty();
+    }
+}
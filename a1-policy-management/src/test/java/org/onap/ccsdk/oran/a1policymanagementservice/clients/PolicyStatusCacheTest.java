@@ -0,0 +1,193 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.RicConfig;
+import org.onap.ccsdk.oran.a1policymanagementservice.repository.Policy;
+import org.onap.ccsdk.oran.a1policymanagementservice.repository.PolicyType;
+import org.onap.ccsdk.oran.a1policymanagementservice.repository.Ric;
+import org.onap.ccsdk.oran.a1policymanagementservice.repository.Ric.RicState;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class PolicyStatusCacheTest {
+
+    private static final Duration TTL = Duration.ofMillis(100);
+
+    private SimpleMeterRegistry meterRegistry;
+    private A1ClientFactory a1ClientFactory;
+    private A1Client a1Client;
+    private Ric ric;
+    private AtomicInteger noOfRequests;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        a1ClientFactory = mock(A1ClientFactory.class);
+        a1Client = mock(A1Client.class);
+        ric = new Ric(RicConfig.builder().ricId("ric1").baseUrl("baseUrl").build());
+        ric.setState(RicState.AVAILABLE);
+        noOfRequests = new AtomicInteger();
+    }
+
+    private PolicyStatusCache createCache(Duration ttl) {
+        return new PolicyStatusCache(a1ClientFactory, ttl, Duration.ofMinutes(1), 2, meterRegistry);
+    }
+
+    private Policy createPolicy(String id, Instant lastModified) {
+        return Policy.builder() //
+                .id(id) //
+                .json("{}") //
+                .ownerServiceId("service") //
+                .ric(ric) //
+                .type(PolicyType.builder().id("type1").schema("{}").build()) //
+                .lastModified(lastModified) //
+                .build();
+    }
+
+    private Mono<String> statusRequest(String status) {
+        return Mono.fromCallable(() -> {
+            noOfRequests.incrementAndGet();
+            return status;
+        });
+    }
+
+    private String getStatus(PolicyStatusCache cache, Policy policy, String statusInRic) {
+        return cache.getStatus(policy, statusRequest(statusInRic)).block();
+    }
+
+    private double count(String result) {
+        return meterRegistry.get(PolicyStatusCache.REQUESTS_COUNTER).tag("result", result).counter().count();
+    }
+
+    @Test
+    void testDisabled() {
+        PolicyStatusCache cache = createCache(Duration.ZERO);
+        Policy policy = createPolicy("p1", Instant.now());
+
+        assertThat(getStatus(cache, policy, "status1")).isEqualTo("status1");
+        assertThat(getStatus(cache, policy, "status2")).isEqualTo("status2");
+        assertThat(noOfRequests.get()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void testRemove() {
+        PolicyStatusCache cache = createCache(Duration.ofMinutes(1));
+        Policy policy = createPolicy("p1", Instant.now());
+        getStatus(cache, policy, "status1");
+
+        cache.remove(policy.getId());
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void testExpiredAreEvictedWhenStatusesAreAdded() {
+        PolicyStatusCache cache = new PolicyStatusCache(a1ClientFactory, TTL, Duration.ZERO, 2, meterRegistry);
+        getStatus(cache, createPolicy("p1", Instant.now()), "status1");
+        getStatus(cache, createPolicy("p2", Instant.now()), "status2");
+        assertThat(cache.size()).isEqualTo(2);
+
+        await().pollDelay(TTL.multipliedBy(2)).until(() -> true);
+        getStatus(cache, createPolicy("p3", Instant.now()), "status3");
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void testHit() {
+        PolicyStatusCache cache = createCache(Duration.ofMinutes(1));
+        Policy policy = createPolicy("p1", Instant.now());
+
+        assertThat(getStatus(cache, policy, "status1")).isEqualTo("status1");
+        assertThat(getStatus(cache, policy, "status2")).isEqualTo("status1");
+        assertThat(noOfRequests.get()).isEqualTo(1);
+        assertThat(count("miss")).isEqualTo(1);
+        assertThat(count("hit")).isEqualTo(1);
+    }
+
+    @Test
+    void testModifiedPolicyIsNotServedFromCache() {
+        PolicyStatusCache cache = createCache(Duration.ofMinutes(1));
+        Instant created = Instant.now();
+
+        assertThat(getStatus(cache, createPolicy("p1", created), "status1")).isEqualTo("status1");
+        assertThat(getStatus(cache, createPolicy("p1", created.plusSeconds(1)), "status2")).isEqualTo("status2");
+        assertThat(noOfRequests.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testEmptyStatusIsNotCached() {
+        PolicyStatusCache cache = createCache(Duration.ofMinutes(1));
+        Policy policy = createPolicy("p1", Instant.now());
+
+        StepVerifier.create(cache.getStatus(policy, Mono.empty())).verifyComplete();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void testStaleIsRefreshedInBackground() {
+        PolicyStatusCache cache = createCache(TTL);
+        Policy policy = createPolicy("p1", Instant.now());
+        when(a1ClientFactory.createA1Client(any())).thenReturn(Mono.just(a1Client));
+        when(a1Client.getPolicyStatus(any())).thenReturn(Mono.just("refreshed"));
+
+        assertThat(getStatus(cache, policy, "status1")).isEqualTo("status1");
+        await().pollDelay(TTL.multipliedBy(2)).until(() -> true);
+
+        // The stale status is returned and a refresh is started
+        assertThat(getStatus(cache, policy, "notUsed")).isEqualTo("status1");
+        await().untilAsserted(() -> assertThat(getStatus(cache, policy, "notUsed")).isEqualTo("refreshed"));
+        assertThat(noOfRequests.get()).isEqualTo(1);
+        assertThat(count("stale")).isPositive();
+    }
+
+    @Test
+    void testUnavailableRicIsNotRefreshed() {
+        PolicyStatusCache cache = createCache(TTL);
+        Policy policy = createPolicy("p1", Instant.now());
+
+        assertThat(getStatus(cache, policy, "status1")).isEqualTo("status1");
+        await().pollDelay(TTL.multipliedBy(2)).until(() -> true);
+        ric.setState(RicState.SYNCHRONIZING);
+
+        assertThat(getStatus(cache, policy, "notUsed")).isEqualTo("status1");
+        StepVerifier.create(cache.refreshPending()).verifyComplete();
+        verify(a1ClientFactory, never()).createA1Client(any());
+        assertThat(getStatus(cache, policy, "notUsed")).isEqualTo("status1");
+    }
+}
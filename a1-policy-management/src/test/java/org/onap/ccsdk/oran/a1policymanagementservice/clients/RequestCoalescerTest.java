@@ -0,0 +1,151 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class RequestCoalescerTest {
+
+    private static final String RIC_ID = "ric1";
+    private static final String URI = "http://ric1/A1-P/v2/policytypes/type1/policies/p1/status";
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestCoalescer coalescer;
+    private AtomicInteger noOfSent;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new RequestCoalescer(RIC_ID, meterRegistry);
+        noOfSent = new AtomicInteger();
+    }
+
+    private Mono<ResponseEntity<String>> exchange(Mono<ResponseEntity<String>> response) {
+        return Mono.defer(() -> {
+            noOfSent.incrementAndGet();
+            return response;
+        });
+    }
+
+    @Test
+    void testConcurrentGetsAreCoalesced() {
+        Sinks.One<ResponseEntity<String>> response = Sinks.one();
+        Mono<ResponseEntity<String>> first = coalescer.filter(HttpMethod.GET, URI, exchange(response.asMono()));
+        Mono<ResponseEntity<String>> second = coalescer.filter(HttpMethod.GET, URI, exchange(response.asMono()));
+
+        StepVerifier.create(Mono.zip(first, second)) //
+                .then(() -> response.tryEmitValue(ResponseEntity.ok("status"))) //
+                .expectNextMatches(t -> t.getT1().getBody().equals("status") && t.getT2().getBody().equals("status")) //
+                .verifyComplete();
+
+        assertThat(noOfSent.get()).isEqualTo(1);
+        assertThat(coalescer.getNoOfOngoing()).isZero();
+        assertThat(meterRegistry.get(RequestCoalescer.REQUESTS_COUNTER).tag("ric_id", RIC_ID).counter().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get(RequestCoalescer.COALESCED_COUNTER).tag("ric_id", RIC_ID).counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void testSequentialGetsAreNotCoalesced() {
+        for (int i = 0; i < 2; ++i) {
+            StepVerifier.create(coalescer.filter(HttpMethod.GET, URI, exchange(Mono.just(ResponseEntity.ok("OK")))))
+                    .expectNextCount(1).verifyComplete();
+        }
+        assertThat(noOfSent.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testOtherRequestsAreNotCoalesced() {
+        coalescer.filter(HttpMethod.PUT, URI, exchange(Mono.never())).subscribe();
+        coalescer.filter(HttpMethod.PUT, URI, exchange(Mono.never())).subscribe();
+        coalescer.filter(HttpMethod.GET, URI + "2", exchange(Mono.never())).subscribe();
+        coalescer.filter(HttpMethod.GET, URI, exchange(Mono.never())).subscribe();
+
+        assertThat(noOfSent.get()).isEqualTo(4);
+    }
+
+    @Test
+    void testRequestsWithDifferentPriorityOrDeadlineAreNotCoalesced() {
+        coalescer.filter(HttpMethod.GET, URI, exchange(Mono.never())) //
+                .subscribe();
+        coalescer.filter(HttpMethod.GET, URI, exchange(Mono.never())) //
+                .contextWrite(RequestPriority.SUPERVISION.toContext()) //
+                .subscribe();
+        coalescer.filter(HttpMethod.GET, URI, exchange(Mono.never())) //
+                .contextWrite(RequestDeadline.within(Duration.ofSeconds(10))) //
+                .subscribe();
+        coalescer.filter(HttpMethod.GET, URI, exchange(Mono.never())) //
+                .contextWrite(RequestDeadline.within(Duration.ofSeconds(60))) //
+                .subscribe();
+        assertThat(noOfSent.get()).isEqualTo(4);
+
+        // The same priority as an ongoing request and no deadline
+        coalescer.filter(HttpMethod.GET, URI, exchange(Mono.never())) //
+                .contextWrite(RequestPriority.SUPERVISION.toContext()) //
+                .subscribe();
+        assertThat(noOfSent.get()).isEqualTo(4);
+    }
+
+    @Test
+    void testErrorIsShared() {
+        Sinks.One<ResponseEntity<String>> response = Sinks.one();
+        Mono<ResponseEntity<String>> first = coalescer.filter(HttpMethod.GET, URI, exchange(response.asMono()));
+        Mono<ResponseEntity<String>> second = coalescer.filter(HttpMethod.GET, URI, exchange(response.asMono()));
+        first.subscribe(x -> {}, t -> {});
+
+        StepVerifier.create(second) //
+                .then(() -> response.tryEmitError(new RuntimeException("Connection refused"))) //
+                .expectErrorMessage("Connection refused") //
+                .verify();
+        assertThat(noOfSent.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testCancelledWhenAllAreCancelled() {
+        AtomicInteger noOfCancelled = new AtomicInteger();
+        Mono<ResponseEntity<String>> response = Mono.<ResponseEntity<String>>never() //
+                .doOnCancel(noOfCancelled::incrementAndGet);
+        Disposable first = coalescer.filter(HttpMethod.GET, URI, exchange(response)).subscribe();
+        Disposable second = coalescer.filter(HttpMethod.GET, URI, exchange(response)).subscribe();
+
+        first.dispose();
+        assertThat(noOfCancelled.get()).isZero();
+        second.dispose();
+        assertThat(noOfCancelled.get()).isEqualTo(1);
+        assertThat(coalescer.getNoOfOngoing()).isZero();
+    }
+}
@@ -0,0 +1,214 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.clients;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.RetryConfig;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class RequestRetrierTest {
+
+    private static final String RIC_ID = "ric1";
+    private static final String URI = "/a1-p/policytypes";
+
+    private SimpleMeterRegistry meterRegistry;
+    private final AtomicInteger noOfAttempts = new AtomicInteger();
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        noOfAttempts.set(0);
+    }
+
+    private RetryConfig.RetryConfigBuilder config() {
+        return RetryConfig.builder() //
+                .maxAttempts(3) //
+                .initialBackoff(Duration.ofMillis(1)) //
+                .maxBackoff(Duration.ofMillis(10));
+    }
+
+    // Fails the given number of attempts with the given status, then succeeds
+    private Mono<ResponseEntity<String>> exchange(int noOfFailures, int status) {
+        return Mono.defer(() -> {
+            if (noOfAttempts.incrementAndGet() <= noOfFailures) {
+                return Mono.error(WebClientResponseException.create(status, "", new HttpHeaders(), new byte[0],
+                        StandardCharsets.UTF_8));
+            }
+            return Mono.just(ResponseEntity.ok("OK"));
+        });
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).tag("ric_id", RIC_ID).counter().count();
+    }
+
+    @Test
+    void testRetriedOnServerError() {
+        RequestRetrier retrier = new RequestRetrier(RIC_ID, config().build(), meterRegistry);
+
+        StepVerifier.create(retrier.filter(HttpMethod.GET, URI, exchange(2, 503))).expectNextCount(1)
+                .verifyComplete();
+        assertThat(noOfAttempts.get()).isEqualTo(3);
+        assertThat(counter(RequestRetrier.RETRIES_COUNTER)).isEqualTo(2);
+
+        // The max number of attempts is reached
+        noOfAttempts.set(0);
+        StepVerifier.create(retrier.filter(HttpMethod.DELETE, URI, exchange(3, 502)))
+                .expectError(WebClientResponseException.class).verify();
+        assertThat(noOfAttempts.get()).isEqualTo(3);
+    }
+
+    @Test
+    void testNotRetried() {
+        RequestRetrier retrier = new RequestRetrier(RIC_ID, config().build(), meterRegistry);
+
+        // An answer from the RIC
+        StepVerifier.create(retrier.filter(HttpMethod.PUT, URI, exchange(1, 404)))
+                .expectError(WebClientResponseException.class).verify();
+        assertThat(noOfAttempts.get()).isEqualTo(1);
+
+        // Not idempotent
+        noOfAttempts.set(0);
+        StepVerifier.create(retrier.filter(HttpMethod.POST, URI, exchange(1, 503)))
+                .expectError(WebClientResponseException.class).verify();
+        assertThat(noOfAttempts.get()).isEqualTo(1);
+        assertThat(counter(RequestRetrier.RETRIES_COUNTER)).isZero();
+    }
+
+    @Test
+    void testOwnTimeoutNotRetried() {
+        RequestRetrier retrier = new RequestRetrier(RIC_ID, config().build(), meterRegistry);
+        AdaptiveTimeout timeout =
+                new AdaptiveTimeout(RIC_ID, true, Duration.ofMillis(50), Duration.ofMillis(50), 99, 3, meterRegistry);
+        Mono<ResponseEntity<String>> request = Mono.<ResponseEntity<String>>never() //
+                .doOnSubscribe(s -> noOfAttempts.incrementAndGet());
+
+        // The RIC is already slow, a retry would only add load
+        StepVerifier.create(retrier.filter(HttpMethod.GET, URI, timeout.filter(HttpMethod.GET, URI, request)))
+                .expectError(AdaptiveTimeout.RequestTimeoutException.class).verify(Duration.ofSeconds(10));
+        assertThat(noOfAttempts.get()).isEqualTo(1);
+        assertThat(counter(RequestRetrier.RETRIES_COUNTER)).isZero();
+    }
+
+    private Mono<ResponseEntity<String>> tooManyRequests(String retryAfter) {
+        return Mono.defer(() -> {
+            if (noOfAttempts.incrementAndGet() == 1) {
+                return Mono.error(tooManyRequestsException(retryAfter));
+            }
+            return Mono.just(ResponseEntity.ok("OK"));
+        });
+    }
+
+    private static WebClientResponseException tooManyRequestsException(String retryAfter) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.RETRY_AFTER, retryAfter);
+        return WebClientResponseException.create(HttpStatus.TOO_MANY_REQUESTS.value(), "", headers, new byte[0],
+                StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testRetryAfterIsTheMinimumBackoff() {
+        RequestRetrier retrier = new RequestRetrier(RIC_ID, config().build(), meterRegistry);
+
+        long startTime = System.nanoTime();
+        StepVerifier.create(retrier.filter(HttpMethod.GET, URI, tooManyRequests("1"))).expectNextCount(1)
+                .verifyComplete();
+        assertThat(Duration.ofNanos(System.nanoTime() - startTime)).isGreaterThanOrEqualTo(Duration.ofSeconds(1));
+        assertThat(noOfAttempts.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testRetryAfterBeyondDeadlineIsNotRetried() {
+        RequestRetrier retrier = new RequestRetrier(RIC_ID, config().build(), meterRegistry);
+
+        StepVerifier.create(retrier.filter(HttpMethod.GET, URI, tooManyRequests("10")) //
+                .contextWrite(RequestDeadline.within(Duration.ofSeconds(5)))) //
+                .expectError(WebClientResponseException.class) //
+                .verify(Duration.ofSeconds(1));
+        assertThat(noOfAttempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testRetryAfterParsing() {
+        assertThat(RequestRetrier.retryAfter(tooManyRequestsException("120"))).contains(Duration.ofSeconds(120));
+        String inOneMinute = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now().plusMinutes(1));
+        assertThat(RequestRetrier.retryAfter(tooManyRequestsException(inOneMinute)).get())
+                .isBetween(Duration.ofSeconds(50), Duration.ofSeconds(60));
+        String passed = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now().minusMinutes(1));
+        assertThat(RequestRetrier.retryAfter(tooManyRequestsException(passed))).contains(Duration.ZERO);
+        assertThat(RequestRetrier.retryAfter(tooManyRequestsException("soon"))).isEmpty();
+        assertThat(RequestRetrier.retryAfter(new RuntimeException("Connection refused"))).isEmpty();
+    }
+
+    @Test
+    void testRetryBudget() {
+        // No budget is added by the requests, only the initial budget can be used
+        RequestRetrier retrier =
+                new RequestRetrier(RIC_ID, config().maxAttempts(2).budgetPercent(0).build(), meterRegistry);
+
+        for (int i = 0; i < 10; ++i) {
+            noOfAttempts.set(0);
+            StepVerifier.create(retrier.filter(HttpMethod.GET, URI, exchange(1, 503))).expectNextCount(1)
+                    .verifyComplete();
+        }
+        noOfAttempts.set(0);
+        StepVerifier.create(retrier.filter(HttpMethod.GET, URI, exchange(1, 503)))
+                .expectError(WebClientResponseException.class).verify();
+
+        assertThat(counter(RequestRetrier.RETRIES_COUNTER)).isEqualTo(10);
+        assertThat(counter(RequestRetrier.BUDGET_EXHAUSTED_COUNTER)).isEqualTo(1);
+    }
+
+    @Test
+    void testHedgedRead() {
+        RetryConfig hedgingConfig = config().hedgingEnabled(true).hedgeMinDelay(Duration.ofMillis(20)).build();
+        RequestRetrier retrier = new RequestRetrier(RIC_ID, hedgingConfig, meterRegistry);
+
+        // The first request is never answered, the hedged one is
+        Mono<ResponseEntity<String>> exchange = Mono.defer(() -> noOfAttempts.incrementAndGet() == 1 ? Mono.never()
+                : Mono.just(ResponseEntity.ok("hedged")));
+
+        StepVerifier.create(retrier.filter(HttpMethod.GET, URI, exchange)) //
+                .expectNextMatches(resp -> "hedged".equals(resp.getBody())) //
+                .expectComplete() //
+                .verify(Duration.ofSeconds(5));
+        assertThat(counter(RequestRetrier.HEDGED_COUNTER)).isEqualTo(1);
+        assertThat(retrier.hedgeDelay()).isEqualTo(Duration.ofMillis(20));
+    }
+}
@@ -36,6 +36,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.RicConfig;
+import org.onap.ccsdk.oran.a1policymanagementservice.exceptions.ServiceException;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.Policy;
 
 import reactor.core.publisher.Flux;
@@ -140,4 +141,26 @@ class StdA1ClientTest {
         verify(asyncRestClientMock).delete(policiesBaseUrl() + POLICY_1_ID);
         verify(asyncRestClientMock).delete(policiesBaseUrl() + POLICY_2_ID);
     }
+
+    @Test
+    @DisplayName("test Put Policies gives one result per policy")
+    void testPutPolicies() {
+        doReturn(RIC_URL).when(ricConfigMock).getBaseUrl();
+        when(asyncRestClientMock.put(policiesBaseUrl() + POLICY_1_ID, POLICY_JSON)).thenReturn(Mono.just("OK"));
+        when(asyncRestClientMock.put(policiesBaseUrl() + POLICY_2_ID, POLICY_JSON))
+                .thenReturn(Mono.error(new ServiceException("Rejected")));
+
+        Policy policy1 = A1ClientHelper.createPolicy(RIC_URL, POLICY_1_ID, POLICY_JSON, POLICY_TYPE);
+        Policy policy2 = A1ClientHelper.createPolicy(RIC_URL, POLICY_2_ID, POLICY_JSON, POLICY_TYPE);
+        List<A1Client.PolicyResult> results =
+                clientUnderTest.putPolicies(Flux.just(policy1, policy2)).collectList().block();
+
+        assertEquals(2, results.size(), "");
+        assertEquals(policy1, results.get(0).getPolicy(), "");
+        assertEquals(true, results.get(0).isOk(), "");
+        assertEquals("OK", results.get(0).getResponse(), "");
+        assertEquals(policy2, results.get(1).getPolicy(), "");
+        assertEquals(false, results.get(1).isOk(), "");
+        assertEquals("Rejected", results.get(1).getError().getMessage(), "");
+    }
 }
@@ -25,6 +25,7 @@ import org.onap.ccsdk.oran.a1policymanagementservice.configuration.ApplicationCo
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.Policies;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.PolicyTypes;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.Services;
+import org.onap.ccsdk.oran.a1policymanagementservice.tasks.CascadeDeletion;
 import org.onap.ccsdk.oran.a1policymanagementservice.tasks.ServiceSupervision;
 import org.onap.ccsdk.oran.a1policymanagementservice.utils.MockA1ClientFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -45,9 +46,9 @@ public class TestConfig {
 
     @Bean
     public ServiceSupervision getServiceSupervision(@Autowired Services services,
-                                                    @Autowired A1ClientFactory a1ClientFactory, @Autowired Policies policies) {
+                                                    @Autowired CascadeDeletion cascadeDeletion, @Autowired Policies policies) {
         Duration checkInterval = Duration.ofMillis(1);
-        return new ServiceSupervision(services, policies, a1ClientFactory, checkInterval);
+        return new ServiceSupervision(services, policies, cascadeDeletion, checkInterval);
     }
 
     @Bean
@@ -75,6 +75,28 @@ class ApplicationConfigParserTest {
         assertEquals(2, result.getRicConfigs().size());
     }
 
+    @Test
+    @DisplayName("test retry configuration of a ric")
+    void ricRetryConfig() throws Exception {
+        when(applicationConfigMock.getConfigurationFileSchemaPath())
+                .thenReturn("/application_configuration_schema.json");
+        JsonObject jsonRootObject = getJsonRootObject();
+        JsonObject ric = jsonRootObject.getAsJsonObject("config").getAsJsonArray("ric").get(0).getAsJsonObject();
+        JsonObject retry = new JsonObject();
+        retry.addProperty("maxAttempts", 5);
+        retry.addProperty("hedgingEnabled", true);
+        ric.add("retry", retry);
+
+        ApplicationConfigParser.ConfigParserResult result = parserUnderTest.parse(jsonRootObject);
+
+        RetryConfig retryConfig = result.getRicConfigs().get(0).getRetryConfig();
+        assertEquals(5, retryConfig.getMaxAttempts());
+        assertEquals(true, retryConfig.isHedgingEnabled());
+        // Not overridden
+        assertEquals(applicationConfigMock.getRetryConfig().getBudgetPercent(), retryConfig.getBudgetPercent());
+        assertEquals(null, result.getRicConfigs().get(1).getRetryConfig());
+    }
+
     private JsonObject getJsonRootObject() throws JsonIOException, JsonSyntaxException, IOException {
         JsonObject rootObject = JsonParser.parseReader(new InputStreamReader(getCorrectJson())).getAsJsonObject();
         return rootObject;
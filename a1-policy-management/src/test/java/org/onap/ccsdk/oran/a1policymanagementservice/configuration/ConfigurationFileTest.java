@@ -19,6 +19,7 @@
 package org.onap.ccsdk.oran.a1policymanagementservice.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
@@ -31,7 +32,13 @@ import com.google.gson.JsonParser;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
+import java.util.Vector;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -45,6 +52,9 @@ import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
 
+import reactor.core.Disposable;
+import reactor.test.StepVerifier;
+
 @ExtendWith(MockitoExtension.class)
 class ConfigurationFileTest {
     @Mock
@@ -122,4 +132,87 @@ class ConfigurationFileTest {
         assertThat(logAppender.list.get(0).getFormattedMessage())
                 .isEqualTo("Local configuration file not read: " + filePath + ", Not a JSON Object: null");
     }
+
+    @Test
+    @DisplayName("test write File should Signal A Change")
+    void writeFile_shouldSignalAChange() {
+        File tempJsonFile = new File(temporaryFolder, "config.json");
+        ConfigurationFile configFileUnderTest = new ConfigurationFile(applicationConfigMock);
+        when(applicationConfigMock.getLocalConfigurationFilePath()).thenReturn(tempJsonFile.getAbsolutePath());
+        when(applicationConfigMock.isConfigFileWatchEnabled()).thenReturn(false);
+
+        StepVerifier.create(configFileUnderTest.changes()) //
+                .then(() -> configFileUnderTest.writeFileAsync(new JsonObject()).block()) //
+                .expectNext(true) //
+                .thenCancel() //
+                .verify();
+    }
+
+    @Test
+    @DisplayName("test change Of File By Other Process should Be Detected")
+    void changeOfFileByOtherProcess_shouldBeDetected() throws IOException {
+        File tempJsonFile = new File(temporaryFolder, "config.json");
+        ConfigurationFile configFileUnderTest = new ConfigurationFile(applicationConfigMock);
+        when(applicationConfigMock.getLocalConfigurationFilePath()).thenReturn(tempJsonFile.getAbsolutePath());
+        when(applicationConfigMock.isConfigFileWatchEnabled()).thenReturn(true);
+        when(applicationConfigMock.getConfigFileWatchDebounceMillis()).thenReturn(10L);
+
+        List<Boolean> changes = new Vector<>();
+        AtomicInteger version = new AtomicInteger();
+        Disposable watch = configFileUnderTest.changes().subscribe(changes::add);
+        try {
+            // The file is written until the watch, which is started asynchronously, sees it
+            await().untilAsserted(() -> {
+                if (changes.isEmpty()) {
+                    Files.write(tempJsonFile.toPath(), ("{\"version\":" + version.incrementAndGet() + "}").getBytes());
+                }
+                assertThat(changes).isNotEmpty();
+            });
+
+            // Other files in the directory, and unchanged content, are not signalled
+            changes.clear();
+            Files.write(new File(temporaryFolder, "other.json").toPath(), "{}".getBytes());
+            Files.write(tempJsonFile.toPath(), ("{\"version\":" + version.get() + "}").getBytes());
+            await().during(Duration.ofMillis(200)).atMost(Duration.ofSeconds(1))
+                    .untilAsserted(() -> assertThat(changes).isEmpty());
+        } finally {
+            watch.dispose();
+        }
+    }
+
+    @Test
+    @DisplayName("test swap Of Kubernetes ConfigMap should Be Detected")
+    void swapOfConfigMap_shouldBeDetected() throws IOException {
+        // A mounted ConfigMap: config.json -> ..data/config.json, ..data -> ..version
+        Path dir = temporaryFolder.toPath();
+        Path configFile = dir.resolve("config.json");
+        Files.createSymbolicLink(dir.resolve("..data"), createConfigMapVersion(dir, 0).getFileName());
+        Files.createSymbolicLink(configFile, Path.of("..data", "config.json"));
+        ConfigurationFile configFileUnderTest = new ConfigurationFile(applicationConfigMock);
+        when(applicationConfigMock.getLocalConfigurationFilePath()).thenReturn(configFile.toString());
+        when(applicationConfigMock.isConfigFileWatchEnabled()).thenReturn(true);
+        when(applicationConfigMock.getConfigFileWatchDebounceMillis()).thenReturn(10L);
+
+        List<Boolean> changes = new Vector<>();
+        AtomicInteger version = new AtomicInteger();
+        Disposable watch = configFileUnderTest.changes().subscribe(changes::add);
+        try {
+            // Kubernetes writes a new version and swaps the ..data link, there is no event for config.json
+            await().untilAsserted(() -> {
+                Path newVersion = createConfigMapVersion(dir, version.incrementAndGet());
+                Path newLink = Files.createSymbolicLink(dir.resolve("..data_tmp"), newVersion.getFileName());
+                Files.move(newLink, dir.resolve("..data"), StandardCopyOption.ATOMIC_MOVE);
+                assertThat(changes).isNotEmpty();
+            });
+            assertThat(configFileUnderTest.readFile()).isPresent();
+        } finally {
+            watch.dispose();
+        }
+    }
+
+    private static Path createConfigMapVersion(Path dir, int version) throws IOException {
+        Path versionDir = Files.createDirectory(dir.resolve("..version_" + version));
+        Files.write(versionDir.resolve("config.json"), ("{\"version\":" + version + "}").getBytes());
+        return versionDir;
+    }
 }
@@ -0,0 +1,170 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.gson.JsonObject;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.io.FileOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Vector;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.SecurityContext;
+import org.onap.ccsdk.oran.a1policymanagementservice.datastore.DataStore;
+
+import reactor.blockhound.BlockHound;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Verifies, using BlockHound, that no blocking file I/O is done on the
+ * non-blocking threads. The detection is only active while the tests in this
+ * class are executed.
+ */
+class IoSchedulerTest {
+
+    private static volatile boolean detecting = false;
+    private static final List<String> blockingCalls = new Vector<>();
+    private static Scheduler nonBlockingScheduler;
+
+    @TempDir
+    Path tmpDir;
+
+    private ApplicationConfig appConfig;
+
+    @BeforeAll
+    static void installBlockHound() {
+        // The Reactor integration, which marks the non-blocking threads, is loaded by install()
+        BlockHound.install(builder -> builder.blockingMethodCallback(method -> {
+            if (detecting) {
+                blockingCalls.add(method.toString());
+            }
+        }));
+        // Threads must be created after BlockHound is installed
+        nonBlockingScheduler = Schedulers.newParallel("non-blocking-test");
+    }
+
+    @AfterAll
+    static void disposeScheduler() {
+        nonBlockingScheduler.dispose();
+    }
+
+    @BeforeEach
+    void init() {
+        appConfig = mock(ApplicationConfig.class);
+        when(appConfig.getVardataDirectory()).thenReturn(tmpDir.toString());
+        when(appConfig.getLocalConfigurationFilePath()).thenReturn(tmpDir.resolve("config.json").toString());
+        blockingCalls.clear();
+        detecting = true;
+    }
+
+    @AfterEach
+    void reset() {
+        detecting = false;
+    }
+
+    @Test
+    void testBlockingCallIsDetected() {
+        // Verifies the test setup, a file write on a non-blocking thread
+        onNonBlockingThread(Mono.fromCallable(() -> {
+            try (FileOutputStream out = new FileOutputStream(tmpDir.resolve("file").toFile())) {
+                out.write(1);
+            }
+            return true;
+        }));
+        assertThat(blockingCalls).isNotEmpty();
+    }
+
+    @Test
+    void testFileStore() {
+        DataStore store = DataStore.create(appConfig, "policies", new SimpleMeterRegistry());
+
+        onNonBlockingThread(store.createDataStore() //
+                .flatMap(x -> store.writeObject("ric1/p1.json", "{}".getBytes())) //
+                .flatMap(x -> store.readObject("ric1/p1.json")) //
+                .flatMap(x -> store.listObjects("ric1").collectList()) //
+                .flatMap(x -> store.deleteObject("ric1/p1.json")));
+
+        assertThat(blockingCalls).isEmpty();
+    }
+
+    @Test
+    void testConfigurationFile() {
+        ConfigurationFile configurationFile = new ConfigurationFile(appConfig);
+        JsonObject content = new JsonObject();
+        content.addProperty("config", "value");
+
+        onNonBlockingThread(configurationFile.writeFileAsync(content) //
+                .flatMap(x -> configurationFile.readFileAsync()));
+
+        assertThat(blockingCalls).isEmpty();
+    }
+
+    @Test
+    void testAuthToken() throws Exception {
+        Path tokenFile = Files.writeString(tmpDir.resolve("token"), "token1");
+        SecurityContext securityContext = new SecurityContext(tokenFile.toString());
+
+        String token = onNonBlockingThread(securityContext.getBearerAuthTokenAsync());
+
+        assertThat(token).isEqualTo("token1");
+        assertThat(blockingCalls).isEmpty();
+    }
+
+    @Test
+    void testReconfigure_replacedSchedulerIsDisposed() {
+        DataStore store = DataStore.create(appConfig, "policies", new SimpleMeterRegistry());
+        store.createDataStore().block();
+
+        Scheduler first = IoScheduler.configure(2, 0, false);
+        Scheduler second = IoScheduler.configure(3, 0, false);
+        try {
+            assertThat(second).isNotSameAs(first);
+            await().until(first::isDisposed);
+
+            // The store continues on the new scheduler
+            assertThat(store.writeObject("p1.json", "{}".getBytes()).block()).isNotNull();
+        } finally {
+            IoScheduler.configure(0, 0, false);
+        }
+    }
+
+    private static <T> T onNonBlockingThread(Mono<T> mono) {
+        return Mono.defer(() -> mono) //
+                .subscribeOn(nonBlockingScheduler) //
+                .block();
+    }
+}
@@ -0,0 +1,79 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.everit.json.schema.Schema;
+import org.everit.json.schema.ValidationException;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+class JsonSchemaRegistryTest {
+
+    private static final String STRING_SCHEMA =
+            "{\"type\":\"object\",\"properties\":{\"a\":{\"type\":\"string\"}}}";
+    private static final String INTEGER_SCHEMA =
+            "{\"type\":\"object\",\"properties\":{\"a\":{\"type\":\"integer\"}}}";
+
+    @Test
+    void testSchemaIsCompiledOnce() {
+        JsonSchemaRegistry registry = new JsonSchemaRegistry();
+
+        Schema schema = registry.getSchema("type1", STRING_SCHEMA);
+        // An equal source, in another string instance, gives the cached schema
+        assertThat(registry.getSchema("type1", new String(STRING_SCHEMA))).isSameAs(schema);
+        assertThat(registry.getSchema("type2", STRING_SCHEMA)).isNotSameAs(schema);
+        assertThat(registry.size()).isEqualTo(2);
+
+        registry.invalidate("type1");
+        assertThat(registry.getSchema("type1", STRING_SCHEMA)).isNotSameAs(schema);
+    }
+
+    @Test
+    void testChangedSchemaIsRecompiled() {
+        JsonSchemaRegistry registry = new JsonSchemaRegistry();
+        JSONObject instance = new JSONObject("{\"a\":1}");
+
+        Schema schema = registry.getSchema("type1", STRING_SCHEMA);
+        assertThrows(ValidationException.class, () -> schema.validate(instance));
+
+        registry.getSchema("type1", INTEGER_SCHEMA).validate(instance);
+        assertThat(registry.size()).isEqualTo(1);
+    }
+
+    @Test
+    void testSourceIsLoadedOnce() throws Exception {
+        JsonSchemaRegistry registry = new JsonSchemaRegistry();
+        AtomicInteger loads = new AtomicInteger();
+        JsonSchemaRegistry.SourceLoader loader = () -> {
+            loads.incrementAndGet();
+            return STRING_SCHEMA;
+        };
+
+        Schema schema = registry.getSchema("/schema.json", loader);
+        assertThat(registry.getSchema("/schema.json", loader)).isSameAs(schema);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+}
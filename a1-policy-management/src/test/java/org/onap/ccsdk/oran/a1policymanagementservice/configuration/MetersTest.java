@@ -24,7 +24,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.micrometer.prometheusmetrics.PrometheusConfig;
 import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Vector;
@@ -41,6 +43,8 @@ import org.onap.ccsdk.oran.a1policymanagementservice.repository.PolicyTypes;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.Ric;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.Rics;
 
+import reactor.core.publisher.Mono;
+
 @ExtendWith(MockitoExtension.class)
 class MetersTest {
 
@@ -66,8 +70,8 @@ class MetersTest {
 
     @BeforeEach
     void init() {
-        types = new PolicyTypes(appConfig);
-        policies = new Policies(appConfig);
+        types = new PolicyTypes(appConfig, new SimpleMeterRegistry());
+        policies = new Policies(appConfig, new SimpleMeterRegistry());
 
         rics.clear();
         policies.clear();
@@ -95,6 +99,24 @@ class MetersTest {
         assertThat(prometheusMeterRegistry.get("total_ric_count").gauge().value()).isEqualTo(1);
         assertThat(prometheusMeterRegistry.get("total_policy_type_count").gauge().value()).isEqualTo(1);
         assertThat(prometheusMeterRegistry.get("total_policy_count").gauge().value()).isEqualTo(1);
+        assertThat(prometheusMeterRegistry.get("available_ric_count").gauge().value()).isEqualTo(1);
+        assertThat(prometheusMeterRegistry.get("queued_ric_write_count").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("test Counters when a Ric is synchronizing")
+    void testCounters_whenRicIsSynchronizing() {
+        RIC_1.setState(Ric.RicState.SYNCHRONIZING);
+        rics.put(RIC_1);
+        RIC_1.awaitAvailable(10, Duration.ofMinutes(1), Mono::just).subscribe();
+
+        assertThat(prometheusMeterRegistry.get("total_ric_count").gauge().value()).isEqualTo(1);
+        assertThat(prometheusMeterRegistry.get("available_ric_count").gauge().value()).isZero();
+        assertThat(prometheusMeterRegistry.get("queued_ric_write_count").gauge().value()).isEqualTo(1);
+
+        RIC_1.setState(Ric.RicState.AVAILABLE);
+        assertThat(prometheusMeterRegistry.get("available_ric_count").gauge().value()).isEqualTo(1);
+        assertThat(prometheusMeterRegistry.get("queued_ric_write_count").gauge().value()).isZero();
     }
 
     @Test
@@ -0,0 +1,105 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.RequestDeadline;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.ApplicationConfig;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class RequestDeadlineFilterTest {
+
+    private static RequestDeadlineFilter createFilter(int defaultTimeoutSeconds) {
+        ApplicationConfig config = mock(ApplicationConfig.class);
+        when(config.getNorthboundRequestTimeoutSeconds()).thenReturn(defaultTimeoutSeconds);
+        return new RequestDeadlineFilter(config);
+    }
+
+    private static ServerWebExchange exchange(String timeoutHeader) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/a1-policy/v2/rics");
+        if (timeoutHeader != null) {
+            request.header(RequestDeadlineFilter.TIMEOUT_HEADER, timeoutHeader);
+        }
+        return MockServerWebExchange.from(request);
+    }
+
+    @Test
+    void testGetTimeout() {
+        RequestDeadlineFilter filter = createFilter(60);
+
+        assertThat(filter.getTimeout(null)).isEqualTo(Duration.ofSeconds(60));
+        assertThat(filter.getTimeout("500")).isEqualTo(Duration.ofMillis(500));
+        assertThat(filter.getTimeout(" 500 ")).isEqualTo(Duration.ofMillis(500));
+
+        // The client cannot extend the configured timeout
+        assertThat(filter.getTimeout("120000")).isEqualTo(Duration.ofSeconds(60));
+
+        // Invalid values are ignored
+        assertThat(filter.getTimeout("0")).isEqualTo(Duration.ofSeconds(60));
+        assertThat(filter.getTimeout("-1")).isEqualTo(Duration.ofSeconds(60));
+        assertThat(filter.getTimeout("abc")).isEqualTo(Duration.ofSeconds(60));
+        assertThat(filter.getTimeout("")).isEqualTo(Duration.ofSeconds(60));
+    }
+
+    @Test
+    void testGetTimeoutWithoutDefault() {
+        RequestDeadlineFilter filter = createFilter(0);
+
+        assertThat(filter.getTimeout(null)).isZero();
+        assertThat(filter.getTimeout("abc")).isZero();
+        assertThat(filter.getTimeout("120000")).isEqualTo(Duration.ofSeconds(120));
+    }
+
+    @Test
+    void testDeadlineIsSetInContext() {
+        AtomicReference<Optional<Duration>> timeLeft = new AtomicReference<>();
+        WebFilterChain chain = exchange -> Mono.deferContextual(context -> {
+            timeLeft.set(RequestDeadline.getTimeLeft(context));
+            return Mono.empty();
+        });
+
+        StepVerifier.create(createFilter(60).filter(exchange("500"), chain)).verifyComplete();
+        assertThat(timeLeft.get()).isPresent();
+        assertThat(timeLeft.get().get()).isPositive().isLessThanOrEqualTo(Duration.ofMillis(500));
+
+        StepVerifier.create(createFilter(60).filter(exchange(null), chain)).verifyComplete();
+        assertThat(timeLeft.get().get()).isGreaterThan(Duration.ofSeconds(50));
+
+        // No default and no header, there is no deadline
+        StepVerifier.create(createFilter(0).filter(exchange(null), chain)).verifyComplete();
+        assertThat(timeLeft.get()).isEmpty();
+    }
+
+}
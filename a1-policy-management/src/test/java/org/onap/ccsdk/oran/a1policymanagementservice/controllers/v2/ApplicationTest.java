@@ -31,6 +31,8 @@ import static org.mockito.Mockito.doReturn;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import java.lang.invoke.MethodHandles;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -85,6 +87,7 @@ import org.onap.ccsdk.oran.a1policymanagementservice.repository.Service;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.Services;
 import org.onap.ccsdk.oran.a1policymanagementservice.tasks.RefreshConfigTask;
 import org.onap.ccsdk.oran.a1policymanagementservice.tasks.RicSupervision;
+import org.onap.ccsdk.oran.a1policymanagementservice.tasks.CascadeDeletion;
 import org.onap.ccsdk.oran.a1policymanagementservice.tasks.ServiceSupervision;
 import org.onap.ccsdk.oran.a1policymanagementservice.utils.MockA1Client;
 import org.onap.ccsdk.oran.a1policymanagementservice.utils.MockA1ClientFactory;
@@ -119,6 +122,7 @@ import reactor.util.annotation.Nullable;
         "app.webclient.trust-store-used=true", //
         "app.vardata-directory=/tmp/pmstest", //
         "app.filepath=", //
+        "app.ric-write-queue.timeout-seconds=1", //
         "app.s3.bucket=" // If this is set, S3 will be used to store data.
 })
 class ApplicationTest {
@@ -176,9 +180,9 @@ class ApplicationTest {
 
         @Bean
         public ServiceSupervision getServiceSupervision(@Autowired Services services,
-                @Autowired A1ClientFactory a1ClientFactory, @Autowired Policies policies) {
+                @Autowired CascadeDeletion cascadeDeletion, @Autowired Policies policies) {
             Duration checkInterval = Duration.ofMillis(1);
-            return new ServiceSupervision(services, policies, a1ClientFactory, checkInterval);
+            return new ServiceSupervision(services, policies, cascadeDeletion, checkInterval);
         }
 
         @Bean
@@ -265,18 +269,19 @@ class ApplicationTest {
         }
         waitforS3();
 
-        {
-            Policies policiesLocal = new Policies(this.applicationConfig);
+        // The data store is written asynchronously
+        await().untilAsserted(() -> {
+            Policies policiesLocal = new Policies(this.applicationConfig, new SimpleMeterRegistry());
             policiesLocal.restoreFromDatabase(ric, this.policyTypes).blockLast();
             assertThat(policiesLocal.size()).isEqualTo(noOfPolicies);
-        }
+        });
 
-        {
-            restClient().delete("/policies/id2").block();
-            Policies policiesAfterDelete = new Policies(this.applicationConfig);
+        restClient().delete("/policies/id2").block();
+        await().untilAsserted(() -> {
+            Policies policiesAfterDelete = new Policies(this.applicationConfig, new SimpleMeterRegistry());
             policiesAfterDelete.restoreFromDatabase(ric, this.policyTypes).blockLast();
             assertThat(policiesAfterDelete.size()).isEqualTo(noOfPolicies - 1);
-        }
+        });
     }
 
     @Test
@@ -286,9 +291,11 @@ class ApplicationTest {
         this.addPolicyType("type1", ric.id());
         waitforS3();
 
-        PolicyTypes types = new PolicyTypes(this.applicationConfig);
-        types.restoreFromDatabase().blockLast();
-        assertThat(types.size()).isEqualTo(1);
+        await().untilAsserted(() -> {
+            PolicyTypes types = new PolicyTypes(this.applicationConfig, new SimpleMeterRegistry());
+            types.restoreFromDatabase().blockLast();
+            assertThat(types.size()).isEqualTo(1);
+        });
     }
 
     @SuppressWarnings("squid:S2925") // "Thread.sleep" should not be used in tests.
@@ -307,16 +314,18 @@ class ApplicationTest {
         Service service = this.services.getService(SERVICE);
         waitforS3();
 
-        Services servicesRestored = new Services(this.applicationConfig);
-        servicesRestored.restoreFromDatabase().blockLast();
-        Service serviceRestored = servicesRestored.getService(SERVICE);
-        assertThat(servicesRestored.size()).isEqualTo(1);
-        assertThat(serviceRestored.getCallbackUrl()).isEqualTo(service.getCallbackUrl());
-        assertThat(serviceRestored.getKeepAliveInterval()).isEqualTo(service.getKeepAliveInterval());
+        await().untilAsserted(() -> {
+            Services servicesRestored = new Services(this.applicationConfig, new SimpleMeterRegistry());
+            servicesRestored.restoreFromDatabase().blockLast();
+            Service serviceRestored = servicesRestored.getService(SERVICE);
+            assertThat(servicesRestored.size()).isEqualTo(1);
+            assertThat(serviceRestored.getCallbackUrl()).isEqualTo(service.getCallbackUrl());
+            assertThat(serviceRestored.getKeepAliveInterval()).isEqualTo(service.getKeepAliveInterval());
+        });
 
         // check that the service can be deleted
         this.services.remove(SERVICE);
-        servicesRestored = new Services(this.applicationConfig);
+        Services servicesRestored = new Services(this.applicationConfig, new SimpleMeterRegistry());
         assertThat(servicesRestored.size()).isZero();
     }
 
@@ -327,7 +336,7 @@ class ApplicationTest {
 
         final String RIC = "ric1";
         final String TYPE = "type123";
-        PolicyTypes nearRtRicPolicyTypes = new PolicyTypes(this.applicationConfig);
+        PolicyTypes nearRtRicPolicyTypes = new PolicyTypes(this.applicationConfig, new SimpleMeterRegistry());
         nearRtRicPolicyTypes.put(createPolicyType(TYPE));
         this.a1ClientFactory.setPolicyTypes(nearRtRicPolicyTypes);
 
@@ -421,7 +430,7 @@ class ApplicationTest {
     @DisplayName("test Synchronization")
     void testSynchronization() throws Exception {
         // Two polictypes will be put in the NearRT RICs
-        PolicyTypes nearRtRicPolicyTypes = new PolicyTypes(this.applicationConfig);
+        PolicyTypes nearRtRicPolicyTypes = new PolicyTypes(this.applicationConfig, new SimpleMeterRegistry());
         nearRtRicPolicyTypes.put(createPolicyType("typeName"));
         nearRtRicPolicyTypes.put(createPolicyType("typeName2"));
         this.a1ClientFactory.setPolicyTypes(nearRtRicPolicyTypes);
@@ -552,9 +561,18 @@ class ApplicationTest {
         testErrorCode(restClient().put(url, policyBody), HttpStatus.NOT_FOUND);
 
         policyBody = putPolicyBody(serviceName, ricId, policyTypeName, policyInstanceId);
-        this.rics.getRic(ricId).setState(Ric.RicState.SYNCHRONIZING);
+        Ric ric = this.rics.getRic(ricId);
+        ric.setState(Ric.RicState.SYNCHRONIZING);
+        // Queued until the RIC is AVAILABLE, rejected when that is not within the timeout
         testErrorCode(restClient().put(url, policyBody), HttpStatus.LOCKED);
-        this.rics.getRic(ricId).setState(Ric.RicState.AVAILABLE);
+
+        StepVerifier.create(restClient().putForEntity(url, policyBody)) //
+                .then(() -> {
+                    await().until(() -> ric.getAvailabilityWaiterCount() == 1);
+                    ric.setState(Ric.RicState.AVAILABLE);
+                }) //
+                .expectNextMatches(resp -> resp.getStatusCode().equals(HttpStatus.OK)) //
+                .verifyComplete();
     }
 
     @Test
@@ -1184,7 +1202,8 @@ class ApplicationTest {
                 .httpProxyConfig(config.getHttpProxyConfig())
                 .build();
 
-        AsyncRestClientFactory f = new AsyncRestClientFactory(config, new SecurityContext(""));
+        AsyncRestClientFactory f =
+                new AsyncRestClientFactory(config, new SecurityContext(""), new SimpleMeterRegistry());
         return f.createRestClientNoHttpProxy(baseUrl);
 
     }
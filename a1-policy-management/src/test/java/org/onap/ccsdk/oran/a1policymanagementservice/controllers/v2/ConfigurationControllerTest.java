@@ -25,6 +25,8 @@ import static org.awaitility.Awaitility.await;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import java.io.File;
 import java.lang.reflect.Field;
 import java.time.Duration;
@@ -180,13 +182,15 @@ class ConfigurationControllerTest {
                     .httpProxyConfig(config.getHttpProxyConfig()) //
                     .build();
 
-            AsyncRestClientFactory f = new AsyncRestClientFactory(config, new SecurityContext(""));
+            AsyncRestClientFactory f =
+                    new AsyncRestClientFactory(config, new SecurityContext(""), new SimpleMeterRegistry());
             return f.createRestClientNoHttpProxy("https://localhost:" + port);
         } else {
             config = WebClientConfig.builder()
                     .httpProxyConfig(config.getHttpProxyConfig())
                     .build();
-            AsyncRestClientFactory f = new AsyncRestClientFactory(config, new SecurityContext(""));
+            AsyncRestClientFactory f =
+                    new AsyncRestClientFactory(config, new SecurityContext(""), new SimpleMeterRegistry());
             return f.createRestClientNoHttpProxy("http://localhost:" + port);
         }
     }
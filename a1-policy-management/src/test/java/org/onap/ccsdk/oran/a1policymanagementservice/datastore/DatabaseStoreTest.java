@@ -38,9 +38,11 @@ import org.onap.ccsdk.oran.a1policymanagementservice.SpringContextProvider;
 import org.onap.ccsdk.oran.a1policymanagementservice.database.entities.BaseSchema;
 import org.onap.ccsdk.oran.a1policymanagementservice.database.entities.Policy;
 import org.onap.ccsdk.oran.a1policymanagementservice.database.entities.PolicyType;
+import org.onap.ccsdk.oran.a1policymanagementservice.database.entities.Ric;
 import org.onap.ccsdk.oran.a1policymanagementservice.database.entities.Service;
 import org.onap.ccsdk.oran.a1policymanagementservice.database.repositories.PoliciesRepository;
 import org.onap.ccsdk.oran.a1policymanagementservice.database.repositories.PolicyTypesRepository;
+import org.onap.ccsdk.oran.a1policymanagementservice.database.repositories.RicsRepository;
 import org.onap.ccsdk.oran.a1policymanagementservice.database.repositories.ServicesRepository;
 import org.springframework.context.ApplicationContext;
 import reactor.core.publisher.Flux;
@@ -58,6 +60,8 @@ public class DatabaseStoreTest {
     @Mock
     PolicyTypesRepository policyTypesRepository;
     @Mock
+    RicsRepository ricsRepository;
+    @Mock
     ApplicationContext applicationContext;
     @InjectMocks
     SpringContextProvider springContextProvider;
@@ -79,6 +83,7 @@ public class DatabaseStoreTest {
         when(applicationContext.getBean(PoliciesRepository.class)).thenReturn(policiesRepository);
         when(applicationContext.getBean(PolicyTypesRepository.class)).thenReturn(policyTypesRepository);
         when(applicationContext.getBean(ServicesRepository.class)).thenReturn(servicesRepository);
+        when(applicationContext.getBean(RicsRepository.class)).thenReturn(ricsRepository);
         springContextProvider.setApplicationContext(applicationContext);
     }
 
@@ -88,6 +93,22 @@ public class DatabaseStoreTest {
         StepVerifier.create(databaseStore.createDataStore()).expectNext(OK).verifyComplete();
     }
 
+    @Test
+    void testRics() {
+        DatabaseStore databaseStore = new DatabaseStore("rics");
+        String ricName = "ric1.json";
+        String ricPayload = "{\"protocolVersion\":\"STD_V2_0_0\"}";
+        Ric ric = new Ric(ricName, ricPayload);
+        when(ricsRepository.findById(anyString())).thenReturn(Mono.empty(), Mono.just(ric));
+        when(ricsRepository.save(any(Ric.class))).thenReturn(Mono.just(ric));
+
+        StepVerifier.create(databaseStore.writeObject(ricName, ricPayload.getBytes())).consumeNextWith(bytes -> {
+            verify(ricsRepository).save(argThat(BaseSchema::isNew));
+        }).verifyComplete();
+        StepVerifier.create(databaseStore.readObject(ricName))
+                .consumeNextWith(bytes -> assertArrayEquals(ricPayload.getBytes(), bytes)).verifyComplete();
+    }
+
     @ParameterizedTest
     @EnumSource(OperationTarget.class)
     void testListObjectsSuccess(OperationTarget operationTarget) {
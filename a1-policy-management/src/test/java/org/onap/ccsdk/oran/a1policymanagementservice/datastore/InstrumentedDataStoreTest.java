@@ -0,0 +1,115 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.datastore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class InstrumentedDataStoreTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DataStore backend;
+    private InstrumentedDataStore store;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        backend = mock(DataStore.class);
+        store = new InstrumentedDataStore(backend, "s3", "policies", meterRegistry);
+    }
+
+    @Test
+    void testOperationsAreTimed() {
+        when(backend.readObject(anyString())).thenReturn(Mono.just(new byte[1]));
+        when(backend.listObjects(anyString())).thenReturn(Flux.just("a", "b"));
+
+        StepVerifier.create(store.readObject("x")).expectNextCount(1).verifyComplete();
+        StepVerifier.create(store.readObject("y")).expectNextCount(1).verifyComplete();
+        StepVerifier.create(store.listObjects("")).expectNextCount(2).verifyComplete();
+
+        assertThat(timerCount("read", "success")).isEqualTo(2);
+        assertThat(timerCount("list", "success")).isEqualTo(1);
+        assertThat(meterRegistry.get(InstrumentedDataStore.INFLIGHT_GAUGE).tag("location", "policies").gauge()
+                .value()).isZero();
+    }
+
+    @Test
+    void testFailedWritesAreCounted() {
+        when(backend.writeObject(anyString(), any())).thenReturn(Mono.error(new RuntimeException("S3 down")));
+        when(backend.deleteObject(anyString())).thenReturn(Mono.error(new RuntimeException("S3 down")));
+
+        // Fire and forget, as done by the repositories
+        store.writeObject("x", new byte[1]).subscribe(x -> {}, t -> {});
+        store.deleteObject("x").subscribe(x -> {}, t -> {});
+
+        assertThat(timerCount("write", "error")).isEqualTo(1);
+        assertThat(timerCount("delete", "error")).isEqualTo(1);
+        assertThat(meterRegistry.get(InstrumentedDataStore.FAILED_WRITES_COUNTER).tag("backend", "s3").counter()
+                .count()).isEqualTo(2);
+    }
+
+    @Test
+    void testBatchDelete() {
+        when(backend.deleteObjects(any())).thenCallRealMethod();
+        when(backend.deleteObject(anyString())).thenReturn(Mono.just(true));
+
+        // The default implementation deletes the objects one by one
+        StepVerifier.create(store.deleteObjects(List.of("a", "b", "c"))).expectNext(3L).verifyComplete();
+
+        assertThat(timerCount("delete_batch", "success")).isEqualTo(1);
+    }
+
+    @Test
+    void testInflightOperations() {
+        when(backend.readObject(anyString())).thenReturn(Mono.never());
+
+        var subscription = store.readObject("x").subscribe();
+        assertThat(meterRegistry.get(InstrumentedDataStore.INFLIGHT_GAUGE).gauge().value()).isEqualTo(1);
+
+        subscription.dispose();
+        assertThat(meterRegistry.get(InstrumentedDataStore.INFLIGHT_GAUGE).gauge().value()).isZero();
+        assertThat(timerCount("read", "cancelled")).isEqualTo(1);
+    }
+
+    private long timerCount(String operation, String outcome) {
+        return meterRegistry.get(InstrumentedDataStore.OPERATION_TIMER) //
+                .tag("operation", operation) //
+                .tag("outcome", outcome) //
+                .tag("backend", "s3") //
+                .tag("location", "policies") //
+                .timer() //
+                .count();
+    }
+}
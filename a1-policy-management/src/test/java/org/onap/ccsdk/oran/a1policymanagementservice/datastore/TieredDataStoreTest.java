@@ -0,0 +1,213 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.datastore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.ApplicationConfig;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class TieredDataStoreTest {
+
+    @TempDir
+    Path vardata;
+
+    private S3ObjectStore remote;
+    private FileStore local;
+    private Path manifest;
+
+    @BeforeEach
+    void init() {
+        ApplicationConfig appConfig = mock(ApplicationConfig.class);
+        when(appConfig.getVardataDirectory()).thenReturn(vardata.toString());
+        remote = mock(S3ObjectStore.class);
+        when(remote.createDataStore()).thenReturn(Mono.just("OK"));
+        local = new FileStore(appConfig, "policies");
+        manifest = vardata.resolve("policies.manifest.json");
+    }
+
+    private final List<TieredDataStore> stores = new ArrayList<>();
+
+    @AfterEach
+    void close() {
+        stores.forEach(TieredDataStore::close);
+    }
+
+    private TieredDataStore createStore() {
+        TieredDataStore store = new TieredDataStore(remote, local, "policies", manifest);
+        stores.add(store);
+        return store;
+    }
+
+    private boolean isInManifest(String text) throws IOException {
+        return Files.exists(manifest) && Files.readString(manifest).contains(text);
+    }
+
+    @Test
+    void testWriteThroughAndLocalRead() {
+        when(remote.writeObjectAndGetETag(anyString(), any())).thenReturn(Mono.just("etag1"));
+        when(remote.listObjectETags(anyString())).thenReturn(Flux.empty());
+        TieredDataStore store = createStore();
+        store.createDataStore().block();
+
+        StepVerifier.create(store.writeObject("ric1/p1.json", "data".getBytes())).expectNextCount(1)
+                .verifyComplete();
+        verify(remote).writeObjectAndGetETag(eq("ric1/p1.json"), any());
+
+        StepVerifier.create(store.readObject("ric1/p1.json")).expectNextMatches(b -> new String(b).equals("data"))
+                .verifyComplete();
+        StepVerifier.create(store.listObjects("ric1")).expectNext("ric1/p1.json").verifyComplete();
+        verify(remote, never()).readObject(anyString());
+
+        await().until(() -> isInManifest("etag1"));
+    }
+
+    @Test
+    void testReconcile() throws Exception {
+        // Local replica: "unchanged" is in sync, "removed" is deleted in S3 and "pending" never reached S3
+        local.writeObject("unchanged", "u".getBytes()).block();
+        local.writeObject("removed", "r".getBytes()).block();
+        local.writeObject("pending", "p".getBytes()).block();
+        Files.writeString(manifest, "{\"unchanged\":\"e1\",\"removed\":\"e2\"}");
+
+        when(remote.listObjectETags("")).thenReturn(Flux.just(Map.entry("unchanged", "e1"), Map.entry("new", "e3")));
+        when(remote.readObject("new")).thenReturn(Mono.just("n".getBytes()));
+        when(remote.writeObjectAndGetETag(eq("pending"), any())).thenReturn(Mono.just("e4"));
+
+        TieredDataStore store = createStore();
+        StepVerifier.create(store.reconcile()).expectNext(3L).verifyComplete();
+
+        StepVerifier.create(store.listObjects("").sort()).expectNext("new", "pending", "unchanged").verifyComplete();
+        verify(remote, never()).readObject("unchanged");
+        await().until(() -> Files.readString(manifest).contains("e4"));
+        assertThat(Files.readString(manifest)).contains("e3").doesNotContain("e2");
+    }
+
+    @Test
+    void testCreateDataStore_reconcilesOnceBeforeCompletion() {
+        when(remote.listObjectETags("")).thenReturn(Flux.just(Map.entry("new", "e1")));
+        when(remote.readObject("new")).thenReturn(Mono.just("n".getBytes()));
+
+        TieredDataStore store = createStore();
+        StepVerifier.create(store.createDataStore().thenMany(store.listObjects(""))).expectNext("new")
+                .verifyComplete();
+        store.createDataStore().block();
+
+        verify(remote, times(1)).listObjectETags("");
+    }
+
+    @Test
+    void testFailedUpload_isRetriedAndNotOverwritten() throws Exception {
+        when(remote.writeObjectAndGetETag(eq("p1"), any())) //
+                .thenReturn(Mono.error(new RuntimeException("S3 unavailable"))) //
+                .thenReturn(Mono.just("e2"));
+        // S3 still has the old version of the object
+        when(remote.listObjectETags("")).thenReturn(Flux.just(Map.entry("p1", "e1")));
+
+        TieredDataStore store = createStore();
+        // Stored locally, the write succeeds
+        StepVerifier.create(store.writeObject("p1", "new".getBytes())).expectNextCount(1).verifyComplete();
+        await().until(() -> isInManifest(TieredDataStore.PENDING_UPLOAD));
+
+        StepVerifier.create(store.reconcile()).expectNext(1L).verifyComplete();
+        verify(remote, never()).readObject("p1");
+        StepVerifier.create(store.readObject("p1")).expectNextMatches(b -> new String(b).equals("new"))
+                .verifyComplete();
+
+        StepVerifier.create(store.retryPending()).verifyComplete();
+        await().until(() -> isInManifest("e2"));
+    }
+
+    @Test
+    void testFailedDelete_isRetriedAndNotBroughtBack() throws Exception {
+        when(remote.writeObjectAndGetETag(eq("p1"), any())).thenReturn(Mono.just("e1"));
+        when(remote.deleteObject("p1")).thenReturn(Mono.error(new RuntimeException("S3 unavailable")));
+        when(remote.deleteObjects(any())).thenReturn(Mono.just(1L));
+        // S3 still has the object
+        when(remote.listObjectETags("")).thenReturn(Flux.just(Map.entry("p1", "e1")));
+
+        TieredDataStore store = createStore();
+        store.writeObject("p1", "data".getBytes()).block();
+        StepVerifier.create(store.deleteObject("p1")).expectNext(true).verifyComplete();
+        await().until(() -> isInManifest(TieredDataStore.PENDING_DELETE));
+
+        // The delete is done when the replica is reconciled, the object is not downloaded
+        StepVerifier.create(store.reconcile()).expectNext(1L).verifyComplete();
+        verify(remote, never()).readObject("p1");
+        verify(remote).deleteObjects(List.of("p1"));
+        StepVerifier.create(store.listObjects("")).verifyComplete();
+        await().until(() -> !Files.readString(manifest).contains("p1"));
+    }
+
+    @Test
+    void testRestore_whenS3IsDown() throws Exception {
+        local.writeObject("ric1/p1.json", "p".getBytes()).block();
+        Files.writeString(manifest, "{\"ric1/p1.json\":\"e1\"}");
+        when(remote.createDataStore()).thenReturn(Mono.error(new RuntimeException("S3 unavailable")));
+
+        // The local replica is restored
+        TieredDataStore store = createStore();
+        StepVerifier.create(store.createDataStore().thenMany(store.listObjects(""))).expectNext("ric1/p1.json")
+                .verifyComplete();
+        verify(remote, never()).listObjectETags(anyString());
+
+        // The reconciliation is retried until S3 is back
+        StepVerifier.create(store.retry()).expectNext(false).verifyComplete();
+        when(remote.createDataStore()).thenReturn(Mono.just("OK"));
+        when(remote.listObjectETags("")).thenReturn(Flux.just(Map.entry("ric1/p1.json", "e1")));
+        StepVerifier.create(store.retry()).expectNext(true).verifyComplete();
+        verify(remote).listObjectETags("");
+        StepVerifier.create(store.listObjects("")).expectNext("ric1/p1.json").verifyComplete();
+    }
+
+    @Test
+    void testRestore_whenS3ListingFails() {
+        local.writeObject("ric1/p1.json", "p".getBytes()).block();
+        when(remote.listObjectETags("")).thenReturn(Flux.error(new RuntimeException("S3 unavailable")));
+
+        TieredDataStore store = createStore();
+        StepVerifier.create(store.createDataStore().thenMany(store.listObjects(""))).expectNext("ric1/p1.json")
+                .verifyComplete();
+    }
+}
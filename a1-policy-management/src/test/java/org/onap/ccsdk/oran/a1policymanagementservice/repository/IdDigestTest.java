@@ -0,0 +1,84 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.ApplicationConfig;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.RicConfig;
+
+class IdDigestTest {
+
+    @Test
+    void testDigestIsOrderIndependent() {
+        IdDigest digest = IdDigest.of(List.of("a", "b", "c"));
+        assertThat(digest).isEqualTo(IdDigest.of(List.of("c", "a", "b")));
+        assertThat(digest).isNotEqualTo(IdDigest.of(List.of("a", "b", "d")));
+        assertThat(digest).isNotEqualTo(IdDigest.of(List.of("a", "b")));
+
+        digest.remove("b");
+        assertThat(digest).isEqualTo(IdDigest.of(List.of("a", "c")));
+        digest.add("b");
+        assertThat(digest).isEqualTo(IdDigest.of(List.of("b", "c", "a")));
+    }
+
+    @Test
+    void testDigestIsMaintainedByRepository() {
+        Ric ric = new Ric(RicConfig.builder().ricId("ric1").baseUrl("url").build());
+        PolicyType type = PolicyType.builder().id("type1").schema("").build();
+        Policies policies = new Policies(new ApplicationConfig(), new SimpleMeterRegistry());
+
+        policies.put(createPolicy("p1", ric, type));
+        policies.put(createPolicy("p2", ric, type));
+        policies.put(createPolicy("p2", ric, type)); // Replaced
+        assertThat(policies.getPolicyIdDigest("ric1")).isEqualTo(IdDigest.of(List.of("p2", "p1")));
+
+        policies.removeId("p1");
+        assertThat(policies.getPolicyIdDigest("ric1")).isEqualTo(IdDigest.of(List.of("p2")));
+        policies.clear();
+        assertThat(policies.getPolicyIdDigest("ric1")).isEqualTo(new IdDigest());
+
+        ric.addSupportedPolicyType(type);
+        ric.addSupportedPolicyType(type);
+        assertThat(ric.getSupportedPolicyTypeDigest()).isEqualTo(IdDigest.of(List.of("type1")));
+        ric.clearSupportedPolicyTypes();
+        assertThat(ric.getSupportedPolicyTypeDigest()).isEqualTo(new IdDigest());
+    }
+
+    private static Policy createPolicy(String id, Ric ric, PolicyType type) {
+        return Policy.builder() //
+                .id(id) //
+                .json("{}") //
+                .ownerServiceId("service") //
+                .ric(ric) //
+                .type(type) //
+                .lastModified(Instant.now()) //
+                .isTransient(true) //
+                .statusNotificationUri("") //
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.everit.json.schema.Schema;
+import org.junit.jupiter.api.Test;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.ApplicationConfig;
+
+class PolicyTypesTest {
+
+    private static final String STRING_SCHEMA =
+            "{\"type\":\"object\",\"properties\":{\"a\":{\"type\":\"string\"}}}";
+    private static final String INTEGER_SCHEMA =
+            "{\"type\":\"object\",\"properties\":{\"a\":{\"type\":\"integer\"}}}";
+
+    private static PolicyType type(String schema) {
+        return PolicyType.builder().id("type1").schema(schema).build();
+    }
+
+    @Test
+    void testCompiledSchemaIsEvicted() {
+        PolicyTypes types = new PolicyTypes(new ApplicationConfig(), new SimpleMeterRegistry());
+        PolicyType type = type(STRING_SCHEMA);
+        types.put(type);
+
+        Schema schema = types.getSchema(type);
+        assertThat(types.getSchema(type)).isSameAs(schema);
+
+        // A refreshed type is compiled again, even with the same schema
+        types.put(type(STRING_SCHEMA));
+        Schema refreshed = types.getSchema(types.get("type1"));
+        assertThat(refreshed).isNotSameAs(schema);
+
+        types.remove(type);
+        assertThat(types.get("type1")).isNull();
+        assertThat(types.getSchema(type)).isNotSameAs(refreshed);
+
+        types.put(type(INTEGER_SCHEMA));
+        Schema integerSchema = types.getSchema(types.get("type1"));
+        types.clear();
+        assertThat(types.getSchema(type(INTEGER_SCHEMA))).isNotSameAs(integerSchema);
+    }
+}
@@ -0,0 +1,208 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Vector;
+
+import org.junit.jupiter.api.Test;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.RicConfig;
+import org.onap.ccsdk.oran.a1policymanagementservice.exceptions.ServiceException;
+import org.onap.ccsdk.oran.a1policymanagementservice.repository.Ric.RicState;
+import org.springframework.http.HttpStatus;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class RicTest {
+
+    private static Ric createRic(RicState state) {
+        Ric ric = new Ric(RicConfig.builder().ricId("ric1").baseUrl("baseUrl").build());
+        ric.setState(state);
+        return ric;
+    }
+
+    private static Mono<Ric> await(Ric ric, int maxWaiting, Duration timeout) {
+        return ric.awaitAvailable(maxWaiting, timeout, Mono::just);
+    }
+
+    @Test
+    void testWaitersAreReleasedInOrderWhenAvailable() {
+        Ric ric = createRic(RicState.SYNCHRONIZING);
+        List<Integer> released = new Vector<>();
+
+        for (int i = 0; i < 3; ++i) {
+            final int requestNo = i;
+            await(ric, 10, Duration.ofMinutes(1)).subscribe(r -> released.add(requestNo));
+        }
+        assertThat(ric.getAvailabilityWaiterCount()).isEqualTo(3);
+
+        ric.setState(RicState.CONSISTENCY_CHECK);
+        assertThat(released).isEmpty();
+
+        ric.setState(RicState.AVAILABLE);
+        assertThat(released).containsExactly(0, 1, 2);
+        assertThat(ric.getAvailabilityWaiterCount()).isZero();
+
+        // An AVAILABLE Ric is not waited for
+        StepVerifier.create(await(ric, 0, Duration.ofMinutes(1))).expectNext(ric).verifyComplete();
+    }
+
+    @Test
+    void testReleasedWritesAreDoneInOrder() {
+        Ric ric = createRic(RicState.SYNCHRONIZING);
+        List<String> events = new Vector<>();
+        List<Sinks.One<String>> writes = new ArrayList<>();
+
+        for (int i = 0; i < 3; ++i) {
+            final int writeNo = i;
+            Sinks.One<String> write = Sinks.one();
+            writes.add(write);
+            ric.awaitAvailable(10, Duration.ofMinutes(1), r -> {
+                events.add("started " + writeNo);
+                return write.asMono();
+            }).subscribe(result -> events.add("done " + writeNo));
+        }
+
+        ric.setState(RicState.AVAILABLE);
+        // Only the first write is started, the others wait for it
+        assertThat(events).containsExactly("started 0");
+        assertThat(ric.getAvailabilityWaiterCount()).isEqualTo(2);
+
+        // A new write waits behind the queued ones, even if the Ric is AVAILABLE
+        ric.awaitAvailable(10, Duration.ofMinutes(1), r -> {
+            events.add("started 3");
+            return Mono.just("3");
+        }).subscribe(result -> events.add("done 3"));
+        assertThat(ric.getAvailabilityWaiterCount()).isEqualTo(3);
+
+        // The writes are completed out of order
+        writes.get(2).tryEmitValue("2");
+        writes.get(1).tryEmitValue("1");
+        assertThat(events).containsExactly("started 0");
+
+        writes.get(0).tryEmitValue("0");
+        assertThat(events).containsExactly("started 0", "done 0", "started 1", "done 1", "started 2", "done 2",
+                "started 3", "done 3");
+        assertThat(ric.getAvailabilityWaiterCount()).isZero();
+
+        // A failed write releases the next
+        ric.setState(RicState.SYNCHRONIZING);
+        ric.awaitAvailable(10, Duration.ofMinutes(1), r -> Mono.error(new IllegalStateException("failed")))
+                .subscribe(r -> {
+                }, t -> events.add("failed"));
+        await(ric, 10, Duration.ofMinutes(1)).subscribe(r -> events.add("after failed"));
+        ric.setState(RicState.AVAILABLE);
+        assertThat(events).endsWith("failed", "after failed");
+    }
+
+    @Test
+    void testUnavailableRicIsNotWaitedFor() {
+        Ric ric = createRic(RicState.UNAVAILABLE);
+        StepVerifier.create(await(ric, 10, Duration.ofMinutes(1))).expectNext(ric).verifyComplete();
+        assertThat(ric.getAvailabilityWaiterCount()).isZero();
+
+        ric.setState(RicState.CONSISTENCY_CHECK);
+        StepVerifier.create(await(ric, 10, Duration.ofMinutes(1))).expectNext(ric).verifyComplete();
+    }
+
+    @Test
+    void testRestoredRicIsWaitedFor() {
+        // The state is not set until the Ric is synchronized after a restart
+        Ric ric = new Ric(RicConfig.builder().ricId("ric1").baseUrl("baseUrl").build());
+        List<Ric> released = new Vector<>();
+        await(ric, 10, Duration.ofMinutes(1)).subscribe(released::add);
+        assertThat(ric.getAvailabilityWaiterCount()).isEqualTo(1);
+
+        ric.setState(RicState.SYNCHRONIZING);
+        assertThat(released).isEmpty();
+
+        // The synchronization failed, the waiting writes are released to be rejected
+        ric.setState(RicState.UNAVAILABLE);
+        assertThat(released).containsExactly(ric);
+        assertThat(ric.getAvailabilityWaiterCount()).isZero();
+    }
+
+    @Test
+    void testRestoringIsEndedWithoutState() {
+        // The first synchronization could not be started, the state is not set
+        Ric ric = new Ric(RicConfig.builder().ricId("ric1").baseUrl("baseUrl").build());
+        List<Ric> released = new Vector<>();
+        await(ric, 10, Duration.ofMinutes(1)).subscribe(released::add);
+
+        ric.endRestoring();
+        assertThat(released).containsExactly(ric);
+        assertThat(ric.getAvailabilityWaiterCount()).isZero();
+
+        // An UNAVAILABLE Ric is no longer waited for
+        StepVerifier.create(await(ric, 10, Duration.ofMinutes(1))).expectNext(ric).verifyComplete();
+        assertThat(ric.getAvailabilityWaiterCount()).isZero();
+    }
+
+    @Test
+    void testWaitingIsBounded() {
+        Ric ric = createRic(RicState.SYNCHRONIZING);
+
+        await(ric, 1, Duration.ofMinutes(1)).subscribe();
+        // The queue is full, the write is rejected
+        StepVerifier.create(await(ric, 1, Duration.ofMinutes(1))) //
+                .expectErrorMatches(RicTest::isLocked) //
+                .verify();
+        assertThat(ric.getAvailabilityWaiterCount()).isEqualTo(1);
+
+        Ric ric2 = createRic(RicState.SYNCHRONIZING);
+        StepVerifier.create(await(ric2, 1, Duration.ofMillis(10))) //
+                .expectErrorMatches(RicTest::isLocked) //
+                .verify();
+        assertThat(ric2.getState()).isEqualTo(RicState.SYNCHRONIZING);
+        assertThat(ric2.getAvailabilityWaiterCount()).isZero();
+    }
+
+    @Test
+    void testWriteDoesNotOvertakeWaitingWritesWhenQueueIsFull() {
+        Ric ric = createRic(RicState.SYNCHRONIZING);
+        Sinks.One<String> first = Sinks.one();
+        List<String> events = new Vector<>();
+        ric.awaitAvailable(2, Duration.ofMinutes(1), r -> first.asMono()).subscribe(events::add);
+        await(ric, 2, Duration.ofMinutes(1)).subscribe(r -> events.add("second"));
+
+        ric.setState(RicState.AVAILABLE);
+        assertThat(ric.getAvailabilityWaiterCount()).isEqualTo(1);
+
+        // The queue is still full while the Ric is AVAILABLE, the new write is not done
+        List<String> rejected = new Vector<>();
+        ric.awaitAvailable(1, Duration.ofMinutes(1), r -> Mono.just("third")) //
+                .subscribe(events::add, t -> rejected.add("third"));
+        assertThat(rejected).containsExactly("third");
+
+        first.tryEmitValue("first");
+        assertThat(events).containsExactly("first", "second");
+    }
+
+    private static boolean isLocked(Throwable t) {
+        return t instanceof ServiceException && ((ServiceException) t).getHttpStatus() == HttpStatus.LOCKED;
+    }
+}
@@ -0,0 +1,153 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.A1Client;
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.A1ClientFactory;
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.PolicyStatusCache;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.ApplicationConfig;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.RicConfig;
+import org.onap.ccsdk.oran.a1policymanagementservice.exceptions.ServiceException;
+import org.onap.ccsdk.oran.a1policymanagementservice.repository.Policies;
+import org.onap.ccsdk.oran.a1policymanagementservice.repository.Policy;
+import org.onap.ccsdk.oran.a1policymanagementservice.repository.PolicyType;
+import org.onap.ccsdk.oran.a1policymanagementservice.repository.Ric;
+import org.onap.ccsdk.oran.a1policymanagementservice.tasks.CascadeDeletion.Job;
+import org.onap.ccsdk.oran.a1policymanagementservice.tasks.CascadeDeletion.JobState;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class CascadeDeletionTest {
+    private static final PolicyType POLICY_TYPE = PolicyType.builder().id("type1").schema("").build();
+
+    @Mock
+    A1ClientFactory a1ClientFactory;
+
+    @Mock
+    A1Client a1Client;
+
+    @Mock
+    PolicyStatusCache policyStatusCache;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Ric ric1 = new Ric(RicConfig.builder().ricId("ric1").baseUrl("url1").build());
+    private final Ric ric2 = new Ric(RicConfig.builder().ricId("ric2").baseUrl("url2").build());
+    private Policies policies;
+    private CascadeDeletion cascadeDeletion;
+
+    @BeforeEach
+    void init() {
+        policies = new Policies(new ApplicationConfig(), new SimpleMeterRegistry());
+        cascadeDeletion = new CascadeDeletion(policies, a1ClientFactory, policyStatusCache, meterRegistry);
+    }
+
+    @Test
+    void testPoliciesAreDeletedInBatchesPerRic() {
+        List<Policy> toDelete = new ArrayList<>();
+        for (int i = 0; i <= CascadeDeletion.BATCH_SIZE; ++i) {
+            toDelete.add(createPolicy("p" + i, ric1));
+        }
+        toDelete.add(createPolicy("failing", ric2));
+        toDelete.forEach(policies::put);
+
+        when(a1ClientFactory.createA1Client(any(Ric.class))).thenReturn(Mono.just(a1Client));
+        when(a1Client.deletePolicies(any())).thenCallRealMethod();
+        when(a1Client.deletePolicy(any(Policy.class)))
+                .thenAnswer(invocation -> ((Policy) invocation.getArgument(0)).getId().equals("failing")
+                        ? Mono.error(new ServiceException("Failed"))
+                        : Mono.just("OK"));
+
+        Job job = cascadeDeletion.createJob("test", toDelete);
+        assertThat(job.getState()).isEqualTo(JobState.RUNNING);
+        assertThat(job.getPending()).isEqualTo(CascadeDeletion.BATCH_SIZE + 2);
+
+        StepVerifier.create(cascadeDeletion.execute(job)).expectNextCount(CascadeDeletion.BATCH_SIZE + 1L)
+                .verifyComplete();
+
+        // Two batches for ric1 and one for ric2
+        verify(a1Client, times(3)).deletePolicies(any());
+        assertThat(policies.size()).isZero();
+        assertThat(job.getState()).isEqualTo(JobState.COMPLETED);
+        assertThat(job.getDeleted()).isEqualTo(CascadeDeletion.BATCH_SIZE + 1);
+        assertThat(job.getFailed()).isEqualTo(1);
+        assertThat(job.getPending()).isZero();
+        StepVerifier.create(job.completion()).expectNext(job).verifyComplete();
+        assertThat(meterRegistry.get(CascadeDeletion.POLICIES_COUNTER).tag("outcome", "deleted").counter().count())
+                .isEqualTo(CascadeDeletion.BATCH_SIZE + 1.0);
+        assertThat(ric1.getLock().getLockCounter()).isZero();
+        assertThat(ric2.getLock().getLockCounter()).isZero();
+    }
+
+    @Test
+    void testRicNotAvailable() {
+        List<Policy> toDelete = List.of(createPolicy("p1", ric1), createPolicy("p2", ric1));
+        toDelete.forEach(policies::put);
+        when(a1ClientFactory.createA1Client(any(Ric.class)))
+                .thenReturn(Mono.error(new ServiceException("Near-RT RIC is not responding")));
+
+        Job job = cascadeDeletion.start("test", toDelete);
+        job.completion().block(Duration.ofSeconds(10));
+
+        // The policies are removed from the repository, the RIC synchronization deletes them later on
+        assertThat(policies.size()).isZero();
+        verify(policyStatusCache).remove("p1");
+        verify(policyStatusCache).remove("p2");
+        assertThat(job.getDeleted()).isZero();
+        assertThat(job.getFailed()).isEqualTo(2);
+        assertThat(meterRegistry.get(CascadeDeletion.JOBS_TIMER).tag("outcome", "failed").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get(CascadeDeletion.PENDING_GAUGE).gauge().value()).isZero();
+    }
+
+    private static Policy createPolicy(String id, Ric ric) {
+        return Policy.builder() //
+                .id(id) //
+                .json("{}") //
+                .ownerServiceId("service") //
+                .ric(ric) //
+                .type(POLICY_TYPE) //
+                .lastModified(Instant.now()) //
+                .isTransient(false) //
+                .statusNotificationUri("") //
+                .build();
+    }
+}
@@ -39,8 +39,13 @@ import org.onap.ccsdk.oran.a1policymanagementservice.configuration.ApplicationCo
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.ConfigurationFile;
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.RicConfig;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import java.io.IOException;
 import java.net.URL;
 import java.time.Duration;
@@ -60,20 +65,22 @@ class RefreshConfigTaskTest {
     @Spy
     ApplicationConfig appConfig;
 
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @Mock
     ConfigurationFile configurationFileMock;
 
     private RefreshConfigTask createTestObject(boolean stubConfigFileExists) {
-        return createTestObject(spy(new Rics()), new Policies(appConfig), stubConfigFileExists);
+        return createTestObject(spy(new Rics()), new Policies(appConfig, meterRegistry), stubConfigFileExists);
     }
 
     private RefreshConfigTask createTestObject(Rics rics, Policies policies,
             boolean stubConfigFileExists) {
         SecurityContext secContext = new SecurityContext("");
 
-        RefreshConfigTask obj =
-                spy(new RefreshConfigTask(configurationFileMock, appConfig, rics, policies, new Services(appConfig),
-                        new PolicyTypes(appConfig), new A1ClientFactory(appConfig, secContext), secContext));
+        RefreshConfigTask obj = spy(new RefreshConfigTask(configurationFileMock, appConfig, rics, policies,
+                new Services(appConfig, meterRegistry), new PolicyTypes(appConfig, meterRegistry),
+                new A1ClientFactory(appConfig, secContext, meterRegistry), secContext, meterRegistry));
         if (stubConfigFileExists) {
             when(configurationFileMock.readFile()).thenReturn(Optional.empty());
             doReturn(123L).when(configurationFileMock).getLastModified();
@@ -88,6 +95,7 @@ class RefreshConfigTaskTest {
         refreshTaskUnderTest.systemEnvironment = new Properties();
         // When
         when(configurationFileMock.readFile()).thenReturn(getCorrectJson());
+        when(configurationFileMock.changes()).thenReturn(Flux.empty());
 
         StepVerifier //
                 .create(refreshTaskUnderTest.createRefreshTask()) //
@@ -135,6 +143,7 @@ class RefreshConfigTaskTest {
 
         // When
         when(configurationFileMock.readFile()).thenReturn(Optional.empty());
+        when(configurationFileMock.changes()).thenReturn(Flux.empty());
 
         StepVerifier //
                 .create(refreshTaskUnderTest.createRefreshTask()) //
@@ -148,6 +157,29 @@ class RefreshConfigTaskTest {
         assertThat(appConfig.getRicConfigs()).isEmpty();
     }
 
+    @Test
+    @DisplayName("test when a change of the file is signalled then it is reloaded, with unchanged modification time")
+    void whenFileChangeIsSignalled_thenFileIsReloaded() throws Exception {
+        refreshTaskUnderTest = this.createTestObject(true);
+        refreshTaskUnderTest.systemEnvironment = new Properties();
+        Sinks.Many<Boolean> changes = Sinks.many().multicast().directBestEffort();
+        when(configurationFileMock.changes()).thenReturn(changes.asFlux());
+        when(configurationFileMock.readFile()).thenReturn(Optional.empty(), getCorrectJson());
+
+        StepVerifier //
+                .create(refreshTaskUnderTest.createRefreshTask()) //
+                .expectSubscription() //
+                .expectNoEvent(Duration.ofMillis(100)) //
+                .then(() -> changes.tryEmitNext(true)) //
+                .expectNext(Type.ADDED) //
+                .expectNext(Type.ADDED) //
+                .thenCancel() //
+                .verify();
+
+        verify(refreshTaskUnderTest, times(2)).loadConfigurationFromFile();
+        verify(configurationFileMock, times(2)).readFile();
+    }
+
     ConfigParserResult configParserResult(RicConfig... rics) {
         return ConfigParserResult.builder() //
                 .ricConfigs(Arrays.asList(rics)) //
@@ -28,6 +28,8 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -113,8 +115,8 @@ class RicSupervisionTest {
 
     @BeforeEach
     void init() {
-        types = new PolicyTypes(appConfig);
-        policies = new Policies(appConfig);
+        types = new PolicyTypes(appConfig, new SimpleMeterRegistry());
+        policies = new Policies(appConfig, new SimpleMeterRegistry());
 
         rics.clear();
         RIC_1.setState(RicState.UNAVAILABLE);
@@ -345,6 +347,7 @@ class RicSupervisionTest {
 
     private RicSupervision createRicSupervision() {
         ApplicationConfig config = new ApplicationConfig();
-        return new RicSupervision(rics, policies, a1ClientFactory, types, null, config, new SecurityContext(""));
+        return new RicSupervision(rics, policies, a1ClientFactory, types, null, config, new SecurityContext(""),
+                new SimpleMeterRegistry());
     }
 }
@@ -25,15 +25,23 @@ import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.Vector;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -58,6 +66,7 @@ import org.onap.ccsdk.oran.a1policymanagementservice.repository.Ric.RicState;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.Rics;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.Service;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.Services;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
@@ -114,9 +123,9 @@ class RicSynchronizationTaskTest {
                 .baseUrl("baseUrl1") //
                 .build());
         policy1 = createPolicy("policyId1", false);
-        policyTypes = new PolicyTypes(appConfig);
-        policies = new Policies(appConfig);
-        services = new Services(appConfig);
+        policyTypes = new PolicyTypes(appConfig, new SimpleMeterRegistry());
+        policies = new Policies(appConfig, new SimpleMeterRegistry());
+        services = new Services(appConfig, new SimpleMeterRegistry());
         rics = new Rics();
 
         service1 = new Service(SERVICE_1_NAME, Duration.ofSeconds(1), SERVICE_1_CALLBACK_URL);
@@ -124,10 +133,11 @@ class RicSynchronizationTaskTest {
 
     private RicSynchronizationTask createTask() {
         ApplicationConfig config = new ApplicationConfig();
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
         AsyncRestClientFactory restClientFactory =
-                new AsyncRestClientFactory(config.getWebClientConfig(), new SecurityContext(""));
+                new AsyncRestClientFactory(config.getWebClientConfig(), new SecurityContext(""), meterRegistry);
         return new RicSynchronizationTask(a1ClientFactoryMock, policyTypes, policies, services, restClientFactory,
-                rics);
+                rics, meterRegistry);
     };
 
     @Test
@@ -136,6 +146,7 @@ class RicSynchronizationTaskTest {
         setUpCreationOfA1Client();
         simulateRicWithNoPolicyTypes();
         policies.put(policy1);
+        simulateRicWithPolicies("unknownPolicyId");
         WebClientResponseException exception = new WebClientResponseException(404, "", null, null, null);
         when(a1ClientMock.deleteAllPolicies(anySet())).thenReturn(Flux.error(exception));
         ric1.setState(RicState.AVAILABLE);
@@ -145,6 +156,22 @@ class RicSynchronizationTaskTest {
         assertThat(ric1.getState()).isEqualTo(RicState.UNAVAILABLE);
     }
 
+    @Test
+    @DisplayName("test restored Ric is not waited for when the A1 client cannot be created")
+    void testRestoringIsEnded_whenA1ClientCannotBeCreated() {
+        Ric restored = new Ric(RicConfig.builder().ricId("restored").baseUrl("baseUrl").build());
+        when(a1ClientFactoryMock.createA1Client(any(Ric.class)))
+                .thenReturn(Mono.error(new ServiceException("Protocol negotiation failed")));
+        List<Ric> released = new Vector<>();
+        restored.awaitAvailable(10, Duration.ofMinutes(1), Mono::just).subscribe(released::add);
+
+        runSynch(restored);
+
+        assertThat(restored.getState()).isEqualTo(RicState.UNAVAILABLE);
+        assertThat(released).containsExactly(restored);
+        assertThat(restored.getAvailabilityWaiterCount()).isZero();
+    }
+
     @Test
     @DisplayName("test Connection Error")
     void testConnectionError() {
@@ -153,6 +180,7 @@ class RicSynchronizationTaskTest {
         policies.put(policy1);
         WebClientRequestException exception = new WebClientRequestException(new ServiceException("x"), null, null,
                 new org.springframework.http.HttpHeaders());
+        simulateRicWithPolicies("unknownPolicyId");
         when(a1ClientMock.deleteAllPolicies(anySet())).thenReturn(Flux.error(exception));
         ric1.setState(RicState.AVAILABLE);
         runSynch(ric1);
@@ -179,6 +207,7 @@ class RicSynchronizationTaskTest {
         await().untilAsserted(() -> RicState.AVAILABLE.equals(ric1.getState()));
 
         verify(a1ClientMock, times(1)).getPolicyTypeIdentities();
+        verify(a1ClientMock).getPolicyIdentities();
         verifyNoMoreInteractions(a1ClientMock);
 
         assertThat(policyTypes.size()).isEqualTo(1);
@@ -202,6 +231,7 @@ class RicSynchronizationTaskTest {
         await().untilAsserted(() -> RicState.AVAILABLE.equals(ric1.getState()));
 
         verify(a1ClientMock).getPolicyTypeIdentities();
+        verify(a1ClientMock).getPolicyIdentities();
         verifyNoMoreInteractions(a1ClientMock);
 
         assertThat(policyTypes.size()).isEqualTo(1);
@@ -223,15 +253,20 @@ class RicSynchronizationTaskTest {
 
         setUpCreationOfA1Client();
         simulateRicWithNoPolicyTypes();
+        simulateRicWithPolicies(transientPolicy.getId());
 
         when(a1ClientMock.deleteAllPolicies(anySet())).thenReturn(Flux.just("OK"));
         when(a1ClientMock.putPolicy(any(Policy.class))).thenReturn(Mono.just("OK"));
+        when(a1ClientMock.putPolicies(any())).thenCallRealMethod();
 
         ric1.setState(RicState.UNAVAILABLE);
         runSynch(ric1);
         await().untilAsserted(() -> RicState.AVAILABLE.equals(ric1.getState()));
 
-        verify(a1ClientMock).deleteAllPolicies(anySet());
+        verify(a1ClientMock).getPolicyIdentities();
+        verify(a1ClientMock).deleteAllPolicies(Set.of(policy1.getId()));
+        verify(a1ClientMock).putPolicies(any());
+        verify(a1ClientMock).getMaxConcurrency();
         verify(a1ClientMock).putPolicy(policy1);
         verifyNoMoreInteractions(a1ClientMock);
 
@@ -240,6 +275,102 @@ class RicSynchronizationTaskTest {
         assertThat(ric1.getState()).isEqualTo(RicState.AVAILABLE);
     }
 
+    @Test
+    @DisplayName("test only the difference between the ric and the repository is synchronized")
+    void differentialSynchronization() {
+        rics.put(ric1);
+        Policy policy2 = createPolicy("policyId2", false);
+        policies.put(policy1);
+        policies.put(policy2);
+
+        setUpCreationOfA1Client();
+        simulateRicWithNoPolicyTypes();
+        // policy1 is in the ric, policy2 is missing and "unknown" is not in the repository
+        simulateRicWithPolicies(policy1.getId(), "unknown");
+        when(a1ClientMock.deleteAllPolicies(anySet())).thenReturn(Flux.just("unknown"));
+        when(a1ClientMock.putPolicy(any(Policy.class))).thenReturn(Mono.just("OK"));
+        when(a1ClientMock.putPolicies(any())).thenCallRealMethod();
+
+        ric1.setState(RicState.UNAVAILABLE);
+        runSynch(ric1);
+
+        assertThat(ric1.getState()).isEqualTo(RicState.AVAILABLE);
+        verify(a1ClientMock).deleteAllPolicies(Set.of(policy1.getId(), policy2.getId()));
+        verify(a1ClientMock).putPolicy(policy2);
+        verify(a1ClientMock, never()).putPolicy(policy1);
+        assertThat(policies.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("test nothing is sent when the ric is in synch")
+    void differentialSynchronization_nothingToDo() {
+        rics.put(ric1);
+        policies.put(policy1);
+
+        setUpCreationOfA1Client();
+        simulateRicWithNoPolicyTypes();
+        simulateRicWithPolicies(policy1.getId());
+
+        ric1.setState(RicState.UNAVAILABLE);
+        runSynch(ric1);
+
+        assertThat(ric1.getState()).isEqualTo(RicState.AVAILABLE);
+        verify(a1ClientMock).getPolicyTypeIdentities();
+        verify(a1ClientMock).getPolicyIdentities();
+        verifyNoMoreInteractions(a1ClientMock);
+    }
+
+    @Test
+    @DisplayName("test all policies are recreated when the policies in the ric cannot be read")
+    void fullSynchronization_fallback() {
+        rics.put(ric1);
+        policies.put(policy1);
+
+        setUpCreationOfA1Client();
+        simulateRicWithNoPolicyTypes();
+        when(a1ClientMock.getPolicyIdentities()).thenReturn(Mono.error(responseException(HttpStatus.NOT_IMPLEMENTED)));
+        when(a1ClientMock.putPolicy(any(Policy.class))).thenReturn(Mono.just("OK"));
+        when(a1ClientMock.putPolicies(any())).thenCallRealMethod();
+
+        ric1.setState(RicState.UNAVAILABLE);
+        runSynch(ric1);
+
+        assertThat(ric1.getState()).isEqualTo(RicState.AVAILABLE);
+        verify(a1ClientMock).deleteAllPolicies(Set.of(policy1.getId()));
+        verify(a1ClientMock).putPolicy(policy1);
+    }
+
+    @Test
+    @DisplayName("test ric is unavailable when the policies in the ric cannot be read")
+    void synchronizationFails_whenPoliciesCannotBeRead() {
+        rics.put(ric1);
+        policies.put(policy1);
+
+        setUpCreationOfA1Client();
+        simulateRicWithNoPolicyTypes();
+        when(a1ClientMock.getPolicyIdentities())
+                .thenReturn(Mono.error(responseException(HttpStatus.SERVICE_UNAVAILABLE)));
+
+        ric1.setState(RicState.UNAVAILABLE);
+        runSynch(ric1);
+
+        assertThat(ric1.getState()).isEqualTo(RicState.UNAVAILABLE);
+        verify(a1ClientMock, never()).deleteAllPolicies(any());
+        verify(a1ClientMock, never()).putPolicy(any());
+        assertThat(policies.size()).isEqualTo(1);
+
+        // A rejected read is not a rejected policy, the stored policies are kept
+        when(a1ClientMock.getPolicyIdentities()).thenReturn(Mono.error(responseException(HttpStatus.FORBIDDEN)));
+        runSynch(ric1);
+
+        assertThat(ric1.getState()).isEqualTo(RicState.UNAVAILABLE);
+        assertThat(policies.size()).isEqualTo(1);
+    }
+
+    private static WebClientResponseException responseException(HttpStatus status) {
+        return WebClientResponseException.create(status.value(), status.getReasonPhrase(), null, null, null);
+    }
+
     private void runSynch(Ric ric) {
         RicSynchronizationTask synchronizerUnderTest = createTask();
         ric.getLock().lock(LockType.EXCLUSIVE, "RicSynchronizationTask") //
@@ -250,7 +381,12 @@ class RicSynchronizationTaskTest {
 
     private void setUpCreationOfA1Client() {
         when(a1ClientFactoryMock.createA1Client(any(Ric.class))).thenReturn(Mono.just(a1ClientMock));
-        doReturn(Flux.empty()).when(a1ClientMock).deleteAllPolicies(anySet());
+        lenient().doReturn(Flux.empty()).when(a1ClientMock).deleteAllPolicies(anySet());
+        lenient().doReturn(Mono.just(List.of())).when(a1ClientMock).getPolicyIdentities();
+    }
+
+    private void simulateRicWithPolicies(String... policyIds) {
+        when(a1ClientMock.getPolicyIdentities()).thenReturn(Mono.just(List.of(policyIds)));
     }
 
     private void simulateRicWithOnePolicyType() {
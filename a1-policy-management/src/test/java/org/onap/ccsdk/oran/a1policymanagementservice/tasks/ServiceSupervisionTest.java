@@ -29,6 +29,8 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import java.time.Duration;
 import java.time.Instant;
 
@@ -40,6 +42,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.onap.ccsdk.oran.a1policymanagementservice.clients.A1Client;
 import org.onap.ccsdk.oran.a1policymanagementservice.clients.A1ClientFactory;
+import org.onap.ccsdk.oran.a1policymanagementservice.clients.PolicyStatusCache;
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.ApplicationConfig;
 import org.onap.ccsdk.oran.a1policymanagementservice.configuration.RicConfig;
 import org.onap.ccsdk.oran.a1policymanagementservice.repository.Policies;
@@ -66,6 +69,8 @@ class ServiceSupervisionTest {
     A1ClientFactory a1ClientFactoryMock;
     @Mock
     A1Client a1ClientMock;
+    @Mock
+    PolicyStatusCache policyStatusCacheMock;
 
     private Services services;
     private Service service;
@@ -90,6 +95,12 @@ class ServiceSupervisionTest {
             .statusNotificationUri("statusNotificationUri") //
             .build();
 
+    private ServiceSupervision createServiceSupervision() {
+        CascadeDeletion cascadeDeletion =
+                new CascadeDeletion(policies, a1ClientFactoryMock, policyStatusCacheMock, new SimpleMeterRegistry());
+        return new ServiceSupervision(services, policies, cascadeDeletion);
+    }
+
     @Test
     @DisplayName("test service Expired policy And Service Are Deleted In Repo And Policy Is Deleted In Ric")
     void serviceExpired_policyAndServiceAreDeletedInRepoAndPolicyIsDeletedInRic() {
@@ -97,9 +108,9 @@ class ServiceSupervisionTest {
 
         setUpCreationOfA1Client();
         when(a1ClientMock.deletePolicy(any(Policy.class))).thenReturn(Mono.just("Policy deleted"));
+        when(a1ClientMock.deletePolicies(any())).thenCallRealMethod();
 
-        ServiceSupervision serviceSupervisionUnderTest =
-                new ServiceSupervision(services, policies, a1ClientFactoryMock);
+        ServiceSupervision serviceSupervisionUnderTest = createServiceSupervision();
 
         await().atMost(Durations.FIVE_SECONDS).with().pollInterval(Durations.ONE_SECOND).until(service::isExpired);
 
@@ -108,6 +119,8 @@ class ServiceSupervisionTest {
         assertThat(policies.size()).isZero();
         assertThat(services.size()).isZero();
 
+        verify(a1ClientMock).deletePolicies(any());
+        verify(a1ClientMock).getMaxConcurrency();
         verify(a1ClientMock).deletePolicy(policy);
         verifyNoMoreInteractions(a1ClientMock);
     }
@@ -120,13 +133,13 @@ class ServiceSupervisionTest {
         setUpCreationOfA1Client();
         String originalErrorMessage = "Failed";
         when(a1ClientMock.deletePolicy(any(Policy.class))).thenReturn(Mono.error(new Exception(originalErrorMessage)));
+        when(a1ClientMock.deletePolicies(any())).thenCallRealMethod();
 
-        ServiceSupervision serviceSupervisionUnderTest =
-                new ServiceSupervision(services, policies, a1ClientFactoryMock);
+        ServiceSupervision serviceSupervisionUnderTest = createServiceSupervision();
 
         await().atMost(Durations.FIVE_SECONDS).with().pollInterval(Durations.ONE_SECOND).until(service::isExpired);
 
-        final ListAppender<ILoggingEvent> logAppender = LoggingUtils.getLogListAppender(ServiceSupervision.class, WARN);
+        final ListAppender<ILoggingEvent> logAppender = LoggingUtils.getLogListAppender(CascadeDeletion.class, WARN);
 
         serviceSupervisionUnderTest.checkAllServices().blockLast();
 
@@ -145,8 +158,7 @@ class ServiceSupervisionTest {
     void serviceNotExpired_shouldNotBeChecked() {
         setUpRepositoryWithKeepAliveInterval(Duration.ofSeconds(2));
 
-        ServiceSupervision serviceSupervisionUnderTest =
-                new ServiceSupervision(services, policies, a1ClientFactoryMock);
+        ServiceSupervision serviceSupervisionUnderTest = createServiceSupervision();
 
         serviceSupervisionUnderTest.checkAllServices().blockLast();
 
@@ -162,8 +174,7 @@ class ServiceSupervisionTest {
     void serviceWithoutKeepAliveInterval_shouldNotBeChecked() {
         setUpRepositoryWithKeepAliveInterval(Duration.ofSeconds(0));
 
-        ServiceSupervision serviceSupervisionUnderTest =
-                new ServiceSupervision(services, policies, a1ClientFactoryMock);
+        ServiceSupervision serviceSupervisionUnderTest = createServiceSupervision();
 
         serviceSupervisionUnderTest.checkAllServices().blockLast();
 
@@ -180,10 +191,10 @@ class ServiceSupervisionTest {
 
     private void setUpRepositoryWithKeepAliveInterval(Duration keepAliveInterval) {
         ApplicationConfig appConfig = new ApplicationConfig();
-        services = new Services(appConfig);
+        services = new Services(appConfig, new SimpleMeterRegistry());
         service = new Service(SERVICE_NAME, keepAliveInterval, "callbackUrl");
         services.put(service);
-        policies = new Policies(appConfig);
+        policies = new Policies(appConfig, new SimpleMeterRegistry());
         policies.put(policy);
     }
 }
@@ -0,0 +1,154 @@
+/*-
+ * ========================LICENSE_START=================================
+ * ONAP : ccsdk oran
+ * ======================================================================
+ * Copyright (C) 2026 OpenInfra Foundation Europe. All rights reserved.
+ * ======================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ========================LICENSE_END===================================
+ */
+
+package org.onap.ccsdk.oran.a1policymanagementservice.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.onap.ccsdk.oran.a1policymanagementservice.configuration.RicConfig;
+import org.onap.ccsdk.oran.a1policymanagementservice.repository.Ric;
+
+class SupervisionScheduleTest {
+
+    private static final Duration INTERVAL = Duration.ofSeconds(60);
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void testChecksAreSpreadOverInterval() {
+        SupervisionSchedule schedule = new SupervisionSchedule(INTERVAL, INTERVAL, 1000, meterRegistry);
+        List<Ric> rics = createRics(100);
+        assertThat(schedule.takeDue(rics, NOW)).isEmpty(); // The RICs are added to the schedule
+
+        List<Ric> dueInFirstHalf = schedule.takeDue(rics, NOW.plus(INTERVAL.dividedBy(2)));
+        assertThat(dueInFirstHalf.size()).isBetween(25, 75);
+
+        for (Ric ric : rics) {
+            assertThat(schedule.getNextCheck(ric.id())).isBetween(NOW, NOW.plus(INTERVAL));
+        }
+        assertThat(schedule.takeDue(rics, NOW.plus(INTERVAL))).hasSize(100 - dueInFirstHalf.size());
+    }
+
+    @Test
+    void testPhaseIsKeptAfterRestart() {
+        Ric ric = createRics(1).get(0);
+        SupervisionSchedule schedule = new SupervisionSchedule(INTERVAL, INTERVAL, 1000, meterRegistry);
+        schedule.takeDue(List.of(ric), NOW);
+        Instant firstCheck = schedule.getNextCheck(ric.id());
+
+        // Restarted at another time, the first check is done at the same offset in the interval
+        Instant restarted = NOW.plus(INTERVAL.multipliedBy(5)).plusSeconds(17);
+        SupervisionSchedule restartedSchedule = new SupervisionSchedule(INTERVAL, INTERVAL, 1000, meterRegistry);
+        restartedSchedule.takeDue(List.of(ric), restarted);
+        Instant nextCheck = restartedSchedule.getNextCheck(ric.id());
+
+        assertThat(nextCheck).isBetween(restarted, restarted.plus(INTERVAL));
+        assertThat(Duration.between(firstCheck, nextCheck).toMillis() % INTERVAL.toMillis()).isZero();
+    }
+
+    @Test
+    void testConcurrencyIsLimited() {
+        SupervisionSchedule schedule = new SupervisionSchedule(INTERVAL, INTERVAL, 2, meterRegistry);
+        List<Ric> rics = createRics(5);
+        Instant later = NOW.plus(INTERVAL);
+        schedule.takeDue(rics, NOW);
+
+        List<Ric> due = schedule.takeDue(rics, later);
+        assertThat(due).hasSize(2);
+        assertThat(schedule.takeDue(rics, later)).isEmpty();
+        assertThat(schedule.tryStart(due.get(0), later)).isFalse();
+
+        Instant completed = later.plusSeconds(2);
+        schedule.completed(due.get(0), later, completed, false);
+        assertThat(schedule.getInProgress()).isEqualTo(1);
+        assertThat(schedule.getNextCheck(due.get(0).id())) //
+                .isBetween(completed.plus(INTERVAL.multipliedBy(9).dividedBy(10)),
+                        completed.plus(INTERVAL.multipliedBy(11).dividedBy(10)));
+        assertThat(schedule.takeDue(rics, completed)).hasSize(1);
+    }
+
+    @Test
+    void testIntervalIsAdapted() {
+        Duration maxInterval = INTERVAL.multipliedBy(8);
+        SupervisionSchedule schedule = new SupervisionSchedule(INTERVAL, maxInterval, 10, meterRegistry);
+        Ric ric = createRics(1).get(0);
+
+        Instant now = NOW;
+        for (int i = 0; i < 5; ++i) {
+            assertThat(schedule.tryStart(ric, now)).isTrue();
+            schedule.completed(ric, now, now, true);
+            now = now.plus(INTERVAL);
+        }
+        assertThat(schedule.getInterval(ric.id())).isEqualTo(maxInterval);
+
+        // Errors on other traffic, the RIC is checked one min interval after the previous check
+        schedule.shorten(ric.id(), now);
+        assertThat(schedule.getInterval(ric.id())).isEqualTo(INTERVAL);
+        assertThat(schedule.getNextCheck(ric.id())).isEqualTo(now);
+
+        assertThat(schedule.tryStart(ric, now)).isTrue();
+        schedule.completed(ric, now, now, true);
+        assertThat(schedule.getInterval(ric.id())).isEqualTo(INTERVAL.multipliedBy(2));
+
+        // A failed check resets the interval
+        assertThat(schedule.tryStart(ric, now)).isTrue();
+        schedule.completed(ric, now, now, false);
+        assertThat(schedule.getInterval(ric.id())).isEqualTo(INTERVAL);
+        assertThat(meterRegistry.get(SupervisionSchedule.INTERVAL_GAUGE).tag("ric_id", ric.id()).gauge().value())
+                .isEqualTo(INTERVAL.getSeconds());
+    }
+
+    @Test
+    void testMetrics() {
+        SupervisionSchedule schedule = new SupervisionSchedule(INTERVAL, INTERVAL, 10, meterRegistry);
+        Ric ric = createRics(1).get(0);
+
+        assertThat(schedule.tryStart(ric, NOW)).isTrue();
+        schedule.completed(ric, NOW, NOW.plusMillis(1500), true);
+
+        assertThat(meterRegistry.get(SupervisionSchedule.LAST_CHECKED_GAUGE).tag("ric_id", ric.id()).gauge().value())
+                .isEqualTo(NOW.getEpochSecond() + 1.5);
+        assertThat(meterRegistry.get(SupervisionSchedule.CHECK_DURATION_TIMER).tag("ric_id", ric.id()).timer()
+                .count()).isEqualTo(1);
+
+        // A removed RIC is removed from the schedule
+        assertThat(schedule.takeDue(List.of(), NOW)).isEmpty();
+        assertThat(schedule.getNextCheck(ric.id())).isNull();
+        assertThat(meterRegistry.getMeters()).isEmpty();
+    }
+
+    private static List<Ric> createRics(int noOfRics) {
+        List<Ric> rics = new ArrayList<>();
+        for (int i = 0; i < noOfRics; ++i) {
+            rics.add(new Ric(RicConfig.builder().ricId("ric" + i).baseUrl("url").build()));
+        }
+        return rics;
+    }
+}
@@ -23,6 +23,8 @@ package org.onap.ccsdk.oran.a1policymanagementservice.utils;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.List;
@@ -59,7 +61,7 @@ public class MockA1Client implements A1Client {
         this.asynchDelay = asynchDelay;
         ApplicationConfig cfg = spy(appConfig);
         when(cfg.getVardataDirectory()).thenReturn(null);
-        this.policies = new Policies(cfg);
+        this.policies = new Policies(cfg, new SimpleMeterRegistry());
     }
 
     @Override
@@ -22,6 +22,8 @@ package org.onap.ccsdk.oran.a1policymanagementservice.utils;
 
 import static org.mockito.Mockito.spy;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import java.lang.invoke.MethodHandles;
 import java.time.Duration;
 import java.util.HashMap;
@@ -46,7 +48,7 @@ public class MockA1ClientFactory extends A1ClientFactory {
     private final ApplicationConfig appConfig;
 
     public MockA1ClientFactory(ApplicationConfig config, PolicyTypes policyTypes) {
-        super(config, new SecurityContext(""));
+        super(config, new SecurityContext(""), new SimpleMeterRegistry());
         this.policyTypes = policyTypes;
         this.appConfig = config;
     }
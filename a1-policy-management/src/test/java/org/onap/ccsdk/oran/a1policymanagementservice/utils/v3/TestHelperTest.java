@@ -46,6 +46,8 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -104,7 +106,8 @@ public class TestHelperTest {
                 .httpProxyConfig(config.getHttpProxyConfig())
                 .build();
 
-        AsyncRestClientFactory f = new AsyncRestClientFactory(config, new SecurityContext(""));
+        AsyncRestClientFactory f =
+                new AsyncRestClientFactory(config, new SecurityContext(""), new SimpleMeterRegistry());
         return f.createRestClientNoHttpProxy(baseUrl);
 
     }